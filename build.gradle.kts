@@ -2,6 +2,7 @@ plugins {
     java
     id("org.springframework.boot") version "3.4.1"
     id("io.spring.dependency-management") version "1.1.6"
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "com.study"
@@ -13,10 +14,18 @@ java {
     }
 }
 
+// 부하 테스트 (GitHub API simulator, load driver)
+sourceSets {
+    create("loadtest")
+}
+
 configurations {
     compileOnly {
         extendsFrom(annotationProcessor.get())
     }
+    named("loadtestImplementation") {
+        extendsFrom(implementation.get())
+    }
 }
 
 repositories {
@@ -27,6 +36,8 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-webflux")
     implementation("org.springframework.boot:spring-boot-starter-validation")
     implementation("org.springframework.boot:spring-boot-starter-actuator")
+    implementation("com.fasterxml.jackson.dataformat:jackson-dataformat-smile")
+    implementation("com.fasterxml.jackson.dataformat:jackson-dataformat-cbor")
     
     compileOnly("org.projectlombok:lombok:1.18.38")
     annotationProcessor("org.projectlombok:lombok:1.18.38")
@@ -39,3 +50,31 @@ dependencies {
 tasks.named<Test>("test") {
     useJUnitPlatform()
 }
+
+// ./gradlew jmh (결과: build/results/jmh/results.json)
+jmh {
+    jmhVersion = "1.37"
+    fork = 1
+    warmupIterations = 3
+    iterations = 5
+    profilers = listOf("gc") // 할당량(gc.alloc.rate.norm) 함께 측정
+    resultFormat = "JSON"
+}
+
+// ./gradlew simulator -Dsim.error-rate=0.02 (애플리케이션은 loadtest 프로필로 실행)
+tasks.register<JavaExec>("simulator") {
+    group = "load test"
+    description = "Runs the local GitHub API simulator"
+    classpath = sourceSets["loadtest"].runtimeClasspath
+    mainClass = "com.study.githubapi.loadtest.GitHubSimulator"
+    systemProperties(System.getProperties().filterKeys { it.toString().startsWith("sim.") }.mapKeys { it.key.toString() })
+}
+
+// ./gradlew loadDriver -Dload.concurrency=16 -Dload.duration-seconds=120
+tasks.register<JavaExec>("loadDriver") {
+    group = "load test"
+    description = "Drives /api/loc/* and reports throughput and latency percentiles"
+    classpath = sourceSets["loadtest"].runtimeClasspath
+    mainClass = "com.study.githubapi.loadtest.LoadDriver"
+    systemProperties(System.getProperties().filterKeys { it.toString().startsWith("load.") }.mapKeys { it.key.toString() })
+}
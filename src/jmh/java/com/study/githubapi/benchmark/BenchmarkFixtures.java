@@ -0,0 +1,157 @@
+package com.study.githubapi.benchmark;
+
+import com.study.githubapi.assistant.common.LocAggregationHelper;
+import com.study.githubapi.github.dto.ContributorStats;
+import com.study.githubapi.github.dto.GitHubRepository;
+import com.study.githubapi.github.stats.WeeklyContributionIndex;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * 벤치마크용 고정 seed 데이터
+ * 레포지토리별 기여자 수는 꼬리가 긴 분포(대부분 몇 명, 일부 레포지토리는 수백 명)를 따르고,
+ * 기여자는 10년(522주) 중 활동 구간 안에서만 드문드문 커밋한다.
+ */
+final class BenchmarkFixtures {
+
+    static final int WEEKS = 522;
+    static final long FIRST_WEEK = LocalDate.of(2015, 1, 4).atStartOfDay().toEpochSecond(ZoneOffset.UTC); // 일요일
+    static final long WEEK_SECONDS = 7 * 24 * 3600;
+    static final LocalDateTime LAST_WEEK_END = LocalDateTime.ofEpochSecond(FIRST_WEEK + WEEKS * WEEK_SECONDS, 0, ZoneOffset.UTC);
+
+    private static final int USER_POOL = 20_000;
+    private static final int MAX_CONTRIBUTORS = 2_000;
+    private static final double CONTRIBUTOR_TAIL = 1.2; // Pareto 지수 (작을수록 꼬리가 김)
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * 레포지토리 통계 목록 (기간은 마지막 rangeDays 일)
+     */
+    static List<LocAggregationHelper.RepositoryStats> repositoryStats(int repositories, int rangeDays, long seed) {
+        Random random = new Random(seed);
+        LocalDateTime from = LAST_WEEK_END.minusDays(rangeDays);
+        List<LocAggregationHelper.RepositoryStats> stats = new ArrayList<>(repositories);
+        for (int r = 0; r < repositories; r++) {
+            GitHubRepository repository = repository("repo-" + r);
+            List<ContributorStats> contributors = new ArrayList<>();
+            for (String login : logins(random, contributorCount(random))) {
+                contributors.add(contributor(random, login));
+            }
+            stats.add(new LocAggregationHelper.RepositoryStats(repository, contributors, from, LAST_WEEK_END));
+        }
+        return stats;
+    }
+
+    /**
+     * GitHub /stats/contributors 응답 본문 (활동이 없는 주도 포함한 522주 전체)
+     */
+    static byte[] contributorStatsJson(int contributors, long seed) {
+        Random random = new Random(seed);
+        StringBuilder json = new StringBuilder(contributors * WEEKS * 40);
+        json.append('[');
+        int index = 0;
+        for (String login : logins(random, contributors)) {
+            if (index++ > 0) {
+                json.append(',');
+            }
+            WeeklyContributionIndex weeks = weeks(random);
+            long total = 0;
+            for (int i = 0; i < weeks.size(); i++) {
+                total += weeks.commits(i);
+            }
+            json.append("{\"total\":").append(total)
+                    .append(",\"author\":{\"login\":\"").append(login)
+                    .append("\",\"id\":").append(login.hashCode() & Integer.MAX_VALUE)
+                    .append(",\"avatar_url\":\"https://avatars.githubusercontent.com/u/1?v=4\"")
+                    .append(",\"html_url\":\"https://github.com/").append(login)
+                    .append("\",\"type\":\"User\",\"site_admin\":false},\"weeks\":[");
+            int active = 0;
+            for (int week = 0; week < WEEKS; week++) {
+                long weekStart = FIRST_WEEK + week * WEEK_SECONDS;
+                boolean hasActivity = active < weeks.size() && weeks.weekStart(active) == weekStart;
+                if (week > 0) {
+                    json.append(',');
+                }
+                json.append("{\"w\":").append(weekStart)
+                        .append(",\"a\":").append(hasActivity ? weeks.additions(active) : 0)
+                        .append(",\"d\":").append(hasActivity ? weeks.deletions(active) : 0)
+                        .append(",\"c\":").append(hasActivity ? weeks.commits(active) : 0)
+                        .append('}');
+                if (hasActivity) {
+                    active++;
+                }
+            }
+            json.append("]}");
+        }
+        json.append(']');
+        return json.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static int contributorCount(Random random) {
+        double pareto = 1 / Math.pow(1 - random.nextDouble(), 1 / CONTRIBUTOR_TAIL);
+        return (int) Math.min(MAX_CONTRIBUTORS, Math.floor(pareto));
+    }
+
+    /**
+     * 중복 없는 login 목록 (앞쪽 사용자일수록 여러 레포지토리에 등장)
+     */
+    private static Set<String> logins(Random random, int count) {
+        Set<String> logins = new HashSet<>();
+        while (logins.size() < Math.min(count, USER_POOL)) {
+            logins.add("user-" + (int) (USER_POOL * Math.pow(random.nextDouble(), 3)));
+        }
+        return logins;
+    }
+
+    private static ContributorStats contributor(Random random, String login) {
+        ContributorStats.Author author = new ContributorStats.Author();
+        author.setLogin(login);
+        author.setAvatarUrl("https://avatars.githubusercontent.com/u/1?v=4");
+        author.setHtmlUrl("https://github.com/" + login);
+
+        ContributorStats stats = new ContributorStats();
+        stats.setAuthor(author);
+        stats.setWeeks(weeks(random));
+        return stats;
+    }
+
+    /**
+     * 활동 구간(임의 시작/길이) 안에서 주마다 일정 확률로 활동
+     */
+    private static WeeklyContributionIndex weeks(Random random) {
+        int start = random.nextInt(WEEKS);
+        int length = 1 + random.nextInt(WEEKS - start);
+        double activity = 0.05 + 0.5 * random.nextDouble();
+        WeeklyContributionIndex.Builder builder = WeeklyContributionIndex.builder();
+        for (int week = start; week < start + length; week++) {
+            if (random.nextDouble() < activity) {
+                long additions = (long) Math.exp(3 + 1.5 * random.nextGaussian());
+                long deletions = (long) (additions * random.nextDouble());
+                builder.add(FIRST_WEEK + week * WEEK_SECONDS, additions, deletions, 1 + random.nextInt(10));
+            }
+        }
+        return builder.build();
+    }
+
+    private static GitHubRepository repository(String name) {
+        GitHubRepository.Owner owner = new GitHubRepository.Owner();
+        owner.setLogin("acme");
+
+        GitHubRepository repository = new GitHubRepository();
+        repository.setName(name);
+        repository.setFullName("acme/" + name);
+        repository.setCloneUrl("https://github.com/acme/" + name + ".git");
+        repository.setOwner(owner);
+        return repository;
+    }
+}
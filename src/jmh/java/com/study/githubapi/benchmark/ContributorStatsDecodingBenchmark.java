@@ -0,0 +1,64 @@
+package com.study.githubapi.benchmark;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.githubapi.github.client.ContributorStatsStreamDecoder;
+import com.study.githubapi.github.dto.ContributorStats;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * /stats/contributors 응답 디코딩
+ * jackson: 응답 전체를 모은 뒤 ObjectMapper 로 디코딩, streaming: 네트워크 버퍼 크기(8KB) 단위로 받으며 디코딩
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ContributorStatsDecodingBenchmark {
+
+    private static final int CHUNK_SIZE = 8 * 1024;
+
+    @Param({"5", "200", "2000"})
+    private int contributors;
+
+    private byte[] json;
+    private byte[][] chunks;
+    private ObjectMapper objectMapper;
+    private JavaType listType;
+
+    @Setup
+    public void setUp() {
+        json = BenchmarkFixtures.contributorStatsJson(contributors, 7);
+        chunks = new byte[(json.length + CHUNK_SIZE - 1) / CHUNK_SIZE][];
+        for (int i = 0; i < chunks.length; i++) {
+            chunks[i] = Arrays.copyOfRange(json, i * CHUNK_SIZE, Math.min(json.length, (i + 1) * CHUNK_SIZE));
+        }
+        objectMapper = new ObjectMapper();
+        listType = objectMapper.getTypeFactory().constructCollectionType(List.class, ContributorStats.class);
+    }
+
+    @Benchmark
+    public List<ContributorStats> jackson() throws IOException {
+        return objectMapper.readValue(json, listType);
+    }
+
+    @Benchmark
+    public List<ContributorStats> streaming() {
+        Flux<DataBuffer> body = Flux.fromArray(chunks).map(DefaultDataBufferFactory.sharedInstance::wrap);
+        return ContributorStatsStreamDecoder.decode(body).collectList().block();
+    }
+}
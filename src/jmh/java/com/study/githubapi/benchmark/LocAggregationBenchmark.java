@@ -0,0 +1,84 @@
+package com.study.githubapi.benchmark;
+
+import com.study.githubapi.assistant.common.AggregationMetrics;
+import com.study.githubapi.assistant.common.LocAccumulator;
+import com.study.githubapi.assistant.common.LocAggregationHelper;
+import com.study.githubapi.assistant.common.dto.LocSummaryOnlyResponse;
+import com.study.githubapi.assistant.common.dto.LocSummaryResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 레포지토리 통계를 사용자별 합계로 누적하는 경로와 응답 생성 경로
+ * fold*: 레포지토리별 기간 합계 계산 + 누적 (Reactor 없이), accumulateReactive: 실제 서비스가 쓰는 reduce 경로
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class LocAggregationBenchmark {
+
+    @Param({"10000"})
+    private int repositories;
+
+    @Param({"365", "3650"})
+    private int rangeDays;
+
+    private LocAggregationHelper helper;
+    private List<LocAggregationHelper.RepositoryStats> stats;
+    private LocAccumulator summaryAccumulator;
+    private LocAccumulator detailedAccumulator;
+    private LocalDateTime from;
+
+    @Setup
+    public void setUp() {
+        helper = new LocAggregationHelper(null, null, null, new AggregationMetrics(new SimpleMeterRegistry()));
+        stats = BenchmarkFixtures.repositoryStats(repositories, rangeDays, 42);
+        from = BenchmarkFixtures.LAST_WEEK_END.minusDays(rangeDays);
+        summaryAccumulator = fold(new LocAccumulator(false));
+        detailedAccumulator = fold(new LocAccumulator(true));
+    }
+
+    @Benchmark
+    public LocAccumulator foldSummary() {
+        return fold(new LocAccumulator(false));
+    }
+
+    @Benchmark
+    public LocAccumulator foldDetailed() {
+        return fold(new LocAccumulator(true));
+    }
+
+    @Benchmark
+    public LocAccumulator accumulateReactive() {
+        return helper.accumulate(Flux.fromIterable(stats), new LocAccumulator(false)).block();
+    }
+
+    @Benchmark
+    public LocSummaryResponse buildLocSummaryResponse() {
+        return helper.buildLocSummaryResponse("acme", from, BenchmarkFixtures.LAST_WEEK_END, false, false, detailedAccumulator);
+    }
+
+    @Benchmark
+    public LocSummaryOnlyResponse buildLocSummaryOnlyResponse() {
+        return helper.buildLocSummaryOnlyResponse("acme", from, BenchmarkFixtures.LAST_WEEK_END, false, false, summaryAccumulator);
+    }
+
+    private LocAccumulator fold(LocAccumulator accumulator) {
+        for (LocAggregationHelper.RepositoryStats repoStats : stats) {
+            accumulator.add(helper.calculateRepositoryContributions(repoStats));
+        }
+        return accumulator;
+    }
+}
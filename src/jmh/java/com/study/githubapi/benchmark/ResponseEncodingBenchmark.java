@@ -0,0 +1,108 @@
+package com.study.githubapi.benchmark;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.study.githubapi.assistant.common.AggregationMetrics;
+import com.study.githubapi.assistant.common.LocAccumulator;
+import com.study.githubapi.assistant.common.LocAggregationHelper;
+import com.study.githubapi.assistant.common.config.ResponseCodecConfig;
+import com.study.githubapi.assistant.common.dto.LocSummaryResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.runner.IterationType;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상세 응답(LocSummaryResponse) 인코딩 시간과 크기 비교 (JSON / Smile / CBOR)
+ * 크기는 보조 지표 encodedBytes 로 JMH 결과(build/results/jmh/results.json)에 함께 기록한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ResponseEncodingBenchmark {
+
+    @Param({"1000", "10000"})
+    private int repositories;
+
+    @Param({"json", "smile", "cbor"})
+    private String format;
+
+    private ObjectMapper mapper;
+    private LocSummaryResponse response;
+
+    @Setup
+    public void setUp() throws IOException {
+        // application.yml 의 spring.jackson 설정과 같은 JSON ObjectMapper
+        ObjectMapper json = JsonMapper.builder()
+                .propertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
+                .serializationInclusion(JsonInclude.Include.NON_NULL)
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        mapper = switch (format) {
+            case "smile" -> ResponseCodecConfig.smileMapper(json);
+            case "cbor" -> ResponseCodecConfig.cborMapper(json);
+            default -> json;
+        };
+
+        LocAggregationHelper helper = new LocAggregationHelper(null, null, null, new AggregationMetrics(new SimpleMeterRegistry()));
+        List<LocAggregationHelper.RepositoryStats> stats = BenchmarkFixtures.repositoryStats(repositories, 3650, 42);
+        LocAccumulator accumulator = new LocAccumulator(true);
+        for (LocAggregationHelper.RepositoryStats repoStats : stats) {
+            accumulator.add(helper.calculateRepositoryContributions(repoStats));
+        }
+        LocalDateTime from = BenchmarkFixtures.LAST_WEEK_END.minusDays(3650);
+        response = helper.buildLocSummaryResponse("acme", from, BenchmarkFixtures.LAST_WEEK_END, false, false, accumulator);
+    }
+
+    @Benchmark
+    public byte[] encode(EncodedSize size) throws IOException {
+        byte[] encoded = mapper.writeValueAsBytes(response);
+        size.record(encoded);
+        return encoded;
+    }
+
+    /**
+     * 인코딩된 응답 크기 (바이트 수는 반복해도 같음)
+     * EVENTS 카운터는 측정 반복 값을 합산해 보고하므로, 첫 측정 반복에서만 기록해 응답 1개의 크기가 되게 한다 (fork 당 1회).
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class EncodedSize {
+        public long encodedBytes;
+
+        private boolean recorded;
+        private boolean recording;
+
+        @Setup(Level.Iteration)
+        public void startIteration(IterationParams iteration) {
+            encodedBytes = 0;
+            recording = !recorded && iteration.getType() == IterationType.MEASUREMENT;
+            recorded |= recording;
+        }
+
+        void record(byte[] encoded) {
+            if (recording) {
+                encodedBytes = encoded.length;
+            }
+        }
+    }
+}
@@ -0,0 +1,335 @@
+package com.study.githubapi.loadtest;
+
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.QueryStringDecoder;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.http.server.HttpServerRequest;
+import reactor.netty.http.server.HttpServerResponse;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 부하 테스트용 로컬 GitHub API simulator
+ * /orgs/{org}/repos, /users/{user}/repos, /repos/{owner}/{repo}/stats/contributors, /rate_limit 을 흉내 낸다.
+ *
+ * 데이터는 owner/repo 이름으로 결정되므로 같은 요청에는 항상 같은 응답을 준다.
+ * 응답 지연(log-normal), 통계 생성 중 202 응답, 토큰별 X-RateLimit-* 헤더와 예산 소진 시 403,
+ * secondary rate limit(403 + Retry-After), 5xx 응답을 -Dsim.* 설정으로 조절할 수 있다.
+ *
+ * 실행: ./gradlew simulator -Dsim.port=8089 -Dsim.error-rate=0.02
+ */
+public final class GitHubSimulator {
+
+    private static final String ANONYMOUS = "anonymous";
+    private static final long FIRST_WEEK = Instant.parse("2022-01-02T00:00:00Z").getEpochSecond();
+    private static final long WEEK_SECONDS = 7 * 24 * 3600;
+
+    private final Settings settings;
+    private final Map<String, String> statsBodies = new ConcurrentHashMap<>();
+    private final Map<String, Long> warmupUntil = new ConcurrentHashMap<>();
+    private final Map<String, TokenBudget> budgets = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> responses = new ConcurrentHashMap<>();
+
+    public GitHubSimulator(Settings settings) {
+        this.settings = settings;
+    }
+
+    public static void main(String[] args) {
+        GitHubSimulator simulator = new GitHubSimulator(Settings.fromSystemProperties());
+        DisposableServer server = simulator.start();
+        System.out.printf("GitHub simulator listening on http://localhost:%d (%s)%n", server.port(), simulator.settings);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> System.out.println("Responses by status: " + simulator.responseCounts())));
+        server.onDispose().block();
+    }
+
+    public DisposableServer start() {
+        return HttpServer.create()
+                .port(settings.port())
+                .route(routes -> routes
+                        .get("/orgs/{owner}/repos", (request, response) ->
+                                handle(request, response, true, () -> repositories(request, settings.organizationRepositories())))
+                        .get("/users/{owner}/repos", (request, response) ->
+                                handle(request, response, true, () -> repositories(request, settings.userRepositories())))
+                        .get("/repos/{owner}/{repo}/stats/contributors", (request, response) ->
+                                handle(request, response, true, () -> contributorStats(request.param("owner") + "/" + request.param("repo"))))
+                        .get("/rate_limit", (request, response) ->
+                                handle(request, response, false, () -> rateLimit(request))))
+                .bindNow();
+    }
+
+    public Map<String, Long> responseCounts() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        responses.forEach((status, count) -> counts.put(status, count.get()));
+        return counts;
+    }
+
+    /**
+     * 지연 → 장애 주입 → rate limit 예산 차감 → 응답 순으로 처리
+     */
+    private Publisher<Void> handle(HttpServerRequest request, HttpServerResponse response, boolean consumesBudget,
+                                   Supplier<Reply> handler) {
+        return Mono.delay(latency())
+                .map(tick -> {
+                    TokenBudget budget = budgets.computeIfAbsent(tokenOf(request), this::newBudget);
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    if (random.nextDouble() < settings.errorRate()) {
+                        return Reply.json(HttpResponseStatus.BAD_GATEWAY, "{\"message\":\"Server Error\"}");
+                    }
+                    if (consumesBudget && random.nextDouble() < settings.secondaryRateLimitRate()) {
+                        return budget.headers(Reply.json(HttpResponseStatus.FORBIDDEN,
+                                        "{\"message\":\"You have exceeded a secondary rate limit.\"}"))
+                                .header("Retry-After", String.valueOf(settings.secondaryRetryAfter().toSeconds()));
+                    }
+                    if (consumesBudget && !budget.tryConsume()) {
+                        return budget.headers(Reply.json(HttpResponseStatus.FORBIDDEN,
+                                "{\"message\":\"API rate limit exceeded.\"}"));
+                    }
+                    return budget.headers(handler.get());
+                })
+                .flatMap(reply -> {
+                    responses.computeIfAbsent(String.valueOf(reply.status.code()), k -> new AtomicLong()).incrementAndGet();
+                    response.status(reply.status);
+                    reply.headers.forEach(response::header);
+                    return response.sendString(Mono.just(reply.body)).then();
+                });
+    }
+
+    private Reply repositories(HttpServerRequest request, int total) {
+        String owner = request.param("owner");
+        QueryStringDecoder query = new QueryStringDecoder(request.uri());
+        int page = intParam(query, "page", 1);
+        int perPage = intParam(query, "per_page", 30);
+        int lastPage = Math.max(1, (total + perPage - 1) / perPage);
+
+        StringBuilder body = new StringBuilder("[");
+        for (int i = (page - 1) * perPage; i < Math.min(total, page * perPage); i++) {
+            if (body.length() > 1) {
+                body.append(',');
+            }
+            String name = "repo-" + i;
+            long pushedAt = FIRST_WEEK + Math.floorMod((owner + "/" + name).hashCode(), settings.weeks()) * WEEK_SECONDS;
+            body.append("{\"id\":").append(Math.abs((long) (owner + "/" + name).hashCode()))
+                    .append(",\"name\":\"").append(name)
+                    .append("\",\"full_name\":\"").append(owner).append('/').append(name)
+                    .append("\",\"fork\":").append(i % 10 == 9)
+                    .append(",\"archived\":").append(i % 15 == 14)
+                    .append(",\"disabled\":false")
+                    .append(",\"pushed_at\":\"").append(Instant.ofEpochSecond(pushedAt))
+                    .append("\",\"clone_url\":\"https://github.com/").append(owner).append('/').append(name).append(".git")
+                    .append("\",\"default_branch\":\"main\"")
+                    .append(",\"owner\":{\"login\":\"").append(owner).append("\",\"type\":\"Organization\"}}");
+        }
+        body.append(']');
+
+        Reply reply = Reply.json(HttpResponseStatus.OK, body.toString());
+        String base = "http://localhost:" + settings.port() + request.path().replaceFirst("^/?", "/") + "?per_page=" + perPage + "&page=";
+        StringBuilder link = new StringBuilder();
+        if (page < lastPage) {
+            link.append('<').append(base).append(page + 1).append(">; rel=\"next\", ");
+            link.append('<').append(base).append(lastPage).append(">; rel=\"last\"");
+        }
+        return link.isEmpty() ? reply : reply.header("Link", link.toString());
+    }
+
+    /**
+     * 처음 요청된 레포지토리는 warmup-ratio 확률로 warmup 동안 202 Accepted 를 반환
+     */
+    private Reply contributorStats(String repository) {
+        long now = System.currentTimeMillis();
+        long readyAt = warmupUntil.computeIfAbsent(repository, k ->
+                ThreadLocalRandom.current().nextDouble() < settings.warmupRatio() ? now + settings.warmup().toMillis() : 0L);
+        if (now < readyAt) {
+            return new Reply(HttpResponseStatus.ACCEPTED, new LinkedHashMap<>(), "{}");
+        }
+        return Reply.json(HttpResponseStatus.OK, statsBodies.computeIfAbsent(repository, this::statsBody));
+    }
+
+    /**
+     * 기여자 수는 꼬리가 긴 분포, 주간 통계는 활동이 없는 주도 포함 (GitHub 응답과 같은 형태)
+     */
+    private String statsBody(String repository) {
+        Random random = new Random(repository.hashCode());
+        int contributors = (int) Math.min(settings.maxContributors(), Math.floor(1 / Math.pow(1 - random.nextDouble(), 1 / 1.2)));
+        StringBuilder body = new StringBuilder("[");
+        for (int c = 0; c < contributors; c++) {
+            if (c > 0) {
+                body.append(',');
+            }
+            String login = "user-" + (int) (settings.userPool() * Math.pow(random.nextDouble(), 3));
+            double activity = 0.05 + 0.4 * random.nextDouble();
+            StringBuilder weeks = new StringBuilder();
+            long total = 0;
+            for (int w = 0; w < settings.weeks(); w++) {
+                long additions = 0;
+                long deletions = 0;
+                long commits = 0;
+                if (random.nextDouble() < activity) {
+                    additions = (long) Math.exp(3 + 1.5 * random.nextGaussian());
+                    deletions = (long) (additions * random.nextDouble());
+                    commits = 1 + random.nextInt(10);
+                    total += commits;
+                }
+                if (w > 0) {
+                    weeks.append(',');
+                }
+                weeks.append("{\"w\":").append(FIRST_WEEK + w * WEEK_SECONDS)
+                        .append(",\"a\":").append(additions)
+                        .append(",\"d\":").append(deletions)
+                        .append(",\"c\":").append(commits).append('}');
+            }
+            body.append("{\"total\":").append(total)
+                    .append(",\"author\":{\"login\":\"").append(login)
+                    .append("\",\"id\":").append(login.hashCode() & Integer.MAX_VALUE)
+                    .append(",\"avatar_url\":\"https://avatars.githubusercontent.com/u/1\"")
+                    .append(",\"html_url\":\"https://github.com/").append(login)
+                    .append("\",\"type\":\"User\"},\"weeks\":[").append(weeks).append("]}");
+        }
+        return body.append(']').toString();
+    }
+
+    private Reply rateLimit(HttpServerRequest request) {
+        TokenBudget budget = budgets.computeIfAbsent(tokenOf(request), this::newBudget);
+        String core = budget.json();
+        return Reply.json(HttpResponseStatus.OK, "{\"resources\":{\"core\":" + core + "},\"rate\":" + core + "}");
+    }
+
+    private Duration latency() {
+        // log-normal: 대부분 median 근처, 일부 요청만 길게 늘어짐
+        double millis = settings.latency().toMillis() * Math.exp(settings.latencySigma() * ThreadLocalRandom.current().nextGaussian());
+        return Duration.ofMillis(Math.max(0, Math.round(millis)));
+    }
+
+    private TokenBudget newBudget(String token) {
+        return new TokenBudget(ANONYMOUS.equals(token) ? 60 : settings.rateLimit(), settings.rateLimitWindow());
+    }
+
+    private static String tokenOf(HttpServerRequest request) {
+        String authorization = request.requestHeaders().get("Authorization");
+        return authorization == null ? ANONYMOUS : authorization;
+    }
+
+    private static int intParam(QueryStringDecoder query, String name, int defaultValue) {
+        List<String> values = query.parameters().get(name);
+        return values == null || values.isEmpty() ? defaultValue : Integer.parseInt(values.get(0));
+    }
+
+    /**
+     * 응답 1건
+     */
+    private record Reply(HttpResponseStatus status, Map<String, String> headers, String body) {
+        static Reply json(HttpResponseStatus status, String body) {
+            Map<String, String> headers = new LinkedHashMap<>();
+            headers.put("Content-Type", "application/json; charset=utf-8");
+            return new Reply(status, headers, body);
+        }
+
+        Reply header(String name, String value) {
+            headers.put(name, value);
+            return this;
+        }
+    }
+
+    /**
+     * 토큰 1개의 고정 윈도우 예산
+     */
+    private static final class TokenBudget {
+        private final long limit;
+        private final Duration window;
+        private long used;
+        private long resetAt;
+
+        private TokenBudget(long limit, Duration window) {
+            this.limit = limit;
+            this.window = window;
+            this.resetAt = Instant.now().plus(window).getEpochSecond();
+        }
+
+        synchronized boolean tryConsume() {
+            roll();
+            if (used >= limit) {
+                return false;
+            }
+            used++;
+            return true;
+        }
+
+        synchronized Reply headers(Reply reply) {
+            roll();
+            return reply.header("X-RateLimit-Limit", String.valueOf(limit))
+                    .header("X-RateLimit-Remaining", String.valueOf(limit - used))
+                    .header("X-RateLimit-Used", String.valueOf(used))
+                    .header("X-RateLimit-Reset", String.valueOf(resetAt))
+                    .header("X-RateLimit-Resource", "core");
+        }
+
+        synchronized String json() {
+            roll();
+            return "{\"limit\":" + limit + ",\"remaining\":" + (limit - used) + ",\"used\":" + used + ",\"reset\":" + resetAt + "}";
+        }
+
+        private void roll() {
+            long now = Instant.now().getEpochSecond();
+            if (now >= resetAt) {
+                used = 0;
+                resetAt = now + window.toSeconds();
+            }
+        }
+    }
+
+    /**
+     * simulator 설정 (-Dsim.*)
+     */
+    public record Settings(
+            int port,
+            int organizationRepositories,
+            int userRepositories,
+            int weeks,
+            int maxContributors,
+            int userPool,
+            Duration latency,
+            double latencySigma,
+            double warmupRatio,
+            Duration warmup,
+            double errorRate,
+            double secondaryRateLimitRate,
+            Duration secondaryRetryAfter,
+            int rateLimit,
+            Duration rateLimitWindow) {
+
+        public static Settings fromSystemProperties() {
+            return new Settings(
+                    Integer.getInteger("sim.port", 8089),
+                    Integer.getInteger("sim.org-repositories", 300),
+                    Integer.getInteger("sim.user-repositories", 40),
+                    Integer.getInteger("sim.weeks", 156),
+                    Integer.getInteger("sim.max-contributors", 500),
+                    Integer.getInteger("sim.user-pool", 2000),
+                    Duration.ofMillis(Long.getLong("sim.latency-ms", 80)),
+                    doubleProperty("sim.latency-sigma", 0.5),
+                    doubleProperty("sim.warmup-ratio", 0.3),
+                    Duration.ofMillis(Long.getLong("sim.warmup-ms", 3000)),
+                    doubleProperty("sim.error-rate", 0.01),
+                    doubleProperty("sim.secondary-rate-limit-rate", 0.0),
+                    Duration.ofSeconds(Long.getLong("sim.secondary-retry-after-seconds", 1)),
+                    Integer.getInteger("sim.rate-limit", 5000),
+                    Duration.ofSeconds(Long.getLong("sim.rate-limit-window-seconds", 3600)));
+        }
+
+        private static double doubleProperty(String name, double defaultValue) {
+            String value = System.getProperty(name);
+            return value == null ? defaultValue : Double.parseDouble(value);
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.study.githubapi.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * /api/loc/* 엔드포인트 부하 측정기 (closed loop)
+ * concurrency 개의 가상 사용자가 응답을 받는 즉시 다음 요청을 보내며, warmup 이후 구간의 처리량과 p50/p90/p99 지연을 경로별로 출력한다.
+ * 종료 후 애플리케이션의 /actuator/metrics 에서 GitHub 호출 지표(재시도, 202, 403, 누락)를 함께 출력해
+ * 파이프라인 설정(동시성, 재시도 정책)별 결과를 비교할 수 있다.
+ *
+ * 실행: ./gradlew loadDriver -Dload.concurrency=16 -Dload.duration-seconds=120
+ */
+public final class LoadDriver {
+
+    private static final List<String> APPLICATION_METRICS = List.of(
+            "github.client.requests",
+            "github.client.retries",
+            "github.client.stats.accepted",
+            "github.client.forbidden",
+            "github.client.dropped",
+            "github.client.rate_limit.wait");
+
+    private final Settings settings;
+    private final HttpClient client;
+    private final Map<String, PathStats> stats = new ConcurrentHashMap<>();
+
+    public LoadDriver(Settings settings) {
+        this.settings = settings;
+        this.client = HttpClient.create()
+                .baseUrl(settings.baseUrl())
+                .responseTimeout(settings.requestTimeout());
+    }
+
+    public static void main(String[] args) {
+        LoadDriver driver = new LoadDriver(Settings.fromSystemProperties());
+        driver.run();
+        driver.report();
+        driver.reportApplicationMetrics();
+    }
+
+    public void run() {
+        long startedAt = System.nanoTime();
+        long measureFrom = startedAt + settings.warmup().toNanos();
+        long deadline = measureFrom + settings.duration().toNanos();
+        System.out.printf("Driving %s with %d virtual users (warmup %ss, measure %ss)%n",
+                settings.baseUrl(), settings.concurrency(), settings.warmup().toSeconds(), settings.duration().toSeconds());
+
+        Flux.range(0, settings.concurrency())
+                .flatMap(user -> {
+                    AtomicLong iteration = new AtomicLong(user);
+                    return Mono.defer(() -> {
+                                String path = settings.paths().get((int) (iteration.getAndIncrement() % settings.paths().size()));
+                                return call(path, measureFrom);
+                            })
+                            .repeat(() -> System.nanoTime() < deadline);
+                }, settings.concurrency())
+                .blockLast();
+    }
+
+    private Mono<Void> call(String path, long measureFrom) {
+        long start = System.nanoTime();
+        return client.get()
+                .uri(path)
+                .responseSingle((response, body) -> body.asByteArray()
+                        .map(bytes -> response.status().code())
+                        .defaultIfEmpty(response.status().code()))
+                .onErrorReturn(-1)
+                .doOnNext(status -> {
+                    if (start >= measureFrom) {
+                        stats.computeIfAbsent(path, k -> new PathStats()).record(status, System.nanoTime() - start);
+                    }
+                })
+                .then();
+    }
+
+    public void report() {
+        System.out.printf("%n%-70s %8s %8s %9s %9s %9s %9s %9s%n", "path", "requests", "errors", "req/s", "p50(ms)", "p90(ms)", "p99(ms)", "max(ms)");
+        stats.forEach((path, pathStats) -> {
+            long[] latencies = pathStats.sortedLatencies();
+            System.out.printf("%-70s %8d %8d %9.2f %9.1f %9.1f %9.1f %9.1f%n",
+                    abbreviate(path), latencies.length, pathStats.errors.get(),
+                    latencies.length / (double) settings.duration().toSeconds(),
+                    percentile(latencies, 0.50), percentile(latencies, 0.90), percentile(latencies, 0.99),
+                    percentile(latencies, 1.0));
+            System.out.printf("%-70s status counts: %s%n", "", pathStats.statuses);
+        });
+    }
+
+    /**
+     * 애플리케이션의 GitHub 호출 지표 출력 (actuator 가 노출되지 않았으면 건너뜀)
+     */
+    public void reportApplicationMetrics() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        System.out.println();
+        for (String metric : APPLICATION_METRICS) {
+            String body = client.get()
+                    .uri("/actuator/metrics/" + metric)
+                    .responseSingle((response, content) -> response.status().code() == 200 ? content.asString() : Mono.<String>empty())
+                    .onErrorResume(error -> Mono.empty())
+                    .block();
+            if (body == null) {
+                System.out.printf("%-32s (not available)%n", metric);
+                continue;
+            }
+            try {
+                List<String> measurements = new ArrayList<>();
+                for (JsonNode measurement : objectMapper.readTree(body).path("measurements")) {
+                    measurements.add(measurement.path("statistic").asText() + "=" + measurement.path("value").asText());
+                }
+                System.out.printf("%-32s %s%n", metric, String.join(", ", measurements));
+            } catch (Exception e) {
+                System.out.printf("%-32s (unreadable: %s)%n", metric, e.getMessage());
+            }
+        }
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))] / 1_000_000.0;
+    }
+
+    private static String abbreviate(String path) {
+        return path.length() <= 70 ? path : path.substring(0, 67) + "...";
+    }
+
+    /**
+     * 경로 1개의 측정값
+     */
+    private static final class PathStats {
+        private final Map<Integer, AtomicLong> statuses = new ConcurrentHashMap<>();
+        private final AtomicLong errors = new AtomicLong();
+        private long[] latencies = new long[1024];
+        private int size;
+
+        synchronized void record(int status, long latencyNanos) {
+            if (size == latencies.length) {
+                latencies = Arrays.copyOf(latencies, size * 2);
+            }
+            latencies[size++] = latencyNanos;
+            statuses.computeIfAbsent(status, k -> new AtomicLong()).incrementAndGet();
+            if (status < 200 || status >= 300) {
+                errors.incrementAndGet();
+            }
+        }
+
+        synchronized long[] sortedLatencies() {
+            long[] sorted = Arrays.copyOf(latencies, size);
+            Arrays.sort(sorted);
+            return sorted;
+        }
+    }
+
+    /**
+     * 부하 설정 (-Dload.*)
+     * paths 는 ';' 로 구분하며, 가상 사용자마다 순서대로 돌아가며 요청한다.
+     */
+    public record Settings(
+            String baseUrl,
+            List<String> paths,
+            int concurrency,
+            Duration warmup,
+            Duration duration,
+            Duration requestTimeout) {
+
+        private static final String DEFAULT_PATHS = String.join(";",
+                "/api/loc/repository/sim-org?from=2022-01-01T00:00:00&to=2024-12-31T23:59:59",
+                "/api/loc/repository/sim-org/detailed?from=2024-01-01T00:00:00&to=2024-12-31T23:59:59",
+                "/api/loc/repository/sim-org/user/user-1?from=2022-01-01T00:00:00&to=2024-12-31T23:59:59",
+                "/api/loc/user/sim-user?from=2022-01-01T00:00:00&to=2024-12-31T23:59:59");
+
+        public static Settings fromSystemProperties() {
+            return new Settings(
+                    System.getProperty("load.base-url", "http://localhost:8080"),
+                    Arrays.stream(System.getProperty("load.paths", DEFAULT_PATHS).split(";"))
+                            .map(String::trim)
+                            .filter(path -> !path.isEmpty())
+                            .toList(),
+                    Integer.getInteger("load.concurrency", 8),
+                    Duration.ofSeconds(Long.getLong("load.warmup-seconds", 15)),
+                    Duration.ofSeconds(Long.getLong("load.duration-seconds", 60)),
+                    Duration.ofSeconds(Long.getLong("load.request-timeout-seconds", 300)));
+        }
+    }
+}
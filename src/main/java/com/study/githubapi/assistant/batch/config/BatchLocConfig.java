@@ -0,0 +1,16 @@
+package com.study.githubapi.assistant.batch.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "assistant.batch")
+@Data
+public class BatchLocConfig {
+    private int maxTargets = 50; // 요청 1건의 최대 조직 + 사용자 수
+    private int listingConcurrency = 4; // 동시에 레포지토리 목록을 조회할 조직/사용자 수
+    private int statsConcurrency = 32; // 배치 전체에서 동시에 보내는 기여자 통계 요청 수
+    private int maxRequests = 5000; // 배치 1건에서 사용할 수 있는 최대 요청 수
+    private double budgetRatio = 0.5; // 시작 시점에 남은 rate limit 예산 중 사용할 수 있는 비율
+}
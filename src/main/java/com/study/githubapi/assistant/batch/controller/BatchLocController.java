@@ -0,0 +1,63 @@
+package com.study.githubapi.assistant.batch.controller;
+
+import com.study.githubapi.assistant.batch.dto.BatchLocResponse;
+import com.study.githubapi.assistant.batch.service.BatchLocService;
+import com.study.githubapi.assistant.common.AggregationMetrics;
+import com.study.githubapi.assistant.common.exception.GlobalExceptionHandler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/loc/batch")
+@RequiredArgsConstructor
+public class BatchLocController {
+
+    private final BatchLocService batchLocService;
+    private final AggregationMetrics aggregationMetrics;
+
+    /**
+     * 여러 조직/사용자의 LOC 통계를 한 번에 조회
+     * 같은 레포지토리는 한 번만 수집하며, 조직별 / 요청한 사용자별 / 전체 합계를 함께 반환한다.
+     *
+     * @param orgs 조직명 목록 (쉼표로 구분)
+     * @param users 사용자명 목록 (쉼표로 구분, 사용자 소유 레포지토리도 수집 대상에 포함)
+     * @param token GitHub Personal Access Token
+     * @param from 집계 시작 시점 (required)
+     * @param to 집계 종료 시점 (required)
+     * @param includeForks Fork 레포지토리 포함 여부 (default: false)
+     * @param includeArchived Archived 레포지토리 포함 여부 (default: false)
+     * @return 조직별, 사용자별, 전체 LOC 집계 결과
+     */
+    @GetMapping
+    public Mono<ResponseEntity<BatchLocResponse>> getBatchLocStats(
+            @RequestParam(required = false) List<String> orgs,
+            @RequestParam(required = false) List<String> users,
+            @RequestParam(required = false) String token,
+            @RequestParam(required = true)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = true)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "false") boolean includeForks,
+            @RequestParam(defaultValue = "false") boolean includeArchived) {
+
+        log.info("Received batch LOC stats request for orgs: {} users: {} from: {} to: {} includeForks: {} includeArchived: {}",
+                orgs, users, from, to, includeForks, includeArchived);
+
+        return aggregationMetrics.timed(AggregationMetrics.ENDPOINT_BATCH,
+                        batchLocService.aggregate(orgs, users, token, from, to, includeForks, includeArchived))
+                .map(ResponseEntity::ok)
+                .doOnSuccess(response -> log.info("Successfully returned batch LOC stats for orgs: {} users: {}", orgs, users))
+                .onErrorResume(error -> !GlobalExceptionHandler.hasOwnStatus(error), error -> {
+                    log.error("Failed to get batch LOC stats for orgs: {} users: {}", orgs, users, error);
+                    return Mono.just(ResponseEntity.internalServerError().build());
+                });
+    }
+}
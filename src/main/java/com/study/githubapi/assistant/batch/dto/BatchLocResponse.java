@@ -0,0 +1,32 @@
+package com.study.githubapi.assistant.batch.dto;
+
+import com.study.githubapi.assistant.common.dto.LocSummaryOnlyResponse;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 여러 조직/사용자를 한 번에 집계한 결과
+ * 같은 레포지토리는 한 번만 수집해 조직별, 사용자별, 전체 합계에 함께 더한다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchLocResponse {
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private boolean includeForks;
+    private boolean includeArchived;
+    private LocalDateTime collectedAt;
+    private List<LocSummaryOnlyResponse> organizationSummaries; // 조직별 사용자 합계 (조직 소유 레포지토리 기준)
+    private List<LocSummaryOnlyResponse.UserLocSummaryOnly> userSummaries; // 요청한 사용자의 배치 전체 레포지토리 합계
+    private List<LocSummaryOnlyResponse.UserLocSummaryOnly> combinedUserSummaries; // 배치 전체 레포지토리의 사용자 합계
+    private List<String> failedTargets; // 레포지토리 목록을 가져오지 못한 조직/사용자
+    private Map<String, Object> metadata;
+}
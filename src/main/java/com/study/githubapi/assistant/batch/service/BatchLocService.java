@@ -0,0 +1,235 @@
+package com.study.githubapi.assistant.batch.service;
+
+import com.study.githubapi.assistant.batch.config.BatchLocConfig;
+import com.study.githubapi.assistant.batch.dto.BatchLocResponse;
+import com.study.githubapi.assistant.common.AggregationMetrics;
+import com.study.githubapi.assistant.common.LocAccumulator;
+import com.study.githubapi.assistant.common.LocAggregationHelper;
+import com.study.githubapi.assistant.common.dto.LocSummaryOnlyResponse;
+import com.study.githubapi.github.client.CircuitOpenException;
+import com.study.githubapi.github.client.RateLimitTracker;
+import com.study.githubapi.github.client.TokenPool;
+import com.study.githubapi.github.dto.GitHubRepository;
+import com.study.githubapi.github.service.ContributorStatsCollector;
+import com.study.githubapi.github.service.FetchProgress;
+import com.study.githubapi.github.service.GitHubApiService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 여러 조직/사용자의 LOC 통계를 한 번의 수집으로 집계
+ * 모든 대상의 레포지토리 목록을 합쳐 중복을 제거한 뒤 기여자 통계를 한 번씩만 수집하고,
+ * 레포지토리마다 계산한 기여도를 조직별 / 요청한 사용자별 / 전체 누적기에 함께 더한다.
+ * 통계 요청 동시성과 사용할 수 있는 요청 수는 대상 수와 관계없이 배치 전체에 하나로 적용된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BatchLocService {
+
+    private final BatchLocConfig batchLocConfig;
+    private final GitHubApiService gitHubApiService;
+    private final ContributorStatsCollector contributorStatsCollector;
+    private final LocAggregationHelper locAggregationHelper;
+    private final AggregationMetrics aggregationMetrics;
+    private final TokenPool tokenPool;
+
+    /**
+     * 조직/사용자 목록의 LOC 통계를 집계
+     * 요청 수 예산을 다 쓰면 새 레포지토리는 더 수집하지 않고, 이미 수집한 레포지토리까지의 결과를 반환한다 (metadata.stoppedByBudget).
+     */
+    public Mono<BatchLocResponse> aggregate(
+            List<String> organizations,
+            List<String> users,
+            String token,
+            LocalDateTime from,
+            LocalDateTime to,
+            boolean includeForks,
+            boolean includeArchived) {
+
+        return Mono.defer(() -> {
+            Map<String, String> orgNames = normalize(organizations);
+            Map<String, String> userNames = normalize(users);
+            if (orgNames.isEmpty() && userNames.isEmpty()) {
+                throw new IllegalArgumentException("At least one organization or user is required");
+            }
+            if (orgNames.size() + userNames.size() > batchLocConfig.getMaxTargets()) {
+                throw new IllegalArgumentException("Too many batch targets: " + (orgNames.size() + userNames.size())
+                        + " (max " + batchLocConfig.getMaxTargets() + ")");
+            }
+
+            long budget = budget(token);
+            BatchRun run = new BatchRun(orgNames, userNames);
+            FetchProgress progress = new FetchProgress();
+            log.info("Starting batch LOC aggregation for {} organizations and {} users from: {} to: {} with a budget of {} requests",
+                    orgNames.size(), userNames.size(), from, to, budget);
+
+            // 예산을 다 쓰면 새 레포지토리는 더 요청하지 않고, 이미 시작한 통계 요청만 마무리한다
+            Flux<GitHubRepository> repositories = repositories(run, token, includeForks, includeArchived)
+                    .takeWhile(repository -> {
+                        boolean withinBudget = progress.getRequestsSent() < budget;
+                        run.stoppedByBudget.compareAndSet(false, !withinBudget);
+                        return withinBudget;
+                    });
+
+            return contributorStatsCollector.collect(repositories, token, batchLocConfig.getStatsConcurrency())
+                    .map(collected -> new LocAggregationHelper.RepositoryStats(collected.repository(), collected.stats(), from, to))
+                    .filter(repoStats -> !repoStats.getContributorStats().isEmpty())
+                    .doOnNext(repoStats -> aggregationMetrics.recordFold(() -> run.add(repoStats,
+                            locAggregationHelper.calculateRepositoryContributions(repoStats))))
+                    .then(Mono.fromSupplier(() -> buildResponse(run, progress, budget, from, to, includeForks, includeArchived)))
+                    .contextWrite(context -> context.put(FetchProgress.CONTEXT_KEY, progress))
+                    .doOnSuccess(response -> log.info("Completed batch LOC aggregation: {} repositories ({} duplicates skipped), {} requests{}",
+                            run.combined.getRepositoryCount(), run.duplicates.get(), progress.getRequestsSent(),
+                            run.stoppedByBudget.get() ? ", stopped at budget cap" : ""))
+                    .doOnError(error -> log.error("Failed batch LOC aggregation", error));
+        });
+    }
+
+    /**
+     * 모든 대상의 레포지토리 목록 (full name 기준 중복 제거)
+     * 목록을 가져오지 못한 대상은 건너뛰고 failedTargets 에 기록한다.
+     */
+    private Flux<GitHubRepository> repositories(BatchRun run, String token, boolean includeForks, boolean includeArchived) {
+        Flux<Flux<GitHubRepository>> listings = Flux.concat(
+                Flux.fromIterable(run.organizationNames.values())
+                        .map(org -> gitHubApiService.getOrganizationRepositories(org, token, includeForks, includeArchived)
+                                .onErrorResume(error -> run.failed("organization:" + org, error))),
+                Flux.fromIterable(run.userNames.values())
+                        .map(user -> gitHubApiService.getUserRepositories(user, token, includeForks, includeArchived)
+                                .onErrorResume(error -> run.failed("user:" + user, error))));
+
+        Set<String> seen = ConcurrentHashMap.newKeySet();
+        return Flux.merge(listings, batchLocConfig.getListingConcurrency())
+                .filter(repository -> {
+                    boolean first = seen.add(repository.getFullName().toLowerCase(Locale.ROOT));
+                    if (!first) {
+                        run.duplicates.incrementAndGet();
+                    }
+                    return first;
+                });
+    }
+
+    private BatchLocResponse buildResponse(BatchRun run, FetchProgress progress, long budget,
+                                           LocalDateTime from, LocalDateTime to,
+                                           boolean includeForks, boolean includeArchived) {
+        List<LocSummaryOnlyResponse> organizationSummaries = new ArrayList<>();
+        run.organizations.forEach((org, accumulator) -> organizationSummaries.add(locAggregationHelper.buildLocSummaryOnlyResponse(
+                run.organizationNames.get(org), from, to, includeForks, includeArchived, accumulator)));
+
+        Map<String, Object> metadata = new LinkedHashMap<>();
+        metadata.put("totalRepositories", run.combined.getRepositoryCount());
+        metadata.put("duplicateRepositories", run.duplicates.get());
+        metadata.put("totalUsers", run.combined.getUserCount());
+        metadata.put("totalLoc", run.combined.getTotalLoc());
+        metadata.put("totalCommits", run.combined.getTotalCommits());
+        metadata.put("requestsSent", progress.getRequestsSent());
+        metadata.put("budget", budget);
+        metadata.put("stoppedByBudget", run.stoppedByBudget.get());
+
+        return BatchLocResponse.builder()
+                .from(from)
+                .to(to)
+                .includeForks(includeForks)
+                .includeArchived(includeArchived)
+                .collectedAt(LocalDateTime.now())
+                .organizationSummaries(organizationSummaries)
+                .userSummaries(run.userNames.isEmpty() ? null : run.requestedUsers.snapshot())
+                .combinedUserSummaries(run.combined.snapshot())
+                .failedTargets(run.failedTargets.isEmpty() ? null : List.copyOf(run.failedTargets))
+                .metadata(metadata)
+                .build();
+    }
+
+    /**
+     * 이번 배치에서 사용할 수 있는 요청 수
+     * 요청 토큰(없으면 토큰 풀)의 남은 예산 중 budget-ratio 만큼, 최대 max-requests 까지
+     */
+    private long budget(String token) {
+        long available = tokenPool.available(token, RateLimitTracker.RESOURCE_CORE);
+        return Math.min(batchLocConfig.getMaxRequests(), (long) (available * batchLocConfig.getBudgetRatio()));
+    }
+
+    /**
+     * 대소문자 무시로 중복을 제거한 대상 이름 (소문자 이름 -> 요청한 이름, 요청 순서 유지)
+     * GitHub 조직/사용자 이름은 대소문자를 구분하지 않는다.
+     */
+    static Map<String, String> normalize(List<String> names) {
+        Map<String, String> normalized = new LinkedHashMap<>();
+        if (names != null) {
+            for (String name : names) {
+                if (StringUtils.hasText(name)) {
+                    normalized.putIfAbsent(name.trim().toLowerCase(Locale.ROOT), name.trim());
+                }
+            }
+        }
+        return normalized;
+    }
+
+    /**
+     * 배치 1건의 누적 상태
+     */
+    private static final class BatchRun {
+        private final Map<String, String> organizationNames;
+        private final Map<String, String> userNames;
+        private final Map<String, LocAccumulator> organizations = new LinkedHashMap<>();
+        private final LocAccumulator requestedUsers = new LocAccumulator();
+        private final LocAccumulator combined = new LocAccumulator();
+        private final Set<String> failedTargets = ConcurrentHashMap.newKeySet();
+        private final AtomicInteger duplicates = new AtomicInteger();
+        private final AtomicBoolean stoppedByBudget = new AtomicBoolean();
+
+        private BatchRun(Map<String, String> organizationNames, Map<String, String> userNames) {
+            this.organizationNames = organizationNames;
+            this.userNames = userNames;
+            organizationNames.keySet().forEach(org -> organizations.put(org, new LocAccumulator()));
+        }
+
+        /**
+         * 레포지토리 1개의 기여도를 전체, 소유 조직, 요청한 사용자 누적기에 더함
+         */
+        void add(LocAggregationHelper.RepositoryStats repoStats, List<LocAggregationHelper.AuthoredContribution> contributions) {
+            combined.add(contributions);
+
+            String owner = repoStats.getRepository().getOwner().getLogin().toLowerCase(Locale.ROOT);
+            LocAccumulator organization = organizations.get(owner);
+            if (organization != null) {
+                organization.add(contributions);
+            }
+
+            if (!userNames.isEmpty()) {
+                List<LocAggregationHelper.AuthoredContribution> requested = contributions.stream()
+                        .filter(authored -> userNames.containsKey(authored.author().getLogin().toLowerCase(Locale.ROOT)))
+                        .toList();
+                if (!requested.isEmpty()) {
+                    requestedUsers.add(requested);
+                }
+            }
+        }
+
+        private <T> Mono<T> failed(String target, Throwable error) {
+            if (error instanceof CircuitOpenException) {
+                // circuit breaker 가 열려 있으면 다른 대상도 실패하므로 배치 전체를 503 으로 실패시킨다
+                return Mono.error(error);
+            }
+            log.warn("Skipping batch target {}: {}", target, error.getMessage());
+            failedTargets.add(target);
+            return Mono.empty();
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.study.githubapi.assistant.common;
+
+import com.study.githubapi.github.client.TokenFingerprint;
+
+import java.time.LocalDateTime;
+import java.util.Locale;
+
+/**
+ * 동일한 집계 요청을 구분하는 키 (single-flight 용)
+ * 토큰 원문 대신 fingerprint 를 사용하며, 토큰이 다르면 접근 가능한 레포지토리가 다를 수 있으므로 별도 요청으로 취급한다.
+ */
+public record AggregationKey(
+        String target,
+        LocalDateTime from,
+        LocalDateTime to,
+        boolean includeForks,
+        boolean includeArchived,
+        String tokenFingerprint) {
+    
+    public static AggregationKey of(String target, String token, LocalDateTime from, LocalDateTime to,
+                                    boolean includeForks, boolean includeArchived) {
+        // GitHub 조직/사용자 이름은 대소문자를 구분하지 않는다
+        return new AggregationKey(target.toLowerCase(Locale.ROOT), from, to, includeForks, includeArchived,
+                TokenFingerprint.of(token));
+    }
+}
@@ -0,0 +1,76 @@
+package com.study.githubapi.assistant.common;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+/**
+ * LOC 집계 지표
+ * 집계 API 별 전체 소요 시간과, 레포지토리 통계 1개를 사용자별 합계에 더하는 데 걸린 시간(집계 CPU)을 기록한다.
+ */
+@Component
+public class AggregationMetrics {
+    
+    public static final String ENDPOINT_REPOSITORY_SUMMARY = "repository.summary";
+    public static final String ENDPOINT_REPOSITORY_DETAILED = "repository.detailed";
+    public static final String ENDPOINT_REPOSITORY_STREAM = "repository.stream";
+    public static final String ENDPOINT_REPOSITORY_USER = "repository.user";
+    public static final String ENDPOINT_USER = "user";
+    public static final String ENDPOINT_JOB = "job";
+    public static final String ENDPOINT_BATCH = "batch";
+    
+    private final MeterRegistry meterRegistry;
+    private final Timer foldTimer;
+    
+    public AggregationMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.foldTimer = Timer.builder("loc.aggregation.fold")
+                .description("Time spent folding one repository's contributor stats into per-user totals")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+    
+    /**
+     * 집계 1회의 구독부터 종료까지 시간 기록
+     */
+    public <T> Mono<T> timed(String endpoint, Mono<T> aggregation) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            return aggregation.doFinally(signal -> sample.stop(timer(endpoint, signal)));
+        });
+    }
+    
+    /**
+     * 스트리밍 집계의 구독부터 종료까지 시간 기록
+     */
+    public <T> Flux<T> timed(String endpoint, Flux<T> aggregation) {
+        return Flux.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            return aggregation.doFinally(signal -> sample.stop(timer(endpoint, signal)));
+        });
+    }
+    
+    /**
+     * 레포지토리 1개 누적 시간 기록
+     */
+    public void recordFold(Runnable fold) {
+        foldTimer.record(fold);
+    }
+    
+    private Timer timer(String endpoint, SignalType signal) {
+        String outcome = switch (signal) {
+            case ON_COMPLETE -> "success";
+            case ON_ERROR -> "error";
+            case CANCEL -> "cancelled";
+            default -> "unknown";
+        };
+        return Timer.builder("loc.aggregation")
+                .description("End-to-end LOC aggregation time per API endpoint")
+                .tags("endpoint", endpoint, "outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,88 @@
+package com.study.githubapi.assistant.common;
+
+import com.study.githubapi.assistant.common.dto.LocSummaryOnlyResponse;
+import com.study.githubapi.assistant.common.dto.LocSummaryResponse;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 페이지 조회를 위해 보관하는 완료된 집계 결과
+ * 첫 페이지는 상위 limit 명만 heap 으로 고르고, 다음 페이지가 요청되면 그때 한 번 전체 순위를 정렬해 재사용한다.
+ */
+public class AggregationSnapshot {
+    
+    private final String id;
+    private final AggregationKey key;
+    private final boolean detailed;
+    private final LocAccumulator accumulator;
+    private final LocalDateTime collectedAt;
+    private final long createdAtMillis;
+    private volatile LocAccumulator.Ranking ranking;
+    
+    AggregationSnapshot(String id, AggregationKey key, boolean detailed, LocAccumulator accumulator, 
+                        LocalDateTime collectedAt, long createdAtMillis) {
+        this.id = id;
+        this.key = key;
+        this.detailed = detailed;
+        this.accumulator = accumulator;
+        this.collectedAt = collectedAt;
+        this.createdAtMillis = createdAtMillis;
+    }
+    
+    public List<LocSummaryOnlyResponse.UserLocSummaryOnly> page(int offset, int limit) {
+        return rankingFor(offset, limit).page(offset, limit);
+    }
+    
+    public List<LocSummaryResponse.UserLocSummary> detailedPage(int offset, int limit) {
+        return rankingFor(offset, limit).detailedPage(offset, limit);
+    }
+    
+    /**
+     * offset + limit 이후에 사용자가 남아 있으면 다음 페이지 cursor
+     */
+    public String nextCursor(int offset, int limit) {
+        long next = (long) offset + limit;
+        return next < accumulator.getUserCount() ? new PageCursor(id, (int) next).encode() : null;
+    }
+    
+    public String getId() {
+        return id;
+    }
+    
+    public AggregationKey getKey() {
+        return key;
+    }
+    
+    public boolean isDetailed() {
+        return detailed;
+    }
+    
+    public LocAccumulator getAccumulator() {
+        return accumulator;
+    }
+    
+    public LocalDateTime getCollectedAt() {
+        return collectedAt;
+    }
+    
+    long getCreatedAtMillis() {
+        return createdAtMillis;
+    }
+    
+    private LocAccumulator.Ranking rankingFor(int offset, int limit) {
+        LocAccumulator.Ranking current = ranking;
+        if (current != null) {
+            return current;
+        }
+        if (offset == 0) {
+            return accumulator.top(limit);
+        }
+        synchronized (this) {
+            if (ranking == null) {
+                ranking = accumulator.ranking();
+            }
+            return ranking;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.study.githubapi.assistant.common;
+
+import com.study.githubapi.assistant.common.config.LocPagingConfig;
+import com.study.githubapi.assistant.common.exception.PageRequestException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 페이지 조회용 집계 snapshot 보관소
+ * 첫 페이지 요청의 집계 결과를 보관해 두고, 다음 페이지 요청은 cursor 로 snapshot 을 찾아 집계를 다시 하지 않는다.
+ * snapshot-retention 이 지나거나 max-snapshots 를 넘으면 오래된 것부터 제거한다.
+ * 같은 조건의 첫 페이지 요청이 같은 집계 결과를 받으면 새 snapshot 을 만들지 않고 기존 snapshot 을 재사용한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AggregationSnapshotStore {
+    
+    private final LocPagingConfig locPagingConfig;
+    private final Map<String, AggregationSnapshot> snapshots = new ConcurrentHashMap<>();
+    private final Map<Owner, AggregationSnapshot> latest = new ConcurrentHashMap<>();
+    
+    /**
+     * 완료된 집계를 snapshot 으로 보관 (같은 조건, 같은 집계 결과면 기존 snapshot 재사용)
+     */
+    public AggregationSnapshot retain(AggregationKey key, boolean detailed, LocAccumulator accumulator) {
+        long now = System.currentTimeMillis();
+        AggregationSnapshot current = latest.get(new Owner(key, detailed));
+        if (isReusable(current, accumulator, now)) {
+            return current;
+        }
+        evict(now);
+        return latest.compute(new Owner(key, detailed), (owner, existing) -> {
+            if (isReusable(existing, accumulator, now)) {
+                return existing;
+            }
+            AggregationSnapshot snapshot = new AggregationSnapshot(UUID.randomUUID().toString(), key, detailed,
+                    accumulator, LocalDateTime.now(), now);
+            snapshots.put(snapshot.getId(), snapshot);
+            return snapshot;
+        });
+    }
+    
+    /**
+     * cursor 가 가리키는 snapshot 조회 (같은 조건의 요청에서 발급한 cursor 만 허용)
+     */
+    public AggregationSnapshot resolve(PageCursor cursor, AggregationKey key, boolean detailed) {
+        AggregationSnapshot snapshot = snapshots.get(cursor.snapshotId());
+        if (snapshot == null || isExpired(snapshot, System.currentTimeMillis())) {
+            throw PageRequestException.expired("Cursor has expired, request the first page again");
+        }
+        if (!snapshot.getKey().equals(key) || snapshot.isDetailed() != detailed) {
+            throw PageRequestException.invalid("Cursor does not belong to this query");
+        }
+        return snapshot;
+    }
+    
+    /**
+     * 페이지 크기 확인 (limit 이 없으면 기본값)
+     */
+    public int limitOf(Integer limit) {
+        int resolved = limit != null ? limit : locPagingConfig.getDefaultLimit();
+        if (resolved < 1 || resolved > locPagingConfig.getMaxLimit()) {
+            throw PageRequestException.invalid("limit must be between 1 and " + locPagingConfig.getMaxLimit());
+        }
+        return resolved;
+    }
+    
+    public int size() {
+        return snapshots.size();
+    }
+    
+    private void evict(long now) {
+        snapshots.values().removeIf(snapshot -> isExpired(snapshot, now));
+        latest.values().removeIf(snapshot -> !snapshots.containsKey(snapshot.getId()));
+        while (!snapshots.isEmpty() && snapshots.size() >= locPagingConfig.getMaxSnapshots()) {
+            snapshots.values().stream()
+                    .min(Comparator.comparingLong(AggregationSnapshot::getCreatedAtMillis))
+                    .ifPresent(oldest -> {
+                        snapshots.remove(oldest.getId());
+                        latest.remove(new Owner(oldest.getKey(), oldest.isDetailed()), oldest);
+                        log.debug("Evicted aggregation snapshot {} for {}", oldest.getId(), oldest.getKey().target());
+                    });
+        }
+    }
+    
+    private boolean isReusable(AggregationSnapshot snapshot, LocAccumulator accumulator, long now) {
+        return snapshot != null && snapshot.getAccumulator() == accumulator
+                && snapshots.containsKey(snapshot.getId()) && !isExpired(snapshot, now);
+    }
+    
+    private boolean isExpired(AggregationSnapshot snapshot, long now) {
+        return now - snapshot.getCreatedAtMillis() > locPagingConfig.getSnapshotRetention().toMillis();
+    }
+    
+    private record Owner(AggregationKey key, boolean detailed) {
+    }
+}
@@ -0,0 +1,252 @@
+package com.study.githubapi.assistant.common;
+
+import com.study.githubapi.assistant.common.dto.LocSummaryOnlyResponse;
+import com.study.githubapi.assistant.common.dto.LocSummaryResponse;
+import com.study.githubapi.github.dto.ContributorStats;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 레포지토리 통계가 도착하는 즉시 사용자별 합계에 더하는 누적기 (thread-safe)
+ * 원본 주간 통계는 보관하지 않으므로 메모리 사용량은 사용자 수(상세 모드에서는 사용자별 기여 레포지토리 수)에 비례한다.
+ */
+public class LocAccumulator {
+    
+    /**
+     * 사용자 순위 (LOC 내림차순, 같으면 login 오름차순)
+     * 동점자도 항상 같은 순서가 되도록 login 으로 구분해 페이지 경계가 흔들리지 않게 한다.
+     */
+    private static final Comparator<Ranked> RANKING = Comparator.comparingLong(Ranked::loc).reversed()
+            .thenComparing(Ranked::login);
+    
+    private final boolean keepRepositoryContributions;
+    private final Map<String, UserTotals> users = new ConcurrentHashMap<>();
+    private final AtomicInteger repositoryCount = new AtomicInteger();
+    
+    /**
+     * 사용자별 합계만 누적
+     */
+    public LocAccumulator() {
+        this(false);
+    }
+    
+    /**
+     * @param keepRepositoryContributions 사용자별 레포지토리 기여 내역도 보관할지 여부 (상세 응답용)
+     */
+    public LocAccumulator(boolean keepRepositoryContributions) {
+        this.keepRepositoryContributions = keepRepositoryContributions;
+    }
+    
+    /**
+     * 레포지토리 1개의 기여도 누적
+     */
+    public void add(List<LocAggregationHelper.AuthoredContribution> contributions) {
+        repositoryCount.incrementAndGet();
+        for (LocAggregationHelper.AuthoredContribution authored : contributions) {
+            UserTotals totals = users.computeIfAbsent(authored.author().getLogin(),
+                    k -> new UserTotals(authored.author(), keepRepositoryContributions));
+            if (authored.hasActivity()) {
+                totals.add(authored.contribution());
+            }
+        }
+    }
+    
+    public int getRepositoryCount() {
+        return repositoryCount.get();
+    }
+    
+    public int getUserCount() {
+        return users.size();
+    }
+    
+    /**
+     * 전체 사용자의 LOC 합계
+     */
+    public long getTotalLoc() {
+        return users.values().stream().mapToLong(UserTotals::loc).sum();
+    }
+    
+    /**
+     * 전체 사용자의 커밋 수 합계
+     */
+    public long getTotalCommits() {
+        return users.values().stream().mapToLong(UserTotals::commits).sum();
+    }
+    
+    /**
+     * 현재까지의 사용자별 합계 (LOC 내림차순)
+     */
+    public List<LocSummaryOnlyResponse.UserLocSummaryOnly> snapshot() {
+        return ranking().page(0, Integer.MAX_VALUE);
+    }
+    
+    /**
+     * 현재까지의 사용자별 합계와 레포지토리 기여 내역 (LOC 내림차순)
+     */
+    public List<LocSummaryResponse.UserLocSummary> detailedSnapshot() {
+        return ranking().detailedPage(0, Integer.MAX_VALUE);
+    }
+    
+    /**
+     * 전체 사용자 순위 (전체 정렬)
+     */
+    public Ranking ranking() {
+        List<Ranked> ranked = new ArrayList<>(users.size());
+        for (UserTotals totals : users.values()) {
+            ranked.add(totals.ranked());
+        }
+        ranked.sort(RANKING);
+        return new Ranking(ranked);
+    }
+    
+    /**
+     * 상위 limit 명의 순위
+     * 크기 limit 의 heap 으로 선택하므로 전체를 정렬하지 않고 O(n log limit) 로 끝나며, 요약 객체도 limit 개만 만든다.
+     */
+    public Ranking top(int limit) {
+        if (limit <= 0) {
+            return new Ranking(List.of());
+        }
+        // head 는 지금까지 고른 사용자 중 순위가 가장 낮은 사용자
+        PriorityQueue<Ranked> heap = new PriorityQueue<>(Math.min(limit, users.size()) + 1, RANKING.reversed());
+        for (UserTotals totals : users.values()) {
+            Ranked ranked = totals.ranked();
+            if (heap.size() < limit) {
+                heap.add(ranked);
+            } else if (RANKING.compare(ranked, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(ranked);
+            }
+        }
+        List<Ranked> top = new ArrayList<>(heap);
+        top.sort(RANKING);
+        return new Ranking(top);
+    }
+    
+    /**
+     * 특정 사용자의 합계와 레포지토리 기여 내역 (login 대소문자 무시)
+     */
+    public Optional<LocSummaryResponse.UserLocSummary> find(String username) {
+        return users.values().stream()
+                .filter(totals -> totals.author.getLogin().equalsIgnoreCase(username))
+                .findFirst()
+                .map(UserTotals::toDetailedSummary);
+    }
+    
+    /**
+     * 순위가 매겨진 사용자 목록 (순위를 매긴 시점의 LOC 기준)
+     */
+    public static final class Ranking {
+        private final List<Ranked> users;
+        
+        private Ranking(List<Ranked> users) {
+            this.users = users;
+        }
+        
+        public int size() {
+            return users.size();
+        }
+        
+        /**
+         * offset 번째부터 최대 limit 명의 요약
+         */
+        public List<LocSummaryOnlyResponse.UserLocSummaryOnly> page(int offset, int limit) {
+            return slice(offset, limit).stream().map(ranked -> ranked.totals().toSummary()).toList();
+        }
+        
+        /**
+         * offset 번째부터 최대 limit 명의 요약과 레포지토리 기여 내역
+         */
+        public List<LocSummaryResponse.UserLocSummary> detailedPage(int offset, int limit) {
+            return slice(offset, limit).stream().map(ranked -> ranked.totals().toDetailedSummary()).toList();
+        }
+        
+        /**
+         * index 번째 사용자의 요약과 레포지토리 기여 내역
+         */
+        public LocSummaryResponse.UserLocSummary detailedAt(int index) {
+            return users.get(index).totals().toDetailedSummary();
+        }
+        
+        private List<Ranked> slice(int offset, int limit) {
+            int from = Math.min(Math.max(offset, 0), users.size());
+            int to = (int) Math.min((long) from + Math.max(limit, 0), users.size());
+            return users.subList(from, to);
+        }
+    }
+    
+    private record Ranked(long loc, String login, UserTotals totals) {
+    }
+    
+    /**
+     * 사용자 1명의 누적 합계
+     */
+    private static final class UserTotals {
+        private final ContributorStats.Author author;
+        private final List<LocSummaryResponse.RepositoryContribution> contributions;
+        private long additions;
+        private long deletions;
+        private long commits;
+        private int repositories;
+        
+        private UserTotals(ContributorStats.Author author, boolean keepRepositoryContributions) {
+            this.author = author;
+            this.contributions = keepRepositoryContributions ? new ArrayList<>() : null;
+        }
+        
+        synchronized void add(LocSummaryResponse.RepositoryContribution contribution) {
+            additions += contribution.getAdditions();
+            deletions += contribution.getDeletions();
+            commits += contribution.getCommits();
+            repositories++;
+            if (contributions != null) {
+                contributions.add(contribution);
+            }
+        }
+        
+        synchronized long loc() {
+            return additions + deletions;
+        }
+        
+        synchronized long commits() {
+            return commits;
+        }
+        
+        synchronized Ranked ranked() {
+            return new Ranked(additions + deletions, author.getLogin(), this);
+        }
+        
+        synchronized LocSummaryOnlyResponse.UserLocSummaryOnly toSummary() {
+            return LocSummaryOnlyResponse.UserLocSummaryOnly.builder()
+                    .username(author.getLogin())
+                    .avatarUrl(author.getAvatarUrl())
+                    .htmlUrl(author.getHtmlUrl())
+                    .totalAdditions(additions)
+                    .totalDeletions(deletions)
+                    .totalLoc(additions + deletions)
+                    .totalCommits(commits)
+                    .repositoryCount(repositories)
+                    .build();
+        }
+        
+        synchronized LocSummaryResponse.UserLocSummary toDetailedSummary() {
+            return LocSummaryResponse.UserLocSummary.builder()
+                    .username(author.getLogin())
+                    .avatarUrl(author.getAvatarUrl())
+                    .htmlUrl(author.getHtmlUrl())
+                    .totalAdditions(additions)
+                    .totalDeletions(deletions)
+                    .totalLoc(additions + deletions)
+                    .totalCommits(commits)
+                    .repositories(contributions != null ? List.copyOf(contributions) : List.of())
+                    .build();
+        }
+    }
+}
@@ -2,19 +2,23 @@ package com.study.githubapi.assistant.common;
 
 import com.study.githubapi.assistant.common.dto.LocSummaryOnlyResponse;
 import com.study.githubapi.assistant.common.dto.LocSummaryResponse;
+import com.study.githubapi.github.cache.ContributorStatsCache;
 import com.study.githubapi.github.dto.ContributorStats;
 import com.study.githubapi.github.dto.GitHubRepository;
+import com.study.githubapi.github.service.ContributorStatsCollector;
 import com.study.githubapi.github.service.GitHubApiService;
+import com.study.githubapi.github.stats.WeeklyContributionIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.function.Supplier;
 
 @Slf4j
 @Component
@@ -22,22 +26,62 @@ import java.util.stream.Collectors;
 public class LocAggregationHelper {
     
     private final GitHubApiService gitHubApiService;
+    private final ContributorStatsCollector contributorStatsCollector;
+    private final ContributorStatsCache contributorStatsCache;
+    private final AggregationMetrics aggregationMetrics;
     
     /**
      * 레포지토리별 통계 수집
      */
     public Mono<RepositoryStats> getRepositoryStats(GitHubRepository repository, String token, LocalDateTime from, LocalDateTime to) {
-        return gitHubApiService.getRepositoryContributorStats(
-                repository.getOwner().getLogin(), 
-                repository.getName(),
-                token)
+        return gitHubApiService.getRepositoryContributorStats(repository, token)
                 .map(contributorStats -> new RepositoryStats(repository, contributorStats, from, to))
                 .doOnNext(stats -> log.debug("Collected stats for repository: {} ({} contributors)", 
                     repository.getFullName(), stats.getContributorStats().size()));
     }
     
     /**
-     * LocSummaryResponse 생성
+     * 여러 레포지토리의 통계 수집 (202 Accepted 레포지토리는 warm-up 후 일괄 polling)
+     */
+    public Flux<RepositoryStats> collectRepositoryStats(Flux<GitHubRepository> repositories, String token, LocalDateTime from, LocalDateTime to) {
+        return contributorStatsCollector.collect(repositories, token)
+                .map(collected -> new RepositoryStats(collected.repository(), collected.stats(), from, to))
+                .doOnNext(stats -> log.debug("Collected stats for repository: {} ({} contributors)", 
+                    stats.getRepository().getFullName(), stats.getContributorStats().size()));
+    }
+    
+    /**
+     * 특정 사용자의 레포지토리별 통계 수집
+     * 캐시된 통계에 사용자가 기여자로 없는 레포지토리는 통계 수집 없이 건너뛰고,
+     * 나머지 레포지토리도 해당 사용자의 통계만 남긴다.
+     */
+    public Flux<RepositoryStats> collectUserRepositoryStats(
+            Flux<GitHubRepository> repositories, String username, String token, LocalDateTime from, LocalDateTime to) {
+        
+        Flux<GitHubRepository> candidates = repositories.filter(repository -> contributorStatsCache.peek(repository)
+                .map(stats -> findContributor(stats, username).isPresent())
+                .orElse(true));
+        
+        return collectRepositoryStats(candidates, token, from, to)
+                .map(repoStats -> new RepositoryStats(repoStats.getRepository(),
+                        findContributor(repoStats.getContributorStats(), username).map(List::of).orElse(List.of()),
+                        from, to));
+    }
+    
+    /**
+     * 레포지토리 통계를 도착하는 즉시 누적기에 더함
+     * 레포지토리별 원본 통계는 누적 후 바로 버려지므로 전체 레포지토리를 모아 두지 않는다.
+     * 누적기는 구독마다 새로 만들어 재구독(재시도, 캐시 만료 후 재집계)이 이전 결과에 더해지지 않게 한다.
+     */
+    public Mono<LocAccumulator> accumulate(Flux<RepositoryStats> repositoryStats, Supplier<LocAccumulator> accumulator) {
+        return repositoryStats.reduceWith(accumulator, (acc, repoStats) -> {
+            aggregationMetrics.recordFold(() -> acc.add(calculateRepositoryContributions(repoStats)));
+            return acc;
+        });
+    }
+    
+    /**
+     * LocAccumulator 로부터 LocSummaryResponse 생성 (레포지토리 기여 내역을 보관한 누적기)
      */
     public LocSummaryResponse buildLocSummaryResponse(
             String organization,
@@ -45,21 +89,12 @@ public class LocAggregationHelper {
             LocalDateTime to,
             boolean includeForks,
             boolean includeArchived,
-            List<RepositoryStats> repoStatsList) {
-        
-        Map<String, UserContribution> userContributions = new HashMap<>();
-        
-        for (RepositoryStats repoStats : repoStatsList) {
-            processRepositoryContributions(repoStats, userContributions);
-        }
+            LocAccumulator accumulator) {
         
-        List<LocSummaryResponse.UserLocSummary> userSummaries = userContributions.values().stream()
-                .map(this::buildUserLocSummary)
-                .sorted(Comparator.comparing(LocSummaryResponse.UserLocSummary::getTotalLoc).reversed())
-                .collect(Collectors.toList());
+        List<LocSummaryResponse.UserLocSummary> userSummaries = accumulator.detailedSnapshot();
         
         Map<String, Object> metadata = new HashMap<>();
-        metadata.put("totalRepositories", repoStatsList.size());
+        metadata.put("totalRepositories", accumulator.getRepositoryCount());
         metadata.put("totalUsers", userSummaries.size());
         metadata.put("totalLoc", userSummaries.stream().mapToLong(LocSummaryResponse.UserLocSummary::getTotalLoc).sum());
         metadata.put("totalCommits", userSummaries.stream().mapToLong(LocSummaryResponse.UserLocSummary::getTotalCommits).sum());
@@ -77,7 +112,28 @@ public class LocAggregationHelper {
     }
     
     /**
-     * LocSummaryOnlyResponse 생성
+     * 레포지토리의 기여자별 기여도 계산 (기간 내 활동이 없는 기여자 포함)
+     */
+    public List<AuthoredContribution> calculateRepositoryContributions(RepositoryStats repoStats) {
+        GitHubRepository repository = repoStats.getRepository();
+        List<AuthoredContribution> contributions = new ArrayList<>(repoStats.getContributorStats().size());
+        
+        for (ContributorStats contributorStats : repoStats.getContributorStats()) {
+            // author가 null인 경우 스킵
+            if (contributorStats.getAuthor() == null) {
+                log.warn("Skipping contributor stats with null author for repository: {}", repository.getFullName());
+                continue;
+            }
+            
+            LocSummaryResponse.RepositoryContribution repoContribution =
+                    calculateRepositoryContribution(contributorStats, repository, repoStats.getFrom(), repoStats.getTo());
+            contributions.add(new AuthoredContribution(contributorStats.getAuthor(), repoContribution));
+        }
+        return contributions;
+    }
+    
+    /**
+     * LocAccumulator 로부터 LocSummaryOnlyResponse 생성
      */
     public LocSummaryOnlyResponse buildLocSummaryOnlyResponse(
             String organization,
@@ -85,21 +141,12 @@ public class LocAggregationHelper {
             LocalDateTime to,
             boolean includeForks,
             boolean includeArchived,
-            List<RepositoryStats> repoStatsList) {
-        
-        Map<String, UserContribution> userContributions = new HashMap<>();
+            LocAccumulator accumulator) {
         
-        for (RepositoryStats repoStats : repoStatsList) {
-            processRepositoryContributions(repoStats, userContributions);
-        }
-        
-        List<LocSummaryOnlyResponse.UserLocSummaryOnly> userSummaries = userContributions.values().stream()
-                .map(this::buildUserLocSummaryOnly)
-                .sorted(Comparator.comparing(LocSummaryOnlyResponse.UserLocSummaryOnly::getTotalLoc).reversed())
-                .collect(Collectors.toList());
+        List<LocSummaryOnlyResponse.UserLocSummaryOnly> userSummaries = accumulator.snapshot();
         
         Map<String, Object> metadata = new HashMap<>();
-        metadata.put("totalRepositories", repoStatsList.size());
+        metadata.put("totalRepositories", accumulator.getRepositoryCount());
         metadata.put("totalUsers", userSummaries.size());
         metadata.put("totalLoc", userSummaries.stream().mapToLong(LocSummaryOnlyResponse.UserLocSummaryOnly::getTotalLoc).sum());
         metadata.put("totalCommits", userSummaries.stream().mapToLong(LocSummaryOnlyResponse.UserLocSummaryOnly::getTotalCommits).sum());
@@ -117,33 +164,66 @@ public class LocAggregationHelper {
     }
     
     /**
-     * 레포지토리별 기여도 처리
+     * snapshot 의 한 페이지로 LocSummaryResponse 생성 (metadata 는 전체 사용자 기준)
      */
-    public void processRepositoryContributions(
-            RepositoryStats repoStats,
-            Map<String, UserContribution> userContributions) {
+    public LocSummaryResponse buildLocSummaryPage(
+            String organization,
+            LocalDateTime from,
+            LocalDateTime to,
+            boolean includeForks,
+            boolean includeArchived,
+            AggregationSnapshot snapshot,
+            int offset,
+            int limit) {
         
-        GitHubRepository repository = repoStats.getRepository();
+        return LocSummaryResponse.builder()
+                .organization(organization)
+                .from(from)
+                .to(to)
+                .includeForks(includeForks)
+                .includeArchived(includeArchived)
+                .collectedAt(snapshot.getCollectedAt())
+                .userSummaries(snapshot.detailedPage(offset, limit))
+                .metadata(pageMetadata(snapshot, offset))
+                .nextCursor(snapshot.nextCursor(offset, limit))
+                .build();
+    }
+    
+    /**
+     * snapshot 의 한 페이지로 LocSummaryOnlyResponse 생성 (metadata 는 전체 사용자 기준)
+     */
+    public LocSummaryOnlyResponse buildLocSummaryOnlyPage(
+            String organization,
+            LocalDateTime from,
+            LocalDateTime to,
+            boolean includeForks,
+            boolean includeArchived,
+            AggregationSnapshot snapshot,
+            int offset,
+            int limit) {
         
-        for (ContributorStats contributorStats : repoStats.getContributorStats()) {
-            // author가 null인 경우 스킵
-            if (contributorStats.getAuthor() == null) {
-                log.warn("Skipping contributor stats with null author for repository: {}", repository.getFullName());
-                continue;
-            }
-            
-            String username = contributorStats.getAuthor().getLogin();
-            
-            UserContribution userContribution = userContributions.computeIfAbsent(username,
-                    k -> new UserContribution(contributorStats.getAuthor()));
-            
-            LocSummaryResponse.RepositoryContribution repoContribution =
-                    calculateRepositoryContribution(contributorStats, repository, repoStats.getFrom(), repoStats.getTo());
-            
-            if (repoContribution.getLoc() > 0 || repoContribution.getCommits() > 0) {
-                userContribution.addRepositoryContribution(repoContribution);
-            }
-        }
+        return LocSummaryOnlyResponse.builder()
+                .organization(organization)
+                .from(from)
+                .to(to)
+                .includeForks(includeForks)
+                .includeArchived(includeArchived)
+                .collectedAt(snapshot.getCollectedAt())
+                .userSummaries(snapshot.page(offset, limit))
+                .metadata(pageMetadata(snapshot, offset))
+                .nextCursor(snapshot.nextCursor(offset, limit))
+                .build();
+    }
+    
+    private Map<String, Object> pageMetadata(AggregationSnapshot snapshot, int offset) {
+        LocAccumulator accumulator = snapshot.getAccumulator();
+        Map<String, Object> metadata = new HashMap<>();
+        metadata.put("totalRepositories", accumulator.getRepositoryCount());
+        metadata.put("totalUsers", accumulator.getUserCount());
+        metadata.put("totalLoc", accumulator.getTotalLoc());
+        metadata.put("totalCommits", accumulator.getTotalCommits());
+        metadata.put("offset", offset);
+        return metadata;
     }
     
     /**
@@ -155,31 +235,15 @@ public class LocAggregationHelper {
             LocalDateTime from,
             LocalDateTime to) {
         
-        long fromEpoch = from.toEpochSecond(ZoneOffset.UTC);
-        long toEpoch = to.toEpochSecond(ZoneOffset.UTC);
-        
-        long additions = 0;
-        long deletions = 0;
-        long commits = 0;
-        LocalDateTime lastContribution = null;
+        WeeklyContributionIndex.RangeTotals totals = contributorStats.getWeeks()
+                .query(from.toEpochSecond(ZoneOffset.UTC), to.toEpochSecond(ZoneOffset.UTC));
         
-        if (contributorStats.getWeeks() != null) {
-            for (ContributorStats.Week week : contributorStats.getWeeks()) {
-                long weekTimestamp = week.getTimestamp();
-                
-                if (weekTimestamp >= fromEpoch && weekTimestamp <= toEpoch) {
-                    additions += week.getAdditions() != null ? week.getAdditions() : 0;
-                    deletions += week.getDeletions() != null ? week.getDeletions() : 0;
-                    commits += week.getCommits() != null ? week.getCommits() : 0;
-                    
-                    LocalDateTime weekDateTime = LocalDateTime.ofInstant(
-                            Instant.ofEpochSecond(weekTimestamp), ZoneOffset.UTC);
-                    if (lastContribution == null || weekDateTime.isAfter(lastContribution)) {
-                        lastContribution = weekDateTime;
-                    }
-                }
-            }
-        }
+        long additions = totals.additions();
+        long deletions = totals.deletions();
+        long commits = totals.commits();
+        LocalDateTime lastContribution = totals.lastActiveWeek() != null
+                ? LocalDateTime.ofInstant(Instant.ofEpochSecond(totals.lastActiveWeek()), ZoneOffset.UTC)
+                : null;
         
         return LocSummaryResponse.RepositoryContribution.builder()
                 .repositoryName(repository.getName())
@@ -195,36 +259,20 @@ public class LocAggregationHelper {
                 .build();
     }
     
-    /**
-     * UserLocSummary 생성
-     */
-    private LocSummaryResponse.UserLocSummary buildUserLocSummary(UserContribution userContribution) {
-        return LocSummaryResponse.UserLocSummary.builder()
-                .username(userContribution.getAuthor().getLogin())
-                .avatarUrl(userContribution.getAuthor().getAvatarUrl())
-                .htmlUrl(userContribution.getAuthor().getHtmlUrl())
-                .totalAdditions(userContribution.getTotalAdditions())
-                .totalDeletions(userContribution.getTotalDeletions())
-                .totalLoc(userContribution.getTotalLoc())
-                .totalCommits(userContribution.getTotalCommits())
-                .repositories(userContribution.getRepositoryContributions())
-                .build();
+    private static Optional<ContributorStats> findContributor(List<ContributorStats> stats, String username) {
+        // GitHub login 은 대소문자를 구분하지 않는다
+        return stats.stream()
+                .filter(contributor -> contributor.getAuthor() != null && username.equalsIgnoreCase(contributor.getAuthor().getLogin()))
+                .findFirst();
     }
     
     /**
-     * UserLocSummaryOnly 생성
+     * 기여자 정보와 레포지토리 기여도
      */
-    private LocSummaryOnlyResponse.UserLocSummaryOnly buildUserLocSummaryOnly(UserContribution userContribution) {
-        return LocSummaryOnlyResponse.UserLocSummaryOnly.builder()
-                .username(userContribution.getAuthor().getLogin())
-                .avatarUrl(userContribution.getAuthor().getAvatarUrl())
-                .htmlUrl(userContribution.getAuthor().getHtmlUrl())
-                .totalAdditions(userContribution.getTotalAdditions())
-                .totalDeletions(userContribution.getTotalDeletions())
-                .totalLoc(userContribution.getTotalLoc())
-                .totalCommits(userContribution.getTotalCommits())
-                .repositoryCount(userContribution.getRepositoryContributions().size())
-                .build();
+    public record AuthoredContribution(ContributorStats.Author author, LocSummaryResponse.RepositoryContribution contribution) {
+        public boolean hasActivity() {
+            return contribution.getLoc() > 0 || contribution.getCommits() > 0;
+        }
     }
     
     /**
@@ -260,52 +308,4 @@ public class LocAggregationHelper {
             return to;
         }
     }
-    
-    /**
-     * 사용자별 기여도를 담는 내부 클래스
-     */
-    public static class UserContribution {
-        private final ContributorStats.Author author;
-        private final List<LocSummaryResponse.RepositoryContribution> repositoryContributions;
-        private long totalAdditions = 0;
-        private long totalDeletions = 0;
-        private long totalCommits = 0;
-        
-        public UserContribution(ContributorStats.Author author) {
-            this.author = author;
-            this.repositoryContributions = new ArrayList<>();
-        }
-        
-        public void addRepositoryContribution(LocSummaryResponse.RepositoryContribution contribution) {
-            repositoryContributions.add(contribution);
-            totalAdditions += contribution.getAdditions();
-            totalDeletions += contribution.getDeletions();
-            totalCommits += contribution.getCommits();
-        }
-        
-        public ContributorStats.Author getAuthor() {
-            return author;
-        }
-        
-        public List<LocSummaryResponse.RepositoryContribution> getRepositoryContributions() {
-            return repositoryContributions;
-        }
-        
-        public long getTotalAdditions() {
-            return totalAdditions;
-        }
-        
-        public long getTotalDeletions() {
-            return totalDeletions;
-        }
-        
-        public long getTotalLoc() {
-            return totalAdditions + totalDeletions;
-        }
-        
-        public long getTotalCommits() {
-            return totalCommits;
-        }
-    }
 }
-
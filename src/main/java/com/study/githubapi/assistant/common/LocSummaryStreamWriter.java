@@ -0,0 +1,186 @@
+package com.study.githubapi.assistant.common;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.PropertyNamingStrategy;
+import com.study.githubapi.assistant.common.dto.LocSummaryResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * LocSummaryResponse 를 사용자 단위로 JSON 직렬화해 DataBuffer 로 바로 흘려보내는 writer
+ * 응답 객체 전체와 인코딩된 본문 전체를 메모리에 동시에 두지 않고, CHUNK_BYTES 정도씩 인코딩해 전송한다.
+ * 조직/기간 등 앞부분은 집계가 끝나기 전에 (시작 신호를 받으면) 먼저 보내므로 첫 바이트까지의 시간이 조직 크기와 무관하다.
+ * 필드 구성과 이름은 ObjectMapper 로 LocSummaryResponse 를 직렬화한 결과와 같다 (collected_at 은 마지막에 기록).
+ */
+@Component
+@RequiredArgsConstructor
+public class LocSummaryStreamWriter {
+    
+    private static final int CHUNK_BYTES = 32 * 1024;
+    
+    private final ObjectMapper objectMapper;
+    
+    /**
+     * started 가 완료되면 앞부분을 보내고, 집계가 끝나면 사용자 순위대로 이어서 기록
+     * started 이전의 실패는 아무것도 보내지 않은 상태로 전달되므로 호출자가 오류 상태 코드로 응답할 수 있다.
+     * 
+     * @param started 응답을 시작해도 되는 시점 (예: 레포지토리 목록 첫 페이지 수신), 집계보다 늦게 끝나면 무시
+     * @param accumulator 집계 결과 (한 번만 구독)
+     */
+    public Flux<DataBuffer> write(String organization, LocalDateTime from, LocalDateTime to,
+                                  boolean includeForks, boolean includeArchived,
+                                  Mono<Void> started, Mono<LocAccumulator> accumulator) {
+        return Flux.using(ChunkWriter::new, writer -> {
+            Flux<DataBuffer> prefix = Flux.defer(() -> writer.isStarted()
+                    ? Flux.empty()
+                    : Flux.just(writer.prefix(organization, from, to, includeForks, includeArchived)));
+            // 집계를 먼저 구독해 시작시키고, 시작 신호와 집계 결과 중 먼저 온 쪽에서 앞부분을 보낸다
+            return Flux.merge(accumulator.map(Optional::of), started.thenReturn(Optional.<LocAccumulator>empty()))
+                    .takeUntil(Optional::isPresent)
+                    .concatMap(signal -> signal
+                            .map(acc -> Flux.concat(prefix, users(writer, acc)))
+                            .orElse(prefix));
+        }, ChunkWriter::close);
+    }
+    
+    /**
+     * 이미 만들어진 응답 (페이지 조회처럼 작은 응답) 을 한 번에 인코딩
+     */
+    public DataBuffer encode(LocSummaryResponse response) {
+        try {
+            return DefaultDataBufferFactory.sharedInstance.wrap(objectMapper.writeValueAsBytes(response));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    private Flux<DataBuffer> users(ChunkWriter writer, LocAccumulator accumulator) {
+        LocAccumulator.Ranking ranking = accumulator.ranking();
+        // 요청(demand)이 있을 때마다 다음 chunk 를 인코딩하므로 느린 클라이언트에 대해 버퍼가 쌓이지 않는다
+        return Flux.generate(() -> 0, (index, sink) -> {
+            if (index >= ranking.size()) {
+                sink.next(writer.suffix(accumulator));
+                sink.complete();
+                return index;
+            }
+            int next = writer.users(ranking, index);
+            sink.next(writer.drain());
+            return next;
+        });
+    }
+    
+    private String name(String property) {
+        PropertyNamingStrategy strategy = objectMapper.getSerializationConfig().getPropertyNamingStrategy();
+        return strategy instanceof PropertyNamingStrategies.NamingBase naming ? naming.translate(property) : property;
+    }
+    
+    /**
+     * 하나의 JsonGenerator 로 응답 전체를 쓰고, 쓴 만큼씩 DataBuffer 로 잘라내는 writer
+     */
+    private final class ChunkWriter {
+        private final ByteArrayOutputStream out = new ByteArrayOutputStream(CHUNK_BYTES + 8 * 1024);
+        private final JsonGenerator generator;
+        private boolean started;
+        
+        private ChunkWriter() throws IOException {
+            this.generator = objectMapper.createGenerator(out);
+        }
+        
+        boolean isStarted() {
+            return started;
+        }
+        
+        DataBuffer prefix(String organization, LocalDateTime from, LocalDateTime to,
+                          boolean includeForks, boolean includeArchived) {
+            started = true;
+            try {
+                writeHeader(organization, from, to, includeForks, includeArchived);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return drain();
+        }
+        
+        private void writeHeader(String organization, LocalDateTime from, LocalDateTime to,
+                                 boolean includeForks, boolean includeArchived) throws IOException {
+            generator.writeStartObject();
+            field("organization", organization);
+            field("from", from);
+            field("to", to);
+            field("includeForks", includeForks);
+            field("includeArchived", includeArchived);
+            generator.writeFieldName(name("userSummaries"));
+            generator.writeStartArray();
+        }
+        
+        /**
+         * index 번째 사용자부터 chunk 크기가 찰 때까지 기록하고 다음 index 반환
+         */
+        int users(LocAccumulator.Ranking ranking, int index) {
+            try {
+                while (index < ranking.size() && out.size() < CHUNK_BYTES) {
+                    objectMapper.writeValue(generator, ranking.detailedAt(index++));
+                    generator.flush();
+                }
+                return index;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        
+        DataBuffer suffix(LocAccumulator accumulator) {
+            try {
+                generator.writeEndArray();
+                Map<String, Object> metadata = new LinkedHashMap<>();
+                metadata.put("totalRepositories", accumulator.getRepositoryCount());
+                metadata.put("totalUsers", accumulator.getUserCount());
+                metadata.put("totalLoc", accumulator.getTotalLoc());
+                metadata.put("totalCommits", accumulator.getTotalCommits());
+                field("metadata", metadata);
+                field("collectedAt", LocalDateTime.now());
+                generator.writeEndObject();
+                return drain();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        
+        DataBuffer drain() {
+            try {
+                generator.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            DataBuffer buffer = DefaultDataBufferFactory.sharedInstance.wrap(out.toByteArray());
+            out.reset();
+            return buffer;
+        }
+        
+        void close() {
+            try {
+                generator.close();
+            } catch (IOException ignored) {
+                // 메모리 버퍼라 닫기 실패는 무시
+            }
+        }
+        
+        private void field(String property, Object value) throws IOException {
+            generator.writeFieldName(name(property));
+            objectMapper.writeValue(generator, value);
+        }
+    }
+}
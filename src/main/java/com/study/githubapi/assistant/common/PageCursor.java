@@ -0,0 +1,32 @@
+package com.study.githubapi.assistant.common;
+
+import com.study.githubapi.assistant.common.exception.PageRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 보관된 집계 snapshot 안의 위치를 가리키는 cursor ("{snapshotId}:{offset}" 의 base64url)
+ * snapshot 은 변하지 않으므로 offset 만으로 같은 순서의 다음 페이지를 가리킨다.
+ */
+public record PageCursor(String snapshotId, int offset) {
+    
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((snapshotId + ":" + offset).getBytes(StandardCharsets.UTF_8));
+    }
+    
+    public static PageCursor decode(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.lastIndexOf(':');
+            int offset = Integer.parseInt(decoded.substring(separator + 1));
+            if (separator <= 0 || offset < 0) {
+                throw PageRequestException.invalid("Malformed cursor");
+            }
+            return new PageCursor(decoded.substring(0, separator), offset);
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw PageRequestException.invalid("Malformed cursor");
+        }
+    }
+}
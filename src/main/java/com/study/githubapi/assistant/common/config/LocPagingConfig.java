@@ -0,0 +1,17 @@
+package com.study.githubapi.assistant.common.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "assistant.paging")
+@Data
+public class LocPagingConfig {
+    private int defaultLimit = 50; // cursor 만 전달된 경우 페이지 크기
+    private int maxLimit = 1000;
+    private Duration snapshotRetention = Duration.ofMinutes(10); // 다음 페이지를 위해 집계 결과를 보관하는 시간
+    private int maxSnapshots = 100; // 초과 시 오래된 snapshot 부터 제거
+}
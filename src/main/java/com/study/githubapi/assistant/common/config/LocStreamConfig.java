@@ -0,0 +1,15 @@
+package com.study.githubapi.assistant.common.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "assistant.stream")
+@Data
+public class LocStreamConfig {
+    private Duration progressInterval = Duration.ofSeconds(5); // 사용자별 누적 합계 이벤트 전송 주기
+    private int progressTopUsers = 20; // progress 이벤트에 담을 상위 사용자 수 (전체 목록은 summary 이벤트로 전송)
+}
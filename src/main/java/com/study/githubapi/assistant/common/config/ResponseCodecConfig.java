@@ -0,0 +1,60 @@
+package com.study.githubapi.assistant.common.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.cbor.CBORGenerator;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.http.codec.cbor.Jackson2CborDecoder;
+import org.springframework.http.codec.cbor.Jackson2CborEncoder;
+import org.springframework.http.codec.json.Jackson2SmileDecoder;
+import org.springframework.http.codec.json.Jackson2SmileEncoder;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+
+/**
+ * 바이너리 응답 형식 (Accept 헤더로 선택)
+ * application/x-jackson-smile: Smile, application/cbor: CBOR
+ * JSON 과 같은 ObjectMapper 설정(snake_case, NON_NULL, 날짜 형식)을 사용하고,
+ * 레포지토리 기여 내역마다 반복되는 repository_full_name / repository_url 같은 문자열은 한 번만 쓰고 이후에는 참조로 쓴다.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class ResponseCodecConfig implements WebFluxConfigurer {
+    
+    public static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+    
+    private final ObjectMapper objectMapper;
+    
+    @Override
+    public void configureHttpMessageCodecs(ServerCodecConfigurer configurer) {
+        ObjectMapper smileMapper = smileMapper(objectMapper);
+        ObjectMapper cborMapper = cborMapper(objectMapper);
+        // 기본 Smile codec 은 별도 ObjectMapper 를 쓰므로 애플리케이션 설정을 따르는 codec 으로 교체
+        configurer.defaultCodecs().jackson2SmileEncoder(new Jackson2SmileEncoder(smileMapper));
+        configurer.defaultCodecs().jackson2SmileDecoder(new Jackson2SmileDecoder(smileMapper));
+        configurer.customCodecs().register(new Jackson2CborEncoder(cborMapper));
+        configurer.customCodecs().register(new Jackson2CborDecoder(cborMapper));
+    }
+    
+    /**
+     * JSON ObjectMapper 설정을 그대로 쓰는 Smile ObjectMapper (필드명과 짧은 문자열 값 공유)
+     */
+    public static ObjectMapper smileMapper(ObjectMapper jsonMapper) {
+        return jsonMapper.copyWith(SmileFactory.builder()
+                .enable(SmileGenerator.Feature.CHECK_SHARED_NAMES)
+                .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                .build());
+    }
+    
+    /**
+     * JSON ObjectMapper 설정을 그대로 쓰는 CBOR ObjectMapper (stringref 확장으로 반복 문자열 참조)
+     */
+    public static ObjectMapper cborMapper(ObjectMapper jsonMapper) {
+        return jsonMapper.copyWith(CBORFactory.builder()
+                .enable(CBORGenerator.Feature.STRINGREF)
+                .build());
+    }
+}
@@ -0,0 +1,72 @@
+package com.study.githubapi.assistant.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * LOC 스트리밍 응답 이벤트
+ * repository: 레포지토리 1개에 대한 사용자 기여도, progress: 누적 합계와 상위 사용자, summary: 최종 요약 (마지막 이벤트), error: 실패
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LocStreamEvent {
+    public static final String TYPE_REPOSITORY = "repository";
+    public static final String TYPE_PROGRESS = "progress";
+    public static final String TYPE_SUMMARY = "summary";
+    public static final String TYPE_ERROR = "error";
+    
+    private String type;
+    private LocalDateTime emittedAt;
+    private String username; // repository 이벤트
+    private LocSummaryResponse.RepositoryContribution repository; // repository 이벤트
+    private Integer repositoriesProcessed; // progress 이벤트
+    private Integer usersFound; // progress 이벤트
+    private Long totalLoc; // progress 이벤트
+    private List<LocSummaryOnlyResponse.UserLocSummaryOnly> userTotals; // progress 이벤트 (LOC 상위 사용자만)
+    private LocSummaryOnlyResponse summary; // summary 이벤트
+    private String message; // error 이벤트
+    
+    public static LocStreamEvent repository(String username, LocSummaryResponse.RepositoryContribution contribution) {
+        return LocStreamEvent.builder()
+                .type(TYPE_REPOSITORY)
+                .emittedAt(LocalDateTime.now())
+                .username(username)
+                .repository(contribution)
+                .build();
+    }
+    
+    public static LocStreamEvent progress(int repositoriesProcessed, int usersFound, long totalLoc,
+                                          List<LocSummaryOnlyResponse.UserLocSummaryOnly> userTotals) {
+        return LocStreamEvent.builder()
+                .type(TYPE_PROGRESS)
+                .emittedAt(LocalDateTime.now())
+                .repositoriesProcessed(repositoriesProcessed)
+                .usersFound(usersFound)
+                .totalLoc(totalLoc)
+                .userTotals(userTotals)
+                .build();
+    }
+    
+    public static LocStreamEvent summary(LocSummaryOnlyResponse summary) {
+        return LocStreamEvent.builder()
+                .type(TYPE_SUMMARY)
+                .emittedAt(LocalDateTime.now())
+                .summary(summary)
+                .build();
+    }
+    
+    public static LocStreamEvent error(String message) {
+        return LocStreamEvent.builder()
+                .type(TYPE_ERROR)
+                .emittedAt(LocalDateTime.now())
+                .message(message)
+                .build();
+    }
+}
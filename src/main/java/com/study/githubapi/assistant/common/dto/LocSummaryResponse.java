@@ -22,6 +22,7 @@ public class LocSummaryResponse {
     private LocalDateTime collectedAt;
     private List<UserLocSummary> userSummaries;
     private Map<String, Object> metadata;
+    private String nextCursor; // 다음 페이지 cursor (limit 을 지정했고 남은 사용자가 있을 때만)
     
     @Data
     @Builder
@@ -1,5 +1,8 @@
 package com.study.githubapi.assistant.common.exception;
 
+import com.study.githubapi.assistant.job.service.JobRejectedException;
+import com.study.githubapi.github.client.CircuitOpenException;
+import com.study.githubapi.github.client.RateLimitExceededException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -15,6 +18,18 @@ import java.util.Map;
 @RestControllerAdvice
 public class GlobalExceptionHandler {
     
+    /**
+     * 전용 handler 가 상태 코드를 정하는 예외인지 확인
+     * 컨트롤러가 오류를 500 응답으로 바꿀 때 이 예외들은 그대로 전달해 GitHub 응답 상태나 503/429/400/410 으로 응답하게 한다.
+     */
+    public static boolean hasOwnStatus(Throwable error) {
+        return error instanceof WebClientResponseException
+                || error instanceof CircuitOpenException
+                || error instanceof RateLimitExceededException
+                || error instanceof PageRequestException
+                || error instanceof IllegalArgumentException;
+    }
+    
     @ExceptionHandler(WebClientResponseException.class)
     public ResponseEntity<Map<String, Object>> handleWebClientResponseException(WebClientResponseException ex) {
         log.error("GitHub API error: {} - {}", ex.getStatusCode(), ex.getResponseBodyAsString());
@@ -29,6 +44,60 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(ex.getStatusCode()).body(errorResponse);
     }
     
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<Map<String, Object>> handleRateLimitExceededException(RateLimitExceededException ex) {
+        log.warn("GitHub rate limit exhausted: {}", ex.getMessage());
+        
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("timestamp", LocalDateTime.now());
+        errorResponse.put("status", HttpStatus.TOO_MANY_REQUESTS.value());
+        errorResponse.put("error", "Too Many Requests");
+        errorResponse.put("message", ex.getMessage());
+        errorResponse.put("retryAfterSeconds", ex.getWait().toSeconds());
+        
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(errorResponse);
+    }
+    
+    @ExceptionHandler(CircuitOpenException.class)
+    public ResponseEntity<Map<String, Object>> handleCircuitOpenException(CircuitOpenException ex) {
+        log.warn("GitHub request rejected by circuit breaker: {}", ex.getMessage());
+        
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("timestamp", LocalDateTime.now());
+        errorResponse.put("status", HttpStatus.SERVICE_UNAVAILABLE.value());
+        errorResponse.put("error", "Service Unavailable");
+        errorResponse.put("message", ex.getMessage());
+        errorResponse.put("retryAfterSeconds", ex.getRetryAfter().toSeconds());
+        
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(errorResponse);
+    }
+    
+    @ExceptionHandler(JobRejectedException.class)
+    public ResponseEntity<Map<String, Object>> handleJobRejectedException(JobRejectedException ex) {
+        log.warn("Aggregation job rejected: {}", ex.getMessage());
+        
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("timestamp", LocalDateTime.now());
+        errorResponse.put("status", HttpStatus.SERVICE_UNAVAILABLE.value());
+        errorResponse.put("error", "Service Unavailable");
+        errorResponse.put("message", ex.getMessage());
+        
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(errorResponse);
+    }
+    
+    @ExceptionHandler(PageRequestException.class)
+    public ResponseEntity<Map<String, Object>> handlePageRequestException(PageRequestException ex) {
+        log.warn("Invalid page request: {}", ex.getMessage());
+        
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("timestamp", LocalDateTime.now());
+        errorResponse.put("status", ex.getStatus().value());
+        errorResponse.put("error", ex.getStatus().getReasonPhrase());
+        errorResponse.put("message", ex.getMessage());
+        
+        return ResponseEntity.status(ex.getStatus()).body(errorResponse);
+    }
+    
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<Map<String, Object>> handleIllegalArgumentException(IllegalArgumentException ex) {
         log.error("Invalid argument: {}", ex.getMessage());
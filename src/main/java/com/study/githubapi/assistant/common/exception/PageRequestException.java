@@ -0,0 +1,26 @@
+package com.study.githubapi.assistant.common.exception;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+/**
+ * 잘못된 limit/cursor 요청 (400) 또는 보관 기간이 지난 cursor (410)
+ */
+@Getter
+public class PageRequestException extends RuntimeException {
+    
+    private final HttpStatus status;
+    
+    private PageRequestException(HttpStatus status, String message) {
+        super(message);
+        this.status = status;
+    }
+    
+    public static PageRequestException invalid(String message) {
+        return new PageRequestException(HttpStatus.BAD_REQUEST, message);
+    }
+    
+    public static PageRequestException expired(String message) {
+        return new PageRequestException(HttpStatus.GONE, message);
+    }
+}
@@ -0,0 +1,17 @@
+package com.study.githubapi.assistant.job.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "assistant.job")
+@Data
+public class AggregationJobConfig {
+    private int maxConcurrentJobs = 2;
+    private int maxQueuedJobs = 20;
+    private Duration retention = Duration.ofHours(1); // 완료된 작업 결과 보관 기간
+    private int maxRetainedJobs = 20; // 보관할 완료된 작업 수 (넘으면 먼저 끝난 작업부터 삭제, 상세 결과는 대형 조직에서 수십 MB)
+}
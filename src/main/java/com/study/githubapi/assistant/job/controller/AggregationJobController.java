@@ -0,0 +1,85 @@
+package com.study.githubapi.assistant.job.controller;
+
+import com.study.githubapi.assistant.job.dto.AggregationJobStatus;
+import com.study.githubapi.assistant.job.service.AggregationJobService;
+import jakarta.validation.constraints.NotBlank;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/loc/jobs")
+@RequiredArgsConstructor
+public class AggregationJobController {
+
+    private final AggregationJobService aggregationJobService;
+
+    /**
+     * 조직의 LOC 통계 상세 집계 작업 등록
+     * 집계는 백그라운드에서 실행되며, 작업 ID 로 진행 상황과 결과를 조회한다.
+     *
+     * @param org 조직명
+     * @param token GitHub Personal Access Token
+     * @param from 집계 시작 시점 (required)
+     * @param to 집계 종료 시점 (required)
+     * @param includeForks Fork 레포지토리 포함 여부 (default: false)
+     * @param includeArchived Archived 레포지토리 포함 여부 (default: false)
+     * @return 등록된 작업 상태 (202 Accepted)
+     */
+    @PostMapping("/repository/{org}")
+    public Mono<ResponseEntity<AggregationJobStatus>> submitOrganizationJob(
+            @PathVariable @NotBlank String org,
+            @RequestParam(required = false) String token,
+            @RequestParam(required = true)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = true)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "false") boolean includeForks,
+            @RequestParam(defaultValue = "false") boolean includeArchived) {
+
+        log.info("Received aggregation job request for org: {} from: {} to: {} includeForks: {} includeArchived: {}",
+                org, from, to, includeForks, includeArchived);
+
+        return Mono.fromCallable(() -> aggregationJobService.submitOrganizationJob(
+                        org, token, from, to, includeForks, includeArchived))
+                .map(status -> ResponseEntity.status(HttpStatus.ACCEPTED).body(status));
+    }
+
+    /**
+     * 작업 진행 상황 조회
+     *
+     * @param jobId 작업 ID
+     * @return 처리된 레포지토리 수 / 전체, 202 polling 중인 레포지토리 수, 사용한 rate limit 예산
+     */
+    @GetMapping("/{jobId}")
+    public Mono<ResponseEntity<AggregationJobStatus>> getJobStatus(@PathVariable @NotBlank String jobId) {
+        return Mono.just(aggregationJobService.getStatus(jobId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build()));
+    }
+
+    /**
+     * 완료된 작업 결과 조회
+     * 아직 실행 중이면 202 Accepted 와 진행 상황을, 실패했으면 500 과 작업 상태를 반환한다.
+     *
+     * @param jobId 작업 ID
+     * @return LOC 집계 결과 (레포지토리별 상세 정보 포함)
+     */
+    @GetMapping("/{jobId}/result")
+    public Mono<ResponseEntity<Object>> getJobResult(@PathVariable @NotBlank String jobId) {
+        return Mono.just(aggregationJobService.getStatus(jobId)
+                .map(status -> switch (status.getState()) {
+                    case "COMPLETED" -> ResponseEntity.ok((Object) aggregationJobService.getResult(jobId).orElse(null));
+                    case "FAILED" -> ResponseEntity.internalServerError().body((Object) status);
+                    default -> ResponseEntity.status(HttpStatus.ACCEPTED).body((Object) status);
+                })
+                .orElseGet(() -> ResponseEntity.notFound().build()));
+    }
+}
@@ -0,0 +1,29 @@
+package com.study.githubapi.assistant.job.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AggregationJobStatus {
+    private String jobId;
+    private String organization;
+    private String state; // QUEUED, RUNNING, COMPLETED, FAILED
+    private LocalDateTime submittedAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private Integer repositoriesTotal; // 지금까지 확인된 레포지토리 수 (목록 수집 중에는 증가)
+    private Integer repositoriesDone;
+    private Integer repositoriesRetrying; // 202 Accepted 로 polling 중인 레포지토리 수
+    private Long budgetConsumed; // rate limit 을 차감한 요청 수 (304 제외)
+    private Long notModified; // 304 Not Modified 로 응답받은 요청 수
+    private String statusUrl;
+    private String resultUrl;
+    private String error;
+}
@@ -0,0 +1,208 @@
+package com.study.githubapi.assistant.job.service;
+
+import com.study.githubapi.assistant.common.AggregationMetrics;
+import com.study.githubapi.assistant.common.dto.LocSummaryResponse;
+import com.study.githubapi.assistant.job.config.AggregationJobConfig;
+import com.study.githubapi.assistant.job.dto.AggregationJobStatus;
+import com.study.githubapi.assistant.repository.service.RepositoryLocService;
+import com.study.githubapi.github.service.FetchProgress;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 조직 LOC 집계를 비동기 작업으로 실행
+ * 작업은 대기열에 쌓이고 최대 동시 실행 수만큼만 실행된다.
+ * 완료된 작업은 retention 동안, 최대 max-retained-jobs 개까지 보관하며 작업 등록/조회와 작업 종료 시점에 정리한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AggregationJobService {
+
+    private final RepositoryLocService repositoryLocService;
+    private final AggregationJobConfig aggregationJobConfig;
+    private final AggregationMetrics aggregationMetrics;
+
+    private final Map<String, AggregationJob> jobs = new ConcurrentHashMap<>();
+    private final Sinks.Many<AggregationJob> queue = Sinks.many().unicast().onBackpressureBuffer();
+    private final AtomicInteger queued = new AtomicInteger();
+    private Disposable worker;
+
+    @PostConstruct
+    void startWorker() {
+        worker = queue.asFlux()
+                .flatMap(this::run, aggregationJobConfig.getMaxConcurrentJobs())
+                .subscribe();
+    }
+
+    @PreDestroy
+    void stopWorker() {
+        if (worker != null) {
+            worker.dispose();
+        }
+    }
+
+    /**
+     * 조직 LOC 집계 작업 등록
+     */
+    public AggregationJobStatus submitOrganizationJob(
+            String organization,
+            String token,
+            LocalDateTime from,
+            LocalDateTime to,
+            boolean includeForks,
+            boolean includeArchived) {
+
+        evictExpiredJobs();
+
+        if (queued.incrementAndGet() > aggregationJobConfig.getMaxQueuedJobs()) {
+            queued.decrementAndGet();
+            throw new JobRejectedException("Too many queued aggregation jobs (max " + aggregationJobConfig.getMaxQueuedJobs() + ")");
+        }
+
+        AggregationJob job = new AggregationJob(UUID.randomUUID().toString(), organization, token, from, to, includeForks, includeArchived);
+        jobs.put(job.id, job);
+        queue.emitNext(job, Sinks.EmitFailureHandler.busyLooping(Duration.ofSeconds(1)));
+
+        log.info("Submitted aggregation job {} for organization: {}", job.id, organization);
+        return toStatus(job);
+    }
+
+    /**
+     * 작업 상태 조회
+     */
+    public Optional<AggregationJobStatus> getStatus(String jobId) {
+        evictExpiredJobs();
+        return Optional.ofNullable(jobs.get(jobId)).map(this::toStatus);
+    }
+
+    /**
+     * 완료된 작업 결과 조회 (완료되지 않았으면 empty)
+     */
+    public Optional<LocSummaryResponse> getResult(String jobId) {
+        evictExpiredJobs();
+        return Optional.ofNullable(jobs.get(jobId)).map(job -> job.result);
+    }
+
+    private Mono<Void> run(AggregationJob job) {
+        return aggregationMetrics.timed(AggregationMetrics.ENDPOINT_JOB, repositoryLocService.aggregateOrganizationLocStats(
+                        job.organization, job.token, job.from, job.to, job.includeForks, job.includeArchived))
+                .contextWrite(context -> context.put(FetchProgress.CONTEXT_KEY, job.progress))
+                .doOnSubscribe(subscription -> {
+                    queued.decrementAndGet();
+                    job.state = JobState.RUNNING;
+                    job.startedAt = LocalDateTime.now();
+                    log.info("Started aggregation job {} for organization: {}", job.id, job.organization);
+                })
+                .doOnNext(result -> {
+                    job.result = result;
+                    job.state = JobState.COMPLETED;
+                    log.info("Completed aggregation job {} for organization: {}", job.id, job.organization);
+                })
+                .doOnError(error -> {
+                    job.error = error.getMessage();
+                    job.state = JobState.FAILED;
+                    log.error("Aggregation job {} failed for organization: {}", job.id, job.organization, error);
+                })
+                .doFinally(signal -> {
+                    job.finishedAt = LocalDateTime.now();
+                    job.token = null;
+                    evictExpiredJobs();
+                })
+                .then()
+                .onErrorResume(error -> Mono.empty());
+    }
+
+    /**
+     * 보관 기간이 지난 작업과, 보관 개수를 넘는 오래된 완료 작업 삭제
+     */
+    private void evictExpiredJobs() {
+        LocalDateTime expiredBefore = LocalDateTime.now().minus(aggregationJobConfig.getRetention());
+        jobs.values().removeIf(job -> job.finishedAt != null && job.finishedAt.isBefore(expiredBefore));
+
+        List<AggregationJob> finished = jobs.values().stream()
+                .filter(job -> job.finishedAt != null)
+                .sorted(Comparator.comparing((AggregationJob job) -> job.finishedAt).reversed())
+                .toList();
+        finished.stream()
+                .skip(aggregationJobConfig.getMaxRetainedJobs())
+                .forEach(job -> {
+                    jobs.remove(job.id, job);
+                    log.debug("Evicted aggregation job {} over max-retained-jobs", job.id);
+                });
+    }
+
+    private AggregationJobStatus toStatus(AggregationJob job) {
+        return AggregationJobStatus.builder()
+                .jobId(job.id)
+                .organization(job.organization)
+                .state(job.state.name())
+                .submittedAt(job.submittedAt)
+                .startedAt(job.startedAt)
+                .finishedAt(job.finishedAt)
+                .repositoriesTotal(job.progress.getRepositoriesDiscovered())
+                .repositoriesDone(job.progress.getRepositoriesCompleted())
+                .repositoriesRetrying(job.progress.getRepositoriesRetrying())
+                .budgetConsumed(job.progress.getRequestsSent())
+                .notModified(job.progress.getNotModified())
+                .statusUrl("/api/loc/jobs/" + job.id)
+                .resultUrl("/api/loc/jobs/" + job.id + "/result")
+                .error(job.error)
+                .build();
+    }
+
+    private enum JobState {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    /**
+     * 작업 1건의 파라미터와 진행 상태
+     */
+    private static final class AggregationJob {
+        private final String id;
+        private final String organization;
+        private final LocalDateTime from;
+        private final LocalDateTime to;
+        private final boolean includeForks;
+        private final boolean includeArchived;
+        private final LocalDateTime submittedAt = LocalDateTime.now();
+        private final FetchProgress progress = new FetchProgress();
+
+        private volatile String token;
+        private volatile JobState state = JobState.QUEUED;
+        private volatile LocalDateTime startedAt;
+        private volatile LocalDateTime finishedAt;
+        private volatile LocSummaryResponse result;
+        private volatile String error;
+
+        private AggregationJob(String id, String organization, String token, LocalDateTime from, LocalDateTime to,
+                               boolean includeForks, boolean includeArchived) {
+            this.id = id;
+            this.organization = organization;
+            this.token = token;
+            this.from = from;
+            this.to = to;
+            this.includeForks = includeForks;
+            this.includeArchived = includeArchived;
+        }
+    }
+}
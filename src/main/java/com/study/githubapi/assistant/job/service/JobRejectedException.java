@@ -0,0 +1,11 @@
+package com.study.githubapi.assistant.job.service;
+
+/**
+ * 대기 중인 작업이 너무 많아 새 작업을 받을 수 없는 경우
+ */
+public class JobRejectedException extends RuntimeException {
+    
+    public JobRejectedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,40 @@
+package com.study.githubapi.assistant.prewarm.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Configuration
+@EnableScheduling
+@ConfigurationProperties(prefix = "assistant.prewarm")
+@Data
+public class PrewarmConfig {
+    private boolean enabled = false;
+    private Duration jitter = Duration.ofMinutes(5); // 실행 시점마다 0 ~ jitter 사이 임의 지연 (여러 인스턴스가 동시에 갱신하지 않도록)
+    private int maxRequestsPerRun = 1000; // 1회 실행에서 사용할 수 있는 최대 요청 수
+    private double budgetRatio = 0.3; // 실행 시작 시점에 남은 rate limit 예산 중 사용할 수 있는 비율
+    private List<Target> targets = new ArrayList<>();
+    
+    /**
+     * 미리 갱신할 조직/사용자
+     */
+    @Data
+    public static class Target {
+        private TargetType type = TargetType.ORGANIZATION;
+        private String name;
+        private String cron = "0 0 */6 * * *"; // Spring cron (초 분 시 일 월 요일)
+        private String token; // 비어 있으면 토큰 풀 사용
+        private boolean includeForks = false;
+        private boolean includeArchived = false;
+    }
+    
+    public enum TargetType {
+        ORGANIZATION,
+        USER
+    }
+}
@@ -0,0 +1,189 @@
+package com.study.githubapi.assistant.prewarm.service;
+
+import com.study.githubapi.assistant.prewarm.config.PrewarmConfig;
+import com.study.githubapi.github.client.RateLimitTracker;
+import com.study.githubapi.github.client.TokenPool;
+import com.study.githubapi.github.dto.GitHubRepository;
+import com.study.githubapi.github.service.ContributorStatsCollector;
+import com.study.githubapi.github.service.FetchProgress;
+import com.study.githubapi.github.service.GitHubApiService;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 설정된 조직/사용자의 레포지토리 목록과 기여자 통계를 주기적으로 미리 갱신
+ * 갱신된 통계는 ContributorStatsCache 에, 목록 응답은 조건부 요청 캐시에 남아 이후 API 호출이 캐시에서 응답한다.
+ * 실행마다 jitter 만큼 임의로 늦춰 시작하고, 사용할 수 있는 요청 수를 제한한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PrewarmScheduler implements SchedulingConfigurer {
+    
+    private final PrewarmConfig prewarmConfig;
+    private final GitHubApiService gitHubApiService;
+    private final ContributorStatsCollector contributorStatsCollector;
+    private final TokenPool tokenPool;
+    
+    private final Map<String, TargetState> states = new ConcurrentHashMap<>();
+    
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        if (!prewarmConfig.isEnabled()) {
+            return;
+        }
+        for (PrewarmConfig.Target target : prewarmConfig.getTargets()) {
+            if (!StringUtils.hasText(target.getName())) {
+                log.warn("Skipping pre-warm target without a name");
+                continue;
+            }
+            TargetState state = states.computeIfAbsent(key(target), k -> new TargetState());
+            registrar.addCronTask(() -> trigger(target, state), target.getCron());
+            log.info("Scheduled pre-warm of {} {} with cron '{}'", target.getType(), target.getName(), target.getCron());
+        }
+    }
+    
+    @PreDestroy
+    void cancelRuns() {
+        states.values().stream()
+                .map(state -> state.run)
+                .filter(Objects::nonNull)
+                .forEach(Disposable::dispose);
+    }
+    
+    /**
+     * 대상별 최근 실행 현황
+     */
+    public List<Map<String, Object>> getStatistics() {
+        return prewarmConfig.getTargets().stream()
+                .filter(target -> states.containsKey(key(target)))
+                .map(target -> {
+                    TargetState state = states.get(key(target));
+                    Map<String, Object> statistics = new LinkedHashMap<>();
+                    statistics.put("target", key(target));
+                    statistics.put("cron", target.getCron());
+                    statistics.put("running", state.running.get());
+                    statistics.put("lastStartedAt", state.lastStartedAt);
+                    statistics.put("lastFinishedAt", state.lastFinishedAt);
+                    statistics.put("lastRepositories", state.lastRepositories);
+                    statistics.put("lastRequests", state.lastRequests);
+                    statistics.put("lastBudget", state.lastBudget);
+                    statistics.put("lastStoppedByBudget", state.lastStoppedByBudget);
+                    return statistics;
+                })
+                .toList();
+    }
+    
+    /**
+     * cron 시점에 호출 (스케줄러 스레드를 막지 않도록 jitter 대기와 수집은 비동기로 실행)
+     */
+    private void trigger(PrewarmConfig.Target target, TargetState state) {
+        if (!state.running.compareAndSet(false, true)) {
+            log.info("Previous pre-warm of {} is still running, skipping this run", key(target));
+            return;
+        }
+        Duration delay = jitter();
+        log.debug("Pre-warm of {} starts in {}s", key(target), delay.toSeconds());
+        state.run = Mono.delay(delay)
+                .then(Mono.defer(() -> run(target, state)))
+                .doFinally(signal -> state.running.set(false))
+                .subscribe();
+    }
+    
+    private Mono<Void> run(PrewarmConfig.Target target, TargetState state) {
+        long budget = budget(target.getToken());
+        if (budget <= 0) {
+            log.warn("Skipping pre-warm of {}: no rate limit budget left for background work", key(target));
+            return Mono.empty();
+        }
+        
+        FetchProgress progress = new FetchProgress();
+        AtomicBoolean stoppedByBudget = new AtomicBoolean();
+        state.lastStartedAt = LocalDateTime.now();
+        log.info("Pre-warming {} with a budget of {} requests", key(target), budget);
+        
+        // 예산을 다 쓰면 새 레포지토리는 더 요청하지 않고, 이미 시작한 통계 요청만 마무리한다
+        Flux<GitHubRepository> repositories = repositories(target)
+                .takeWhile(repository -> {
+                    boolean withinBudget = progress.getRequestsSent() < budget;
+                    stoppedByBudget.compareAndSet(false, !withinBudget);
+                    return withinBudget;
+                });
+        
+        return contributorStatsCollector.collect(repositories, target.getToken())
+                .then()
+                .contextWrite(context -> context.put(FetchProgress.CONTEXT_KEY, progress))
+                .doOnError(error -> log.error("Pre-warm of {} failed: {}", key(target), error.getMessage()))
+                .onErrorResume(error -> Mono.empty())
+                .doFinally(signal -> {
+                    state.lastFinishedAt = LocalDateTime.now();
+                    state.lastRepositories = progress.getRepositoriesCompleted();
+                    state.lastRequests = progress.getRequestsSent();
+                    state.lastBudget = budget;
+                    state.lastStoppedByBudget = stoppedByBudget.get();
+                    log.info("Pre-warmed {}: {} repositories, {} requests ({} not modified){}", key(target),
+                        progress.getRepositoriesCompleted(), progress.getRequestsSent(), progress.getNotModified(),
+                        stoppedByBudget.get() ? ", stopped at budget cap" : "");
+                });
+    }
+    
+    private Flux<GitHubRepository> repositories(PrewarmConfig.Target target) {
+        return switch (target.getType()) {
+            case ORGANIZATION -> gitHubApiService.getOrganizationRepositories(
+                    target.getName(), target.getToken(), target.isIncludeForks(), target.isIncludeArchived());
+            case USER -> gitHubApiService.getUserRepositories(
+                    target.getName(), target.getToken(), target.isIncludeForks(), target.isIncludeArchived());
+        };
+    }
+    
+    /**
+     * 이번 실행에서 사용할 수 있는 요청 수
+     * 요청 토큰(없으면 토큰 풀)의 남은 예산 중 budget-ratio 만큼, 최대 max-requests-per-run 까지
+     */
+    private long budget(String token) {
+        long available = tokenPool.available(token, RateLimitTracker.RESOURCE_CORE);
+        return Math.min(prewarmConfig.getMaxRequestsPerRun(), (long) (available * prewarmConfig.getBudgetRatio()));
+    }
+    
+    private Duration jitter() {
+        long maxMillis = prewarmConfig.getJitter().toMillis();
+        return maxMillis <= 0 ? Duration.ZERO : Duration.ofMillis(ThreadLocalRandom.current().nextLong(maxMillis + 1));
+    }
+    
+    private static String key(PrewarmConfig.Target target) {
+        return target.getType().name().toLowerCase(Locale.ROOT) + ":" + target.getName();
+    }
+    
+    /**
+     * 대상 1개의 실행 상태
+     */
+    private static final class TargetState {
+        private final AtomicBoolean running = new AtomicBoolean();
+        private volatile Disposable run;
+        private volatile LocalDateTime lastStartedAt;
+        private volatile LocalDateTime lastFinishedAt;
+        private volatile int lastRepositories;
+        private volatile long lastRequests;
+        private volatile long lastBudget;
+        private volatile boolean lastStoppedByBudget;
+    }
+}
@@ -1,15 +1,25 @@
 package com.study.githubapi.assistant.repository.controller;
 
+import com.study.githubapi.assistant.common.AggregationMetrics;
+import com.study.githubapi.assistant.common.LocSummaryStreamWriter;
+import com.study.githubapi.assistant.common.config.ResponseCodecConfig;
+import com.study.githubapi.assistant.common.dto.LocStreamEvent;
 import com.study.githubapi.assistant.common.dto.LocSummaryResponse;
 import com.study.githubapi.assistant.common.dto.LocSummaryOnlyResponse;
+import com.study.githubapi.assistant.common.exception.GlobalExceptionHandler;
 import com.study.githubapi.assistant.repository.service.RepositoryLocService;
+import com.study.githubapi.github.dto.RateLimitStatus;
 import com.study.githubapi.github.service.GitHubApiService;
 import jakarta.validation.constraints.NotBlank;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.LocalDateTime;
@@ -22,9 +32,15 @@ public class RepositoryLocController {
     
     private final RepositoryLocService repositoryLocService;
     private final GitHubApiService gitHubApiService;
+    private final AggregationMetrics aggregationMetrics;
+    private final LocSummaryStreamWriter locSummaryStreamWriter;
     
     /**
-     * 조직의 LOC 통계 조회 (레포지토리별 상세 정보 포함)
+     * 조직의 LOC 통계 조회 (레포지토리별 상세 정보 포함, JSON)
+     * 응답 객체를 메모리에 만들지 않고 사용자 단위로 인코딩해 바로 전송하며, 조직/기간 등 앞부분은 레포지토리 목록 첫 페이지를 받으면 먼저 보낸다.
+     * 그 전의 실패(잘못된 토큰, rate limit, circuit open 등)는 오류 상태 코드로 응답하고,
+     * 응답 전송이 시작된 뒤 집계가 실패하면 상태 코드를 바꿀 수 없으므로 연결을 끊는다 (본문이 완전한 JSON 이 아님).
+     * limit/cursor 를 지정한 페이지 조회는 집계가 끝난 뒤 한 번에 응답한다.
      * 
      * @param org 조직명
      * @param token GitHub Personal Access Token
@@ -32,26 +48,76 @@ public class RepositoryLocController {
      * @param to 집계 종료 시점 (required)
      * @param includeForks Fork 레포지토리 포함 여부 (default: false)
      * @param includeArchived Archived 레포지토리 포함 여부 (default: false)
+     * @param limit 페이지 크기 (지정하면 LOC 상위 limit 명만 반환하고 다음 페이지 cursor 를 함께 반환)
+     * @param cursor 이전 응답의 next_cursor (같은 조건으로 요청, 집계를 다시 하지 않음)
      * @return LOC 집계 결과 (레포지토리별 상세 정보 포함)
      */
     @GetMapping("/{org}/detailed")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> streamOrganizationLocStatsDetailed(
+            @PathVariable @NotBlank String org,
+            @RequestParam(required = false) String token,
+            @RequestParam(required = true) 
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = true) 
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "false") boolean includeForks,
+            @RequestParam(defaultValue = "false") boolean includeArchived,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor) {
+        
+        if (limit != null || cursor != null) {
+            return getOrganizationLocStatsDetailed(org, token, from, to, includeForks, includeArchived, limit, cursor)
+                    .map(response -> response.getBody() == null
+                            ? ResponseEntity.status(response.getStatusCode()).<Flux<DataBuffer>>build()
+                            : json(Flux.just(locSummaryStreamWriter.encode(response.getBody()))));
+        }
+        
+        log.info("Received streamed detailed LOC stats request for org: {} from: {} to: {} includeForks: {} includeArchived: {}", 
+                org, from, to, includeForks, includeArchived);
+        
+        Flux<DataBuffer> body = aggregationMetrics.timed(AggregationMetrics.ENDPOINT_REPOSITORY_DETAILED,
+                        repositoryLocService.writeOrganizationLocStats(org, token, from, to, includeForks, includeArchived))
+                .doOnComplete(() -> log.info("Successfully streamed detailed LOC stats for org: {}", org));
+        return Mono.just(json(body));
+    }
+    
+    /**
+     * 조직의 LOC 통계 조회 (레포지토리별 상세 정보 포함, Smile/CBOR)
+     * JSON 요청은 streamOrganizationLocStatsDetailed 가 처리한다.
+     * 
+     * @param org 조직명
+     * @param token GitHub Personal Access Token
+     * @param from 집계 시작 시점 (required)
+     * @param to 집계 종료 시점 (required)
+     * @param includeForks Fork 레포지토리 포함 여부 (default: false)
+     * @param includeArchived Archived 레포지토리 포함 여부 (default: false)
+     * @param limit 페이지 크기 (지정하면 LOC 상위 limit 명만 반환하고 다음 페이지 cursor 를 함께 반환)
+     * @param cursor 이전 응답의 next_cursor (같은 조건으로 요청, 집계를 다시 하지 않음)
+     * @return LOC 집계 결과 (레포지토리별 상세 정보 포함)
+     */
+    @GetMapping(value = "/{org}/detailed", produces = {ResponseCodecConfig.APPLICATION_SMILE_VALUE, MediaType.APPLICATION_CBOR_VALUE})
     public Mono<ResponseEntity<LocSummaryResponse>> getOrganizationLocStatsDetailed(
             @PathVariable @NotBlank String org,
-            @RequestParam @NotBlank String token,
+            @RequestParam(required = false) String token,
             @RequestParam(required = true) 
             @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
             @RequestParam(required = true) 
             @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
             @RequestParam(defaultValue = "false") boolean includeForks,
-            @RequestParam(defaultValue = "false") boolean includeArchived) {
+            @RequestParam(defaultValue = "false") boolean includeArchived,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor) {
         
         log.info("Received detailed LOC stats request for org: {} from: {} to: {} includeForks: {} includeArchived: {}", 
                 org, from, to, includeForks, includeArchived);
         
-        return repositoryLocService.aggregateOrganizationLocStats(org, token, from, to, includeForks, includeArchived)
+        return aggregationMetrics.timed(AggregationMetrics.ENDPOINT_REPOSITORY_DETAILED,
+                        limit == null && cursor == null
+                                ? repositoryLocService.aggregateOrganizationLocStats(org, token, from, to, includeForks, includeArchived)
+                                : repositoryLocService.aggregateOrganizationLocStats(org, token, from, to, includeForks, includeArchived, limit, cursor))
                 .map(ResponseEntity::ok)
                 .doOnSuccess(response -> log.info("Successfully returned detailed LOC stats for org: {}", org))
-                .onErrorResume(error -> {
+                .onErrorResume(error -> !GlobalExceptionHandler.hasOwnStatus(error), error -> {
                     log.error("Failed to get detailed LOC stats for org: {}", org, error);
                     return Mono.just(ResponseEntity.internalServerError().build());
                 });
@@ -66,31 +132,92 @@ public class RepositoryLocController {
      * @param to 집계 종료 시점 (required)
      * @param includeForks Fork 레포지토리 포함 여부 (default: false)
      * @param includeArchived Archived 레포지토리 포함 여부 (default: false)
+     * @param limit 페이지 크기 (지정하면 LOC 상위 limit 명만 반환하고 다음 페이지 cursor 를 함께 반환)
+     * @param cursor 이전 응답의 next_cursor (같은 조건으로 요청, 집계를 다시 하지 않음)
      * @return LOC 집계 요약 결과 (사용자별 요약만)
      */
     @GetMapping("/{org}")
     public Mono<ResponseEntity<LocSummaryOnlyResponse>> getOrganizationLocStatsSummary(
             @PathVariable @NotBlank String org,
-            @RequestParam @NotBlank String token,
+            @RequestParam(required = false) String token,
             @RequestParam(required = true) 
             @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
             @RequestParam(required = true) 
             @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
             @RequestParam(defaultValue = "false") boolean includeForks,
-            @RequestParam(defaultValue = "false") boolean includeArchived) {
+            @RequestParam(defaultValue = "false") boolean includeArchived,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor) {
         
         log.info("Received summary LOC stats request for org: {} from: {} to: {} includeForks: {} includeArchived: {}", 
                 org, from, to, includeForks, includeArchived);
         
-        return repositoryLocService.aggregateOrganizationLocStatsSummary(org, token, from, to, includeForks, includeArchived)
+        return aggregationMetrics.timed(AggregationMetrics.ENDPOINT_REPOSITORY_SUMMARY,
+                        limit == null && cursor == null
+                                ? repositoryLocService.aggregateOrganizationLocStatsSummary(org, token, from, to, includeForks, includeArchived)
+                                : repositoryLocService.aggregateOrganizationLocStatsSummary(org, token, from, to, includeForks, includeArchived, limit, cursor))
                 .map(ResponseEntity::ok)
                 .doOnSuccess(response -> log.info("Successfully returned summary LOC stats for org: {}", org))
-                .onErrorResume(error -> {
+                .onErrorResume(error -> !GlobalExceptionHandler.hasOwnStatus(error), error -> {
                     log.error("Failed to get summary LOC stats for org: {}", org, error);
                     return Mono.just(ResponseEntity.internalServerError().build());
                 });
     }
     
+    /**
+     * 조직의 LOC 통계 스트리밍 조회 (NDJSON)
+     * 레포지토리 통계가 도착하는 즉시 사용자별 기여도를 한 줄씩 전송하며, 마지막 이벤트는 요약이다.
+     * 
+     * @param org 조직명
+     * @param token GitHub Personal Access Token
+     * @param from 집계 시작 시점 (required)
+     * @param to 집계 종료 시점 (required)
+     * @param includeForks Fork 레포지토리 포함 여부 (default: false)
+     * @param includeArchived Archived 레포지토리 포함 여부 (default: false)
+     * @return repository / progress / summary 이벤트 스트림
+     */
+    @GetMapping(value = "/{org}/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<LocStreamEvent> streamOrganizationLocStats(
+            @PathVariable @NotBlank String org,
+            @RequestParam(required = false) String token,
+            @RequestParam(required = true) 
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = true) 
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "false") boolean includeForks,
+            @RequestParam(defaultValue = "false") boolean includeArchived) {
+        
+        log.info("Received streaming LOC stats request for org: {} from: {} to: {} includeForks: {} includeArchived: {}", 
+                org, from, to, includeForks, includeArchived);
+        
+        return aggregationMetrics.timed(AggregationMetrics.ENDPOINT_REPOSITORY_STREAM,
+                        repositoryLocService.streamOrganizationLocStats(org, token, from, to, includeForks, includeArchived))
+                .onErrorResume(error -> Mono.just(LocStreamEvent.error("Failed to stream LOC stats: " + error.getMessage())));
+    }
+    
+    /**
+     * 조직의 LOC 통계 스트리밍 조회 (Server-Sent Events)
+     * 이벤트 이름은 repository / progress / summary / error 이다.
+     */
+    @GetMapping(value = "/{org}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<LocStreamEvent>> streamOrganizationLocStatsEvents(
+            @PathVariable @NotBlank String org,
+            @RequestParam(required = false) String token,
+            @RequestParam(required = true) 
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = true) 
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "false") boolean includeForks,
+            @RequestParam(defaultValue = "false") boolean includeArchived) {
+        
+        return streamOrganizationLocStats(org, token, from, to, includeForks, includeArchived)
+                .index()
+                .map(indexed -> ServerSentEvent.builder(indexed.getT2())
+                        .id(String.valueOf(indexed.getT1()))
+                        .event(indexed.getT2().getType())
+                        .build());
+    }
+    
     /**
      * 조직 내 특정 사용자의 LOC 통계 조회
      * 
@@ -107,7 +234,7 @@ public class RepositoryLocController {
     public Mono<ResponseEntity<LocSummaryResponse.UserLocSummary>> getOrganizationUserLocStats(
             @PathVariable @NotBlank String org,
             @PathVariable @NotBlank String user,
-            @RequestParam @NotBlank String token,
+            @RequestParam(required = false) String token,
             @RequestParam(required = true) 
             @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
             @RequestParam(required = true) 
@@ -118,20 +245,15 @@ public class RepositoryLocController {
         log.info("Received user LOC stats request for org: {} user: {} from: {} to: {} includeForks: {} includeArchived: {}", 
                 org, user, from, to, includeForks, includeArchived);
         
-        return repositoryLocService.aggregateOrganizationLocStats(org, token, from, to, includeForks, includeArchived)
-                .map(response -> response.getUserSummaries().stream()
-                        .filter(u -> u.getUsername().equals(user))
-                        .findFirst()
-                        .orElse(null))
-                .map(userSummary -> {
-                    if (userSummary == null) {
-                        log.warn("User {} not found in organization {}", user, org);
-                        return ResponseEntity.notFound().<LocSummaryResponse.UserLocSummary>build();
-                    }
-                    return ResponseEntity.ok(userSummary);
-                })
+        return aggregationMetrics.timed(AggregationMetrics.ENDPOINT_REPOSITORY_USER,
+                        repositoryLocService.aggregateOrganizationUserLocStats(org, user, token, from, to, includeForks, includeArchived))
+                .map(ResponseEntity::ok)
+                .switchIfEmpty(Mono.fromSupplier(() -> {
+                    log.warn("User {} not found in organization {}", user, org);
+                    return ResponseEntity.notFound().<LocSummaryResponse.UserLocSummary>build();
+                }))
                 .doOnSuccess(response -> log.info("Successfully returned user LOC stats for org: {} user: {}", org, user))
-                .onErrorResume(error -> {
+                .onErrorResume(error -> !GlobalExceptionHandler.hasOwnStatus(error), error -> {
                     log.error("Failed to get user LOC stats for org: {} user: {}", org, user, error);
                     return Mono.just(ResponseEntity.internalServerError().build());
                 });
@@ -139,22 +261,26 @@ public class RepositoryLocController {
     
     /**
      * GitHub API Rate Limit 상태 조회
+     * 요청마다 응답 헤더로 갱신되는 로컬 예산을 반환 (GitHub /rate_limit 호출 없음)
      * 
      * @param token GitHub Personal Access Token
      * @return Rate Limit 정보
      */
     @GetMapping("/rate-limit")
-    public Mono<ResponseEntity<String>> getRateLimitStatus(@RequestParam @NotBlank String token) {
+    public Mono<ResponseEntity<RateLimitStatus>> getRateLimitStatus(@RequestParam @NotBlank String token) {
         log.info("Received rate limit status request");
         
         return gitHubApiService.getRateLimitStatus(token)
                 .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build())
                 .doOnSuccess(response -> log.info("Successfully returned rate limit status"))
                 .onErrorResume(error -> {
                     log.error("Failed to get rate limit status", error);
-                    return Mono.just(ResponseEntity.internalServerError()
-                            .body("Failed to retrieve rate limit status: " + error.getMessage()));
+                    return Mono.just(ResponseEntity.internalServerError().build());
                 });
     }
+    
+    private static ResponseEntity<Flux<DataBuffer>> json(Flux<DataBuffer> body) {
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
 }
-
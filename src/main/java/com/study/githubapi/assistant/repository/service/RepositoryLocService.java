@@ -1,15 +1,30 @@
 package com.study.githubapi.assistant.repository.service;
 
+import com.study.githubapi.assistant.common.AggregationKey;
+import com.study.githubapi.assistant.common.AggregationSnapshot;
+import com.study.githubapi.assistant.common.AggregationSnapshotStore;
+import com.study.githubapi.assistant.common.LocAccumulator;
 import com.study.githubapi.assistant.common.LocAggregationHelper;
+import com.study.githubapi.assistant.common.LocSummaryStreamWriter;
+import com.study.githubapi.assistant.common.PageCursor;
+import com.study.githubapi.assistant.common.config.LocStreamConfig;
 import com.study.githubapi.assistant.common.dto.LocSummaryOnlyResponse;
+import com.study.githubapi.assistant.common.dto.LocStreamEvent;
 import com.study.githubapi.assistant.common.dto.LocSummaryResponse;
 import com.study.githubapi.github.service.GitHubApiService;
+import com.study.githubapi.github.service.SingleFlight;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Slf4j
 @Service
@@ -18,6 +33,16 @@ public class RepositoryLocService {
     
     private final GitHubApiService gitHubApiService;
     private final LocAggregationHelper locAggregationHelper;
+    private final LocStreamConfig locStreamConfig;
+    private final AggregationSnapshotStore aggregationSnapshotStore;
+    private final LocSummaryStreamWriter locSummaryStreamWriter;
+    
+    // 대시보드처럼 같은 조건의 요청이 동시에 몰리면 진행 중인 집계 하나를 함께 사용
+    private final SingleFlight<AggregationKey, LocAccumulator> detailedFlight = new SingleFlight<>("organization-loc");
+    private final SingleFlight<AggregationKey, LocAccumulator> summaryFlight = new SingleFlight<>("organization-loc-summary");
+    private final SingleFlight<AggregationKey, LocSummaryResponse.UserLocSummary> userFlight = new SingleFlight<>("organization-user-loc");
+    // 진행 중인 상세 집계별 레포지토리 목록 수신 신호 (스트리밍 응답의 시작 시점)
+    private final Map<AggregationKey, Sinks.Empty<Void>> detailedListings = new ConcurrentHashMap<>();
     
     /**
      * 조직의 LOC 통계를 집계
@@ -33,20 +58,76 @@ public class RepositoryLocService {
         log.info("Starting LOC aggregation for organization: {} from: {} to: {} includeForks: {} includeArchived: {}", 
                 organization, from, to, includeForks, includeArchived);
         
-        return gitHubApiService.getOrganizationRepositories(organization, token, includeForks, includeArchived)
-                .flatMap(repo -> locAggregationHelper.getRepositoryStats(repo, token, from, to))
-                .filter(repoStats -> repoStats != null && !repoStats.getContributorStats().isEmpty())
-                .collectList()
-                .map(repoStatsList -> {
+        AggregationKey key = AggregationKey.of(organization, token, from, to, includeForks, includeArchived);
+        return aggregateDetailed(key, organization, token, from, to, includeForks, includeArchived)
+                .map(accumulator -> {
                     LocSummaryResponse response = locAggregationHelper.buildLocSummaryResponse(
-                            organization, from, to, includeForks, includeArchived, repoStatsList);
+                            organization, from, to, includeForks, includeArchived, accumulator);
                     log.info("Completed LOC aggregation for organization: {}. Found {} users across {} repositories", 
-                            organization, response.getUserSummaries().size(), repoStatsList.size());
+                            organization, response.getUserSummaries().size(), accumulator.getRepositoryCount());
                     return response;
                 })
                 .doOnError(error -> log.error("Failed to aggregate LOC stats for organization: {}", organization, error));
     }
     
+    /**
+     * 조직의 LOC 통계를 집계해 JSON 으로 바로 인코딩한 스트림
+     * 응답 앞부분은 레포지토리 목록을 받기 시작하면 내보내고, 사용자 목록은 집계가 끝난 뒤 순위대로 조금씩 인코딩해 전송한다.
+     */
+    public Flux<DataBuffer> writeOrganizationLocStats(
+            String organization, 
+            String token,
+            LocalDateTime from,
+            LocalDateTime to,
+            boolean includeForks, 
+            boolean includeArchived) {
+        
+        log.info("Starting streamed LOC aggregation for organization: {} from: {} to: {} includeForks: {} includeArchived: {}", 
+                organization, from, to, includeForks, includeArchived);
+        
+        AggregationKey key = AggregationKey.of(organization, token, from, to, includeForks, includeArchived);
+        Mono<LocAccumulator> accumulator = aggregateDetailed(key, organization, token, from, to, includeForks, includeArchived)
+                .doOnNext(acc -> log.info("Completed LOC aggregation for organization: {}. Found {} users across {} repositories", 
+                        organization, acc.getUserCount(), acc.getRepositoryCount()));
+        // 첫 목록 페이지를 받기 전의 실패(잘못된 토큰, rate limit, circuit open 등)는 응답 시작 전에 전달되어 오류 상태 코드로 응답한다
+        return locSummaryStreamWriter.write(organization, from, to, includeForks, includeArchived,
+                        detailedListingStarted(key), accumulator)
+                .doOnError(error -> log.error("Failed to stream LOC stats for organization: {}", organization, error));
+    }
+    
+    /**
+     * 조직의 LOC 통계를 페이지 단위로 조회 (상위 limit 명)
+     * cursor 가 없으면 집계 후 결과를 snapshot 으로 보관하고 첫 페이지를 반환하며,
+     * cursor 가 있으면 보관된 snapshot 에서 다음 페이지를 잘라 반환한다 (집계를 다시 하지 않음).
+     */
+    public Mono<LocSummaryResponse> aggregateOrganizationLocStats(
+            String organization, 
+            String token,
+            LocalDateTime from,
+            LocalDateTime to,
+            boolean includeForks, 
+            boolean includeArchived,
+            Integer limit,
+            String cursor) {
+        
+        return Mono.defer(() -> {
+            int pageSize = aggregationSnapshotStore.limitOf(limit);
+            AggregationKey key = AggregationKey.of(organization, token, from, to, includeForks, includeArchived);
+            if (cursor != null) {
+                PageCursor pageCursor = PageCursor.decode(cursor);
+                AggregationSnapshot snapshot = aggregationSnapshotStore.resolve(pageCursor, key, true);
+                return Mono.just(locAggregationHelper.buildLocSummaryPage(
+                        organization, from, to, includeForks, includeArchived, snapshot, pageCursor.offset(), pageSize));
+            }
+            
+            log.info("Starting paged LOC aggregation for organization: {} from: {} to: {} limit: {}", 
+                    organization, from, to, pageSize);
+            return aggregateDetailed(key, organization, token, from, to, includeForks, includeArchived)
+                    .map(accumulator -> locAggregationHelper.buildLocSummaryPage(organization, from, to, includeForks, includeArchived,
+                            aggregationSnapshotStore.retain(key, true, accumulator), 0, pageSize));
+        });
+    }
+    
     /**
      * 조직의 LOC 통계를 집계 (사용자별 요약만)
      */
@@ -61,16 +142,160 @@ public class RepositoryLocService {
         log.info("Starting LOC summary aggregation for organization: {} from: {} to: {} includeForks: {} includeArchived: {}", 
                 organization, from, to, includeForks, includeArchived);
         
-        return gitHubApiService.getOrganizationRepositories(organization, token, includeForks, includeArchived)
-                .flatMap(repo -> locAggregationHelper.getRepositoryStats(repo, token, from, to))
-                .filter(repoStats -> repoStats != null && !repoStats.getContributorStats().isEmpty())
-                .collectList()
-                .map(repoStatsList -> locAggregationHelper.buildLocSummaryOnlyResponse(
-                        organization, from, to, includeForks, includeArchived, repoStatsList))
+        AggregationKey key = AggregationKey.of(organization, token, from, to, includeForks, includeArchived);
+        return aggregateSummary(key, organization, token, from, to, includeForks, includeArchived)
+                .map(accumulator -> locAggregationHelper.buildLocSummaryOnlyResponse(
+                        organization, from, to, includeForks, includeArchived, accumulator))
                 .doOnSuccess(response -> log.info("Completed LOC summary aggregation for organization: {}. Found {} users across {} repositories", 
                         organization, response.getUserSummaries().size(), 
                         response.getMetadata().get("totalRepositories")))
                 .doOnError(error -> log.error("Failed to aggregate LOC summary stats for organization: {}", organization, error));
     }
+    
+    /**
+     * 조직의 LOC 통계 요약을 페이지 단위로 조회 (상위 limit 명)
+     * cursor 가 없으면 집계 후 결과를 snapshot 으로 보관하고 첫 페이지를 반환하며,
+     * cursor 가 있으면 보관된 snapshot 에서 다음 페이지를 잘라 반환한다 (집계를 다시 하지 않음).
+     */
+    public Mono<LocSummaryOnlyResponse> aggregateOrganizationLocStatsSummary(
+            String organization, 
+            String token,
+            LocalDateTime from,
+            LocalDateTime to,
+            boolean includeForks, 
+            boolean includeArchived,
+            Integer limit,
+            String cursor) {
+        
+        return Mono.defer(() -> {
+            int pageSize = aggregationSnapshotStore.limitOf(limit);
+            AggregationKey key = AggregationKey.of(organization, token, from, to, includeForks, includeArchived);
+            if (cursor != null) {
+                PageCursor pageCursor = PageCursor.decode(cursor);
+                AggregationSnapshot snapshot = aggregationSnapshotStore.resolve(pageCursor, key, false);
+                return Mono.just(locAggregationHelper.buildLocSummaryOnlyPage(
+                        organization, from, to, includeForks, includeArchived, snapshot, pageCursor.offset(), pageSize));
+            }
+            
+            log.info("Starting paged LOC summary aggregation for organization: {} from: {} to: {} limit: {}", 
+                    organization, from, to, pageSize);
+            return aggregateSummary(key, organization, token, from, to, includeForks, includeArchived)
+                    .map(accumulator -> locAggregationHelper.buildLocSummaryOnlyPage(organization, from, to, includeForks, includeArchived,
+                            aggregationSnapshotStore.retain(key, false, accumulator), 0, pageSize));
+        });
+    }
+    
+    private Mono<LocAccumulator> aggregateDetailed(AggregationKey key, String organization, String token,
+                                                   LocalDateTime from, LocalDateTime to,
+                                                   boolean includeForks, boolean includeArchived) {
+        return detailedFlight.execute(key, () -> {
+            Sinks.Empty<Void> listed = Sinks.empty();
+            detailedListings.put(key, listed);
+            return gitHubApiService.getOrganizationRepositories(organization, token, includeForks, includeArchived)
+                    .doOnNext(repository -> listed.tryEmitEmpty())
+                    .doOnComplete(listed::tryEmitEmpty)
+                    .transform(repos -> locAggregationHelper.collectRepositoryStats(repos, token, from, to))
+                    .filter(repoStats -> repoStats != null && !repoStats.getContributorStats().isEmpty())
+                    .as(repoStats -> locAggregationHelper.accumulate(repoStats, () -> new LocAccumulator(true)))
+                    .doFinally(signal -> detailedListings.remove(key, listed));
+        });
+    }
+    
+    /**
+     * 진행 중인 상세 집계가 레포지토리 목록을 받기 시작하면 완료 (진행 중인 집계가 없으면 바로 완료)
+     * 집계를 구독한 뒤에 구독해야 한다.
+     */
+    private Mono<Void> detailedListingStarted(AggregationKey key) {
+        return Mono.defer(() -> {
+            Sinks.Empty<Void> listed = detailedListings.get(key);
+            return listed != null ? listed.asMono() : Mono.empty();
+        });
+    }
+    
+    private Mono<LocAccumulator> aggregateSummary(AggregationKey key, String organization, String token,
+                                                  LocalDateTime from, LocalDateTime to,
+                                                  boolean includeForks, boolean includeArchived) {
+        return summaryFlight.execute(key, () -> gitHubApiService.getOrganizationRepositories(organization, token, includeForks, includeArchived)
+                .transform(repos -> locAggregationHelper.collectRepositoryStats(repos, token, from, to))
+                .filter(repoStats -> repoStats != null && !repoStats.getContributorStats().isEmpty())
+                .as(repoStats -> locAggregationHelper.accumulate(repoStats, LocAccumulator::new)));
+    }
+    
+    /**
+     * 조직 내 특정 사용자의 LOC 통계를 집계
+     * 조직 전체를 집계하지 않고 해당 사용자의 기여만 누적한다. 기여가 없으면 empty.
+     */
+    public Mono<LocSummaryResponse.UserLocSummary> aggregateOrganizationUserLocStats(
+            String organization, 
+            String username,
+            String token,
+            LocalDateTime from,
+            LocalDateTime to,
+            boolean includeForks, 
+            boolean includeArchived) {
+        
+        log.info("Starting LOC aggregation for organization: {} user: {} from: {} to: {} includeForks: {} includeArchived: {}", 
+                organization, username, from, to, includeForks, includeArchived);
+        
+        AggregationKey key = AggregationKey.of(organization + "/" + username, token, from, to, includeForks, includeArchived);
+        return userFlight.execute(key, () -> gitHubApiService.getOrganizationRepositories(organization, token, includeForks, includeArchived)
+                .transform(repos -> locAggregationHelper.collectUserRepositoryStats(repos, username, token, from, to))
+                .filter(repoStats -> repoStats != null && !repoStats.getContributorStats().isEmpty())
+                .as(repoStats -> locAggregationHelper.accumulate(repoStats, () -> new LocAccumulator(true)))
+                .flatMap(accumulator -> Mono.justOrEmpty(accumulator.find(username)))
+                .doOnSuccess(response -> log.info("Completed LOC aggregation for organization: {} user: {}. Found: {}", 
+                        organization, username, response != null))
+                .doOnError(error -> log.error("Failed to aggregate LOC stats for organization: {} user: {}", organization, username, error)));
+    }
+    
+    /**
+     * 조직의 LOC 통계를 스트리밍으로 집계
+     * 레포지토리 통계가 도착할 때마다 사용자별 기여도를 전송하고, 주기적으로 누적 합계를, 마지막에 요약을 전송한다.
+     */
+    public Flux<LocStreamEvent> streamOrganizationLocStats(
+            String organization, 
+            String token,
+            LocalDateTime from,
+            LocalDateTime to,
+            boolean includeForks, 
+            boolean includeArchived) {
+        
+        log.info("Starting streaming LOC aggregation for organization: {} from: {} to: {} includeForks: {} includeArchived: {}", 
+                organization, from, to, includeForks, includeArchived);
+        
+        return Flux.defer(() -> {
+            LocAccumulator accumulator = new LocAccumulator();
+            Sinks.Empty<Void> repositoriesDone = Sinks.empty();
+            
+            Flux<LocStreamEvent> repositoryEvents = gitHubApiService.getOrganizationRepositories(organization, token, includeForks, includeArchived)
+                    .transform(repos -> locAggregationHelper.collectRepositoryStats(repos, token, from, to))
+                    .filter(repoStats -> repoStats != null && !repoStats.getContributorStats().isEmpty())
+                    .concatMapIterable(repoStats -> {
+                        List<LocAggregationHelper.AuthoredContribution> contributions = 
+                                locAggregationHelper.calculateRepositoryContributions(repoStats);
+                        accumulator.add(contributions);
+                        return contributions.stream()
+                                .filter(LocAggregationHelper.AuthoredContribution::hasActivity)
+                                .map(authored -> LocStreamEvent.repository(authored.author().getLogin(), authored.contribution()))
+                                .toList();
+                    })
+                    .doFinally(signal -> repositoriesDone.tryEmitEmpty());
+            
+            // 대형 조직은 사용자가 수천 명이므로 매 주기 전체 목록 대신 합계와 상위 사용자만 전송
+            int topUsers = locStreamConfig.getProgressTopUsers();
+            Flux<LocStreamEvent> progressEvents = Flux.interval(locStreamConfig.getProgressInterval())
+                    .map(tick -> LocStreamEvent.progress(accumulator.getRepositoryCount(), accumulator.getUserCount(),
+                            accumulator.getTotalLoc(), accumulator.top(topUsers).page(0, topUsers)))
+                    .takeUntilOther(repositoriesDone.asMono());
+            
+            Mono<LocStreamEvent> summaryEvent = Mono.fromCallable(() -> LocStreamEvent.summary(
+                    locAggregationHelper.buildLocSummaryOnlyResponse(organization, from, to, includeForks, includeArchived, accumulator)));
+            
+            return Flux.merge(repositoryEvents, progressEvents)
+                    .concatWith(summaryEvent)
+                    .doOnComplete(() -> log.info("Completed streaming LOC aggregation for organization: {} ({} repositories)", 
+                            organization, accumulator.getRepositoryCount()));
+        })
+        .doOnError(error -> log.error("Failed to stream LOC stats for organization: {}", organization, error));
+    }
 }
-
@@ -1,6 +1,8 @@
 package com.study.githubapi.assistant.user.controller;
 
+import com.study.githubapi.assistant.common.AggregationMetrics;
 import com.study.githubapi.assistant.common.dto.LocSummaryResponse;
+import com.study.githubapi.assistant.common.exception.GlobalExceptionHandler;
 import com.study.githubapi.assistant.user.service.UserLocService;
 import jakarta.validation.constraints.NotBlank;
 import lombok.RequiredArgsConstructor;
@@ -19,6 +21,7 @@ import java.time.LocalDateTime;
 public class UserLocController {
     
     private final UserLocService userLocService;
+    private final AggregationMetrics aggregationMetrics;
     
     /**
      * 특정 사용자의 모든 레포지토리 LOC 통계 조회
@@ -34,7 +37,7 @@ public class UserLocController {
     @GetMapping("/{user}")
     public Mono<ResponseEntity<LocSummaryResponse.UserLocSummary>> getUserLocStats(
             @PathVariable @NotBlank String user,
-            @RequestParam @NotBlank String token,
+            @RequestParam(required = false) String token,
             @RequestParam(required = true) 
             @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
             @RequestParam(required = true) 
@@ -45,10 +48,11 @@ public class UserLocController {
         log.info("Received user LOC stats request for user: {} from: {} to: {} includeForks: {} includeArchived: {}", 
                 user, from, to, includeForks, includeArchived);
         
-        return userLocService.aggregateUserLocStats(user, token, from, to, includeForks, includeArchived)
+        return aggregationMetrics.timed(AggregationMetrics.ENDPOINT_USER,
+                        userLocService.aggregateUserLocStats(user, token, from, to, includeForks, includeArchived))
                 .map(ResponseEntity::ok)
                 .doOnSuccess(response -> log.info("Successfully returned user LOC stats for user: {}", user))
-                .onErrorResume(error -> {
+                .onErrorResume(error -> !GlobalExceptionHandler.hasOwnStatus(error), error -> {
                     log.error("Failed to get user LOC stats for user: {}", user, error);
                     return Mono.just(ResponseEntity.internalServerError().build());
                 });
@@ -1,8 +1,11 @@
 package com.study.githubapi.assistant.user.service;
 
+import com.study.githubapi.assistant.common.AggregationKey;
+import com.study.githubapi.assistant.common.LocAccumulator;
 import com.study.githubapi.assistant.common.LocAggregationHelper;
 import com.study.githubapi.assistant.common.dto.LocSummaryResponse;
 import com.study.githubapi.github.service.GitHubApiService;
+import com.study.githubapi.github.service.SingleFlight;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -10,8 +13,6 @@ import reactor.core.publisher.Mono;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
 
 @Slf4j
 @Service
@@ -20,6 +21,7 @@ public class UserLocService {
     
     private final GitHubApiService gitHubApiService;
     private final LocAggregationHelper locAggregationHelper;
+    private final SingleFlight<AggregationKey, LocSummaryResponse.UserLocSummary> userFlight = new SingleFlight<>("user-loc");
     
     /**
      * 특정 사용자의 모든 레포지토리 LOC 통계를 집계
@@ -35,47 +37,26 @@ public class UserLocService {
         log.info("Starting LOC aggregation for user: {} from: {} to: {} includeForks: {} includeArchived: {}", 
                 username, from, to, includeForks, includeArchived);
         
-        return gitHubApiService.getUserRepositories(username, token, includeForks, includeArchived)
-                .flatMap(repo -> locAggregationHelper.getRepositoryStats(repo, token, from, to))
+        AggregationKey key = AggregationKey.of(username, token, from, to, includeForks, includeArchived);
+        return userFlight.execute(key, () -> gitHubApiService.getUserRepositories(username, token, includeForks, includeArchived)
+                .transform(repos -> locAggregationHelper.collectUserRepositoryStats(repos, username, token, from, to))
                 .filter(repoStats -> repoStats != null && !repoStats.getContributorStats().isEmpty())
-                .collectList()
-                .map(repoStatsList -> {
-                    // 사용자별 기여도 맵 생성
-                    Map<String, LocAggregationHelper.UserContribution> userContributions = new HashMap<>();
-                    
-                    for (LocAggregationHelper.RepositoryStats repoStats : repoStatsList) {
-                        locAggregationHelper.processRepositoryContributions(repoStats, userContributions);
-                    }
-                    
-                    // 해당 사용자의 기여도만 추출
-                    LocAggregationHelper.UserContribution userContribution = userContributions.get(username);
-                    
-                    if (userContribution == null) {
-                        log.warn("No contributions found for user: {}", username);
-                        return LocSummaryResponse.UserLocSummary.builder()
-                                .username(username)
-                                .totalAdditions(0L)
-                                .totalDeletions(0L)
-                                .totalLoc(0L)
-                                .totalCommits(0L)
-                                .repositories(Collections.emptyList())
-                                .build();
-                    }
-                    
-                    return LocSummaryResponse.UserLocSummary.builder()
-                            .username(userContribution.getAuthor().getLogin())
-                            .avatarUrl(userContribution.getAuthor().getAvatarUrl())
-                            .htmlUrl(userContribution.getAuthor().getHtmlUrl())
-                            .totalAdditions(userContribution.getTotalAdditions())
-                            .totalDeletions(userContribution.getTotalDeletions())
-                            .totalLoc(userContribution.getTotalLoc())
-                            .totalCommits(userContribution.getTotalCommits())
-                            .repositories(userContribution.getRepositoryContributions())
-                            .build();
-                })
+                .as(repoStats -> locAggregationHelper.accumulate(repoStats, () -> new LocAccumulator(true)))
+                .map(accumulator -> accumulator.find(username)
+                        .orElseGet(() -> {
+                            log.warn("No contributions found for user: {}", username);
+                            return LocSummaryResponse.UserLocSummary.builder()
+                                    .username(username)
+                                    .totalAdditions(0L)
+                                    .totalDeletions(0L)
+                                    .totalLoc(0L)
+                                    .totalCommits(0L)
+                                    .repositories(Collections.emptyList())
+                                    .build();
+                        }))
                 .doOnSuccess(response -> log.info("Completed LOC aggregation for user: {}. Total LOC: {}, Total commits: {}", 
                         username, response.getTotalLoc(), response.getTotalCommits()))
-                .doOnError(error -> log.error("Failed to aggregate LOC stats for user: {}", username, error));
+                .doOnError(error -> log.error("Failed to aggregate LOC stats for user: {}", username, error)));
     }
 }
 
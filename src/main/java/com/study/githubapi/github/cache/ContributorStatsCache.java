@@ -0,0 +1,312 @@
+package com.study.githubapi.github.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.githubapi.github.config.GitHubApiConfig;
+import com.study.githubapi.github.dto.ContributorStats;
+import com.study.githubapi.github.dto.GitHubRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * 레포지토리 기여자 통계 캐시
+ * owner/repo 단위로 저장하며, 레포지토리의 pushed_at 이 바뀌지 않은 경우에만 유효한 것으로 판단한다.
+ * 메모리(LRU)와 로컬 디스크 2단계로 구성되어 재시작 후에도 유지된다.
+ * 디스크 항목 수가 max-disk-entries 를 넘으면 저장 시점에 오래된 파일과 TTL 이 지난 파일을 정리한다.
+ */
+@Slf4j
+@Component
+public class ContributorStatsCache {
+
+    private static final String FILE_SUFFIX = ".json";
+
+    private final GitHubApiConfig.StatsCache properties;
+    private final ObjectMapper objectMapper;
+    private final Map<String, CacheEntry> entries;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong diskHits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong staleMisses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicInteger diskEntries = new AtomicInteger();
+    private final AtomicLong diskPruned = new AtomicLong();
+
+    public ContributorStatsCache(GitHubApiConfig gitHubApiConfig, ObjectMapper objectMapper) {
+        this.properties = gitHubApiConfig.getStatsCache();
+        this.objectMapper = objectMapper;
+        this.entries = Collections.synchronizedMap(new LinkedHashMap<String, CacheEntry>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest) {
+                boolean evict = size() > properties.getMaxEntries();
+                if (evict) {
+                    evictions.incrementAndGet();
+                }
+                return evict;
+            }
+        });
+    }
+
+    /**
+     * 시작 시 만료된 디스크 캐시 정리
+     */
+    @PostConstruct
+    void pruneDiskEntries() {
+        if (!isPersistent()) {
+            return;
+        }
+        int removed = pruneDiskEntries(properties.getMaxDiskEntries());
+        log.info("Contributor stats disk cache ready: {} entries kept, {} pruned", diskEntries.get(), removed);
+    }
+
+    /**
+     * 최근 파일부터 keep 개만 남기고, TTL 이 지난 파일과 나머지를 삭제
+     */
+    private synchronized int pruneDiskEntries(int keep) {
+        Path directory = Paths.get(properties.getDirectory());
+        if (!Files.isDirectory(directory)) {
+            diskEntries.set(0);
+            return 0;
+        }
+
+        long expiredBefore = System.currentTimeMillis() - properties.getTtl().toMillis();
+        try (Stream<Path> files = Files.list(directory)) {
+            List<Path> cacheFiles = files
+                    .filter(file -> file.getFileName().toString().endsWith(FILE_SUFFIX))
+                    .sorted(Comparator.comparing(this::lastModified).reversed())
+                    .toList();
+
+            int removed = 0;
+            for (int i = 0; i < cacheFiles.size(); i++) {
+                Path file = cacheFiles.get(i);
+                if (i >= keep || lastModified(file).toMillis() < expiredBefore) {
+                    Files.deleteIfExists(file);
+                    removed++;
+                }
+            }
+            diskEntries.set(cacheFiles.size() - removed);
+            diskPruned.addAndGet(removed);
+            return removed;
+        } catch (IOException e) {
+            log.warn("Failed to prune contributor stats disk cache {}: {}", directory, e.getMessage());
+            return 0;
+        }
+    }
+
+    /**
+     * 캐시된 통계 조회
+     * 메모리에 없으면 디스크를 확인하며, pushed_at 이 다르거나 TTL 이 지난 항목은 무효화된다.
+     */
+    public Mono<List<ContributorStats>> get(GitHubRepository repository) {
+        if (!properties.isEnabled() || repository.getPushedAt() == null) {
+            return Mono.empty();
+        }
+
+        String key = cacheKey(repository);
+        CacheEntry entry = entries.get(key);
+        if (entry != null) {
+            if (isValid(entry, repository)) {
+                hits.incrementAndGet();
+                return Mono.just(entry.getStats());
+            }
+            invalidate(key);
+            staleMisses.incrementAndGet();
+            return Mono.empty();
+        }
+
+        if (!isPersistent()) {
+            misses.incrementAndGet();
+            return Mono.empty();
+        }
+
+        return Mono.fromCallable(() -> readFromDisk(key))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(optional -> optional
+                        .filter(diskEntry -> {
+                            if (isValid(diskEntry, repository)) {
+                                return true;
+                            }
+                            invalidate(key);
+                            deleteFromDisk(key);
+                            staleMisses.incrementAndGet();
+                            return false;
+                        })
+                        .map(diskEntry -> {
+                            diskHits.incrementAndGet();
+                            entries.put(key, diskEntry);
+                            return Mono.just(diskEntry.getStats());
+                        })
+                        .orElseGet(() -> {
+                            misses.incrementAndGet();
+                            return Mono.empty();
+                        }));
+    }
+
+    /**
+     * 메모리에 있는 유효한 통계만 조회 (디스크 확인, 적중/미스 집계 없음)
+     * 요청 전에 레포지토리를 건너뛸 수 있는지 판단하는 용도로 사용한다.
+     */
+    public Optional<List<ContributorStats>> peek(GitHubRepository repository) {
+        if (!properties.isEnabled() || repository.getPushedAt() == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(entries.get(cacheKey(repository)))
+                .filter(entry -> isValid(entry, repository))
+                .map(CacheEntry::getStats);
+    }
+
+    /**
+     * 통계 저장 (메모리 + 디스크)
+     * 빈 결과(에러로 인한 fallback 포함)는 저장하지 않는다.
+     */
+    public void put(GitHubRepository repository, List<ContributorStats> stats) {
+        if (!properties.isEnabled() || repository.getPushedAt() == null || stats == null || stats.isEmpty()) {
+            return;
+        }
+
+        String key = cacheKey(repository);
+        CacheEntry entry = new CacheEntry(key, repository.getPushedAt(), System.currentTimeMillis(), stats);
+        entries.put(key, entry);
+
+        if (isPersistent()) {
+            Mono.fromRunnable(() -> writeToDisk(entry))
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .subscribe();
+        }
+    }
+
+    /**
+     * 캐시 적중/미스 통계
+     */
+    public Map<String, Object> getStatistics() {
+        long memoryHits = hits.get();
+        long diskHitCount = diskHits.get();
+        long missCount = misses.get() + staleMisses.get();
+        long lookups = memoryHits + diskHitCount + missCount;
+
+        Map<String, Object> statistics = new LinkedHashMap<>();
+        statistics.put("enabled", properties.isEnabled());
+        statistics.put("persistent", isPersistent());
+        statistics.put("size", entries.size());
+        statistics.put("maxEntries", properties.getMaxEntries());
+        statistics.put("memoryHits", memoryHits);
+        statistics.put("diskHits", diskHitCount);
+        statistics.put("misses", misses.get());
+        statistics.put("staleMisses", staleMisses.get());
+        statistics.put("evictions", evictions.get());
+        statistics.put("diskEntries", diskEntries.get());
+        statistics.put("maxDiskEntries", properties.getMaxDiskEntries());
+        statistics.put("diskPruned", diskPruned.get());
+        statistics.put("hitRatio", lookups == 0 ? 0.0 : (double) (memoryHits + diskHitCount) / lookups);
+        return statistics;
+    }
+
+    private boolean isValid(CacheEntry entry, GitHubRepository repository) {
+        boolean fresh = System.currentTimeMillis() - entry.getCachedAt() < properties.getTtl().toMillis();
+        return fresh && Objects.equals(entry.getPushedAt(), repository.getPushedAt());
+    }
+
+    private void invalidate(String key) {
+        // 메모리에서 무효화된 항목의 디스크 파일은 다음 저장 시 덮어쓰거나 정리 시 삭제된다
+        entries.remove(key);
+    }
+
+    private Optional<CacheEntry> readFromDisk(String key) {
+        Path file = filePath(key);
+        if (!Files.exists(file)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(objectMapper.readValue(file.toFile(), CacheEntry.class));
+        } catch (IOException e) {
+            log.warn("Failed to read contributor stats cache file {}: {}", file, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private void writeToDisk(CacheEntry entry) {
+        Path file = filePath(entry.getKey());
+        try {
+            Files.createDirectories(file.getParent());
+            boolean added = !Files.exists(file);
+            Path tempFile = Files.createTempFile(file.getParent(), "stats", ".tmp");
+            objectMapper.writeValue(tempFile.toFile(), entry);
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+            if (added && diskEntries.incrementAndGet() > properties.getMaxDiskEntries()) {
+                // 한 건 넘을 때마다 디렉터리를 다시 읽지 않도록 상한의 90% 까지 정리
+                int maxDiskEntries = properties.getMaxDiskEntries();
+                int removed = pruneDiskEntries(maxDiskEntries - maxDiskEntries / 10);
+                log.debug("Pruned {} contributor stats cache files over max-disk-entries {}", removed, maxDiskEntries);
+            }
+        } catch (IOException e) {
+            log.warn("Failed to write contributor stats cache file {}: {}", file, e.getMessage());
+        }
+    }
+
+    private void deleteFromDisk(String key) {
+        try {
+            if (Files.deleteIfExists(filePath(key))) {
+                diskEntries.decrementAndGet();
+            }
+        } catch (IOException e) {
+            log.warn("Failed to delete contributor stats cache file for {}: {}", key, e.getMessage());
+        }
+    }
+
+    private boolean isPersistent() {
+        return properties.isEnabled() && properties.isPersistent();
+    }
+
+    private Path filePath(String key) {
+        // '@' 는 GitHub owner/repo 이름에 사용될 수 없으므로 구분자로 사용
+        return Paths.get(properties.getDirectory(), key.replace('/', '@') + FILE_SUFFIX);
+    }
+
+    private FileTime lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+
+    private static String cacheKey(GitHubRepository repository) {
+        return (repository.getOwner().getLogin() + "/" + repository.getName()).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 캐시 항목 (디스크 직렬화 대상)
+     */
+    @Data
+    @NoArgsConstructor
+    public static class CacheEntry {
+        private String key;
+        private LocalDateTime pushedAt;
+        private long cachedAt;
+        private List<ContributorStats> stats;
+
+        public CacheEntry(String key, LocalDateTime pushedAt, long cachedAt, List<ContributorStats> stats) {
+            this.key = key;
+            this.pushedAt = pushedAt;
+            this.cachedAt = cachedAt;
+            this.stats = stats;
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.study.githubapi.github.client;
+
+import com.study.githubapi.github.config.GitHubApiConfig;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * 최근 요청 결과(횟수 기준 window)로 동작하는 circuit breaker
+ * CLOSED: 실패율이 임계값을 넘으면 OPEN
+ * OPEN: openDuration 동안 요청 거부, 이후 HALF_OPEN
+ * HALF_OPEN: 시험 요청 halfOpenProbes 개가 모두 성공하면 CLOSED, 하나라도 실패하면 다시 OPEN
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, HALF_OPEN, OPEN
+    }
+
+    private final String name;
+    private final GitHubApiConfig.CircuitBreaker config;
+    private final LongSupplier clock;
+    private final Consumer<State> onTransition;
+
+    private final boolean[] outcomes; // true: 실패
+    private int position;
+    private int calls;
+    private int failures;
+
+    private State state = State.CLOSED;
+    private long openUntilMillis;
+    private int probesStarted;
+    private int probesSucceeded;
+
+    public CircuitBreaker(String name, GitHubApiConfig.CircuitBreaker config, LongSupplier clock, Consumer<State> onTransition) {
+        this.name = name;
+        this.config = config;
+        this.clock = clock;
+        this.onTransition = onTransition;
+        this.outcomes = new boolean[Math.max(1, config.getWindowSize())];
+    }
+
+    /**
+     * 요청을 보내도 되는지 확인 (true 를 받은 요청은 결과를 onSuccess/onFailure/onIgnored 중 하나로 알려야 함)
+     */
+    public synchronized boolean tryAcquire() {
+        if (state == State.OPEN) {
+            if (clock.getAsLong() < openUntilMillis) {
+                return false;
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (probesStarted >= config.getHalfOpenProbes()) {
+                return false;
+            }
+            probesStarted++;
+        }
+        return true;
+    }
+
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            if (++probesSucceeded >= config.getHalfOpenProbes()) {
+                transitionTo(State.CLOSED);
+            }
+            return;
+        }
+        record(false);
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            transitionTo(State.OPEN);
+            return;
+        }
+        record(true);
+        if (state == State.CLOSED && calls >= config.getMinCalls()
+                && failures >= config.getFailureRateThreshold() * calls) {
+            transitionTo(State.OPEN);
+        }
+    }
+
+    /**
+     * 결과 없이 끝난 요청 (취소) - 실패율에 반영하지 않고 시험 요청 자리만 반납
+     */
+    public synchronized void onIgnored() {
+        if (state == State.HALF_OPEN && probesStarted > probesSucceeded) {
+            probesStarted--;
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    /**
+     * OPEN 상태가 끝날 때까지 남은 시간
+     */
+    public synchronized Duration remainingOpen() {
+        return state == State.OPEN ? Duration.ofMillis(Math.max(0, openUntilMillis - clock.getAsLong())) : Duration.ZERO;
+    }
+
+    public synchronized Map<String, Object> getStatistics() {
+        Map<String, Object> statistics = new LinkedHashMap<>();
+        statistics.put("name", name);
+        statistics.put("state", state);
+        statistics.put("calls", calls);
+        statistics.put("failures", failures);
+        statistics.put("remainingOpenMillis", remainingOpen().toMillis());
+        return statistics;
+    }
+
+    private void record(boolean failure) {
+        if (calls == outcomes.length) {
+            if (outcomes[position]) {
+                failures--;
+            }
+        } else {
+            calls++;
+        }
+        outcomes[position] = failure;
+        if (failure) {
+            failures++;
+        }
+        position = (position + 1) % outcomes.length;
+    }
+
+    private void transitionTo(State next) {
+        state = next;
+        probesStarted = 0;
+        probesSucceeded = 0;
+        if (next == State.OPEN) {
+            openUntilMillis = clock.getAsLong() + config.getOpenDuration().toMillis();
+        }
+        if (next == State.CLOSED) {
+            // 이전 장애 구간의 결과가 다시 OPEN 을 유발하지 않도록 window 초기화
+            calls = 0;
+            failures = 0;
+            position = 0;
+        }
+        onTransition.accept(next);
+    }
+}
@@ -0,0 +1,100 @@
+package com.study.githubapi.github.client;
+
+import com.study.githubapi.github.config.GitHubApiConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 엔드포인트별 circuit breaker 필터
+ * GitHub 가 5xx 나 타임아웃을 몰아서 반환하면 레포지토리마다 각자 재시도하는 대신 요청을 즉시 실패시켜 부하를 줄인다.
+ * 차단된 요청은 {@link CircuitOpenException} 으로 실패하며 재시도 대상이 아니다.
+ */
+@Slf4j
+@Component
+public class CircuitBreakerFilter implements ExchangeFilterFunction {
+
+    private static final List<String> GUARDED_ENDPOINTS = List.of(
+            GitHubClientMetrics.ENDPOINT_REPOS, GitHubClientMetrics.ENDPOINT_STATS, GitHubClientMetrics.ENDPOINT_GRAPHQL);
+
+    private final GitHubApiConfig gitHubApiConfig;
+    private final GitHubClientMetrics metrics;
+    private final Map<String, CircuitBreaker> breakers = new LinkedHashMap<>();
+
+    public CircuitBreakerFilter(GitHubApiConfig gitHubApiConfig, GitHubClientMetrics metrics) {
+        this.gitHubApiConfig = gitHubApiConfig;
+        this.metrics = metrics;
+        for (String endpoint : GUARDED_ENDPOINTS) {
+            CircuitBreaker breaker = new CircuitBreaker(endpoint, gitHubApiConfig.getCircuitBreaker(), System::currentTimeMillis,
+                    state -> onTransition(endpoint, state));
+            metrics.circuitBreaker(endpoint, breaker);
+            breakers.put(endpoint, breaker);
+        }
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        String endpoint = GitHubClientMetrics.endpointOf(request.url().getPath());
+        CircuitBreaker breaker = breakers.get(endpoint);
+        if (!gitHubApiConfig.getCircuitBreaker().isEnabled() || breaker == null) {
+            return next.exchange(request);
+        }
+
+        return Mono.defer(() -> {
+            if (!breaker.tryAcquire()) {
+                metrics.circuitRejected(endpoint);
+                return Mono.error(new CircuitOpenException(endpoint, breaker.remainingOpen()));
+            }
+            AtomicBoolean recorded = new AtomicBoolean();
+            return next.exchange(request)
+                    .doOnNext(response -> {
+                        if (recorded.compareAndSet(false, true)) {
+                            if (response.statusCode().is5xxServerError()) {
+                                breaker.onFailure();
+                            } else {
+                                breaker.onSuccess();
+                            }
+                        }
+                    })
+                    .doOnError(error -> {
+                        if (recorded.compareAndSet(false, true)) {
+                            breaker.onFailure();
+                        }
+                    })
+                    .doOnCancel(() -> {
+                        // hedge 에서 진 요청 등 취소된 요청은 실패로 보지 않음
+                        if (recorded.compareAndSet(false, true)) {
+                            breaker.onIgnored();
+                        }
+                    });
+        });
+    }
+
+    /**
+     * 엔드포인트별 circuit breaker 상태
+     */
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> statistics = new LinkedHashMap<>();
+        breakers.forEach((endpoint, breaker) -> statistics.put(endpoint, breaker.getStatistics()));
+        return statistics;
+    }
+
+    private void onTransition(String endpoint, CircuitBreaker.State state) {
+        metrics.circuitTransition(endpoint, state.name());
+        if (state == CircuitBreaker.State.OPEN) {
+            log.warn("Circuit breaker for GitHub {} requests opened for {}s", 
+                endpoint, gitHubApiConfig.getCircuitBreaker().getOpenDuration().toSeconds());
+        } else {
+            log.info("Circuit breaker for GitHub {} requests is now {}", endpoint, state);
+        }
+    }
+}
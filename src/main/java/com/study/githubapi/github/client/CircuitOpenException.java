@@ -0,0 +1,21 @@
+package com.study.githubapi.github.client;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * circuit breaker 가 열려 있어 GitHub 로 요청을 보내지 않은 경우
+ */
+@Getter
+public class CircuitOpenException extends RuntimeException {
+    
+    private final String endpoint;
+    private final Duration retryAfter;
+    
+    public CircuitOpenException(String endpoint, Duration retryAfter) {
+        super("Circuit breaker for GitHub " + endpoint + " requests is open, retry in " + retryAfter.toSeconds() + "s");
+        this.endpoint = endpoint;
+        this.retryAfter = retryAfter;
+    }
+}
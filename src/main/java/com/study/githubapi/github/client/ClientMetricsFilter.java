@@ -0,0 +1,55 @@
+package com.study.githubapi.github.client;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * GitHub 요청별 응답 시간과 상태 코드를 기록하는 필터
+ * rate limit 필터 안쪽에 두어 페이싱 대기 시간을 제외한 실제 응답 시간만 측정한다 (응답 헤더 수신 시점까지).
+ */
+@Component
+@RequiredArgsConstructor
+public class ClientMetricsFilter implements ExchangeFilterFunction {
+
+    private final GitHubClientMetrics metrics;
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        String endpoint = GitHubClientMetrics.endpointOf(request.url().getPath());
+        String method = request.method().name();
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            AtomicBoolean recorded = new AtomicBoolean();
+            metrics.requestStarted();
+            return next.exchange(request)
+                    .doOnNext(response -> {
+                        if (recorded.compareAndSet(false, true)) {
+                            metrics.requestCompleted(endpoint, method, response.statusCode(), System.nanoTime() - start);
+                        }
+                        if (response.statusCode().isSameCodeAs(HttpStatus.FORBIDDEN)) {
+                            metrics.forbidden(endpoint, RateLimitTracker.isRateLimited(
+                                    response.statusCode(), response.headers().asHttpHeaders()));
+                        }
+                    })
+                    .doOnError(error -> {
+                        if (recorded.compareAndSet(false, true)) {
+                            metrics.requestFailed(endpoint, method,
+                                    ResponseTimeoutFilter.isTimeout(error) ? "TIMEOUT" : "IO_ERROR", System.nanoTime() - start);
+                        }
+                    })
+                    .doOnCancel(() -> {
+                        if (recorded.compareAndSet(false, true)) {
+                            metrics.requestFailed(endpoint, method, "CANCELLED", System.nanoTime() - start);
+                        }
+                    });
+        });
+    }
+}
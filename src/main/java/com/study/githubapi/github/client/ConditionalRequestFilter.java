@@ -0,0 +1,207 @@
+package com.study.githubapi.github.client;
+
+import com.study.githubapi.github.config.GitHubApiConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * GitHub GET 요청에 대한 조건부 요청(ETag / Last-Modified) 필터
+ * 200 응답의 검증자와 본문을 URL + 토큰 단위로 저장하고, 다음 요청에 If-None-Match 를 붙인다.
+ * 304 Not Modified 응답은 저장된 본문과 Link 헤더를 담은 200 응답으로 바꿔 돌려주므로 호출부의 디코딩/페이징 로직은 그대로 동작한다.
+ * 304 응답은 GitHub primary rate limit 에 포함되지 않는다.
+ * 기여자 통계는 본문이 수 MB 이고 ContributorStatsCache 가 따로 보관하므로 제외해 스트리밍 디코딩이 본문을 복사하지 않도록 한다.
+ */
+@Slf4j
+@Component
+public class ConditionalRequestFilter implements ExchangeFilterFunction {
+
+    private final GitHubApiConfig.ConditionalRequests properties;
+    private final LinkedHashMap<String, CachedResponse> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private long totalBytes = 0;
+
+    private final AtomicLong notModified = new AtomicLong();
+    private final AtomicLong stored = new AtomicLong();
+    private final AtomicLong skippedOversized = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public ConditionalRequestFilter(GitHubApiConfig gitHubApiConfig) {
+        this.properties = gitHubApiConfig.getConditionalRequests();
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        if (!properties.isEnabled() || !HttpMethod.GET.equals(request.method())
+                || GitHubClientMetrics.ENDPOINT_STATS.equals(GitHubClientMetrics.endpointOf(request.url().getPath()))) {
+            return next.exchange(request);
+        }
+
+        String key = TokenFingerprint.fromHeaders(request.headers()) + " " + request.url();
+        CachedResponse cached = lookup(key);
+
+        ClientRequest outgoing = cached == null ? request : ClientRequest.from(request)
+                .headers(headers -> {
+                    if (cached.etag() != null) {
+                        headers.setIfNoneMatch(cached.etag());
+                    }
+                    if (cached.lastModified() != null) {
+                        headers.set(HttpHeaders.IF_MODIFIED_SINCE, cached.lastModified());
+                    }
+                })
+                .build();
+
+        return next.exchange(outgoing)
+                .map(response -> {
+                    if (cached != null && response.statusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+                        notModified.incrementAndGet();
+                        log.debug("Not modified, replaying cached body for {}", request.url());
+                        return replay(response, cached);
+                    }
+                    if (response.statusCode().isSameCodeAs(HttpStatus.OK)) {
+                        return record(key, response);
+                    }
+                    return response;
+                });
+    }
+
+    /**
+     * 조건부 요청 캐시 현황
+     */
+    public synchronized Map<String, Object> getStatistics() {
+        Map<String, Object> statistics = new LinkedHashMap<>();
+        statistics.put("enabled", properties.isEnabled());
+        statistics.put("size", entries.size());
+        statistics.put("totalBytes", totalBytes);
+        statistics.put("maxBytes", properties.getMaxBytes().toBytes());
+        statistics.put("notModified", notModified.get());
+        statistics.put("stored", stored.get());
+        statistics.put("skippedOversized", skippedOversized.get());
+        statistics.put("evictions", evictions.get());
+        return statistics;
+    }
+
+    private ClientResponse replay(ClientResponse response, CachedResponse cached) {
+        return response.mutate()
+                .statusCode(HttpStatus.OK)
+                .headers(headers -> {
+                    if (cached.contentType() != null) {
+                        headers.setContentType(cached.contentType());
+                    }
+                    headers.setContentLength(cached.body().length);
+                    // 목록 페이지는 Link 헤더(rel="last")로 남은 페이지를 병렬 조회하므로 함께 복원
+                    if (cached.link() != null) {
+                        headers.put(HttpHeaders.LINK, cached.link());
+                    }
+                })
+                .body(Flux.defer(() -> Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(cached.body()))))
+                .build();
+    }
+
+    private ClientResponse record(String key, ClientResponse response) {
+        HttpHeaders headers = response.headers().asHttpHeaders();
+        String etag = headers.getETag();
+        String lastModified = headers.getFirst(HttpHeaders.LAST_MODIFIED);
+        if (etag == null && lastModified == null) {
+            return response;
+        }
+
+        MediaType contentType = headers.getContentType();
+        List<String> link = headers.containsKey(HttpHeaders.LINK) ? List.copyOf(headers.get(HttpHeaders.LINK)) : null;
+        BodyRecorder recorder = new BodyRecorder((int) Math.min(Integer.MAX_VALUE, properties.getMaxEntryBytes().toBytes()));
+
+        // 본문을 흘려보내면서 복사하므로 스트리밍 디코딩은 그대로 유지된다
+        return response.mutate()
+                .body(body -> body
+                        .doOnNext(recorder::append)
+                        .doOnComplete(() -> {
+                            byte[] bytes = recorder.toByteArray();
+                            if (bytes == null) {
+                                skippedOversized.incrementAndGet();
+                                return;
+                            }
+                            store(key, new CachedResponse(etag, lastModified, contentType, link, bytes));
+                        }))
+                .build();
+    }
+
+    private synchronized CachedResponse lookup(String key) {
+        return entries.get(key);
+    }
+
+    private synchronized void store(String key, CachedResponse response) {
+        CachedResponse previous = entries.put(key, response);
+        if (previous != null) {
+            totalBytes -= previous.body().length;
+        }
+        totalBytes += response.body().length;
+        stored.incrementAndGet();
+
+        long maxBytes = properties.getMaxBytes().toBytes();
+        Iterator<CachedResponse> iterator = entries.values().iterator();
+        while ((totalBytes > maxBytes || entries.size() > properties.getMaxEntries()) && iterator.hasNext()) {
+            CachedResponse eldest = iterator.next();
+            iterator.remove();
+            totalBytes -= eldest.body().length;
+            evictions.incrementAndGet();
+        }
+    }
+
+    /**
+     * 저장된 응답 (검증자 + Link 헤더 + 본문)
+     */
+    private record CachedResponse(String etag, String lastModified, MediaType contentType, List<String> link, byte[] body) {
+    }
+
+    /**
+     * 응답 본문 복사본 (최대 크기를 넘으면 저장하지 않음)
+     */
+    private static final class BodyRecorder {
+        private final int limit;
+        private ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        private BodyRecorder(int limit) {
+            this.limit = limit;
+        }
+
+        synchronized void append(DataBuffer buffer) {
+            if (output == null) {
+                return;
+            }
+            if (output.size() + buffer.readableByteCount() > limit) {
+                output = null;
+                return;
+            }
+            try (DataBuffer.ByteBufferIterator iterator = buffer.readableByteBuffers()) {
+                while (iterator.hasNext()) {
+                    ByteBuffer byteBuffer = iterator.next();
+                    byte[] chunk = new byte[byteBuffer.remaining()];
+                    byteBuffer.get(chunk);
+                    output.write(chunk, 0, chunk.length);
+                }
+            }
+        }
+
+        synchronized byte[] toByteArray() {
+            return output == null ? null : output.toByteArray();
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package com.study.githubapi.github.client;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteBufferFeeder;
+import com.study.githubapi.github.dto.ContributorStats;
+import com.study.githubapi.github.stats.WeeklyContributionIndex;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 기여자 통계 응답 본문 스트리밍 디코더
+ * non-blocking JSON 파서에 DataBuffer 를 도착하는 대로 넣고, 토큰 단위로 기여자 1명씩 ContributorStats 로 만든다.
+ * 문서 전체나 기여자 1명 분량의 JSON 을 메모리에 모으지 않으므로 codec 의 maxInMemorySize 제한과 무관하게 동작하며,
+ * 보관되는 것은 기여자별 컬럼형 주간 통계뿐이다.
+ */
+public final class ContributorStatsStreamDecoder {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private ContributorStatsStreamDecoder() {
+    }
+
+    /**
+     * 응답 본문을 기여자 통계 스트림으로 디코딩
+     */
+    public static Flux<ContributorStats> decode(Flux<DataBuffer> body) {
+        return Flux.using(
+                Reducer::new,
+                reducer -> body
+                        .concatMapIterable(buffer -> {
+                            try {
+                                return reducer.feed(buffer);
+                            } finally {
+                                DataBufferUtils.release(buffer);
+                            }
+                        })
+                        .concatWith(Mono.fromCallable(reducer::finish).flatMapIterable(remaining -> remaining))
+                        .doOnDiscard(DataBuffer.class, DataBufferUtils::release),
+                Reducer::close);
+    }
+
+    /**
+     * 토큰을 받아 기여자 통계로 줄이는 상태 머신
+     * depth 0: 최상위, 1: 기여자 배열, 2: 기여자 객체, 3: author 객체 또는 weeks 배열, 4: week 객체
+     */
+    static final class Reducer implements AutoCloseable {
+        private final JsonParser parser;
+        private final ByteBufferFeeder feeder;
+
+        private int depth;
+        private int skipDepth;
+        private String field;
+        private boolean inAuthor;
+
+        private ContributorStats current;
+        private ContributorStats.Author author;
+        private WeeklyContributionIndex.Builder weeks;
+        private long weekStart;
+        private long additions;
+        private long deletions;
+        private long commits;
+
+        Reducer() {
+            try {
+                this.parser = JSON_FACTORY.createNonBlockingByteBufferParser();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            this.feeder = (ByteBufferFeeder) parser.getNonBlockingInputFeeder();
+        }
+
+        List<ContributorStats> feed(DataBuffer buffer) throws IOException {
+            List<ContributorStats> completed = new ArrayList<>(1);
+            try (DataBuffer.ByteBufferIterator iterator = buffer.readableByteBuffers()) {
+                while (iterator.hasNext()) {
+                    feed(iterator.next(), completed);
+                }
+            }
+            return completed;
+        }
+
+        void feed(ByteBuffer input, List<ContributorStats> completed) throws IOException {
+            feeder.feedInput(input);
+            drain(completed);
+        }
+
+        List<ContributorStats> finish() throws IOException {
+            feeder.endOfInput();
+            List<ContributorStats> completed = new ArrayList<>(1);
+            drain(completed);
+            if (depth != 0) {
+                throw new DecodingException("Contributor stats JSON ended unexpectedly");
+            }
+            return completed;
+        }
+
+        @Override
+        public void close() {
+            try {
+                parser.close();
+            } catch (IOException ignored) {
+                // 파서는 외부 자원을 갖지 않는다
+            }
+        }
+
+        private void drain(List<ContributorStats> completed) throws IOException {
+            JsonToken token;
+            while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+                onToken(token, completed);
+            }
+        }
+
+        private void onToken(JsonToken token, List<ContributorStats> completed) throws IOException {
+            if (skipDepth > 0) {
+                if (token.isStructStart()) {
+                    skipDepth++;
+                } else if (token.isStructEnd()) {
+                    skipDepth--;
+                }
+                return;
+            }
+
+            switch (token) {
+                case FIELD_NAME -> field = parser.currentName();
+                case START_ARRAY -> startArray();
+                case START_OBJECT -> startObject();
+                case END_ARRAY -> depth--;
+                case END_OBJECT -> endObject(completed);
+                default -> onValue(token);
+            }
+        }
+
+        private void startArray() {
+            if (depth == 0 || (depth == 2 && "weeks".equals(field))) {
+                if (depth == 2) {
+                    weeks = WeeklyContributionIndex.builder();
+                }
+                depth++;
+                return;
+            }
+            skipDepth = 1;
+        }
+
+        private void startObject() {
+            switch (depth) {
+                case 1 -> {
+                    current = new ContributorStats();
+                    weeks = null;
+                    depth++;
+                }
+                case 2 -> {
+                    if (!"author".equals(field)) {
+                        skipDepth = 1;
+                        return;
+                    }
+                    author = new ContributorStats.Author();
+                    inAuthor = true;
+                    depth++;
+                }
+                case 3 -> {
+                    if (inAuthor) {
+                        skipDepth = 1;
+                        return;
+                    }
+                    weekStart = -1;
+                    additions = 0;
+                    deletions = 0;
+                    commits = 0;
+                    depth++;
+                }
+                default -> skipDepth = 1;
+            }
+        }
+
+        private void endObject(List<ContributorStats> completed) {
+            switch (depth) {
+                case 2 -> {
+                    if (weeks != null) {
+                        current.setWeeks(weeks.build());
+                    }
+                    completed.add(current);
+                    current = null;
+                    weeks = null;
+                }
+                case 3 -> {
+                    current.setAuthor(author);
+                    author = null;
+                    inAuthor = false;
+                }
+                case 4 -> {
+                    if (weekStart >= 0) {
+                        weeks.add(weekStart, additions, deletions, commits);
+                    }
+                }
+                default -> {
+                }
+            }
+            depth--;
+        }
+
+        private void onValue(JsonToken token) throws IOException {
+            if (token == JsonToken.VALUE_NULL) {
+                return;
+            }
+            if (depth == 2 && "total".equals(field) && token.isNumeric()) {
+                current.setTotal(parser.getLongValue());
+            } else if (depth == 3 && inAuthor) {
+                switch (field) {
+                    case "id" -> author.setId(token.isNumeric() ? parser.getLongValue() : null);
+                    case "login" -> author.setLogin(parser.getText());
+                    case "avatar_url" -> author.setAvatarUrl(parser.getText());
+                    case "html_url" -> author.setHtmlUrl(parser.getText());
+                    case "type" -> author.setType(parser.getText());
+                    default -> {
+                    }
+                }
+            } else if (depth == 4 && token.isNumeric()) {
+                switch (field) {
+                    case "w" -> weekStart = parser.getLongValue();
+                    case "a" -> additions = parser.getLongValue();
+                    case "d" -> deletions = parser.getLongValue();
+                    case "c" -> commits = parser.getLongValue();
+                    default -> {
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package com.study.githubapi.github.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * GitHub 호출 지표
+ * 엔드포인트 태그는 경로를 그대로 쓰지 않고 repos, stats, rate_limit, graphql, other 로 묶어 태그 수를 제한한다.
+ */
+@Component
+public class GitHubClientMetrics {
+
+    public static final String ENDPOINT_REPOS = "repos";
+    public static final String ENDPOINT_STATS = "stats";
+    public static final String ENDPOINT_RATE_LIMIT = "rate_limit";
+    public static final String ENDPOINT_GRAPHQL = "graphql";
+    public static final String ENDPOINT_OTHER = "other";
+
+    private final MeterRegistry meterRegistry;
+    private final AtomicInteger activeRequests = new AtomicInteger();
+
+    public GitHubClientMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("github.client.requests.active", activeRequests, AtomicInteger::get)
+                .description("GitHub requests sent and waiting for a response")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 요청 경로로 엔드포인트 구분
+     */
+    public static String endpointOf(String path) {
+        if (path.endsWith("/repos")) {
+            return ENDPOINT_REPOS;
+        }
+        if (path.endsWith("/stats/contributors")) {
+            return ENDPOINT_STATS;
+        }
+        if (path.endsWith("/rate_limit")) {
+            return ENDPOINT_RATE_LIMIT;
+        }
+        if (path.endsWith("/graphql")) {
+            return ENDPOINT_GRAPHQL;
+        }
+        return ENDPOINT_OTHER;
+    }
+
+    void requestStarted() {
+        activeRequests.incrementAndGet();
+    }
+
+    /**
+     * 응답을 받은 요청 1건 (rate limit 대기 시간 제외)
+     */
+    void requestCompleted(String endpoint, String method, HttpStatusCode status, long durationNanos) {
+        activeRequests.decrementAndGet();
+        requestTimer(endpoint, method, String.valueOf(status.value()), outcomeOf(status)).record(durationNanos, TimeUnit.NANOSECONDS);
+        if (status.isSameCodeAs(HttpStatus.ACCEPTED) && ENDPOINT_STATS.equals(endpoint)) {
+            counter("github.client.stats.accepted", "endpoint", endpoint).increment();
+        }
+    }
+
+    /**
+     * 응답 없이 끝난 요청 1건 (연결 실패, 타임아웃, 취소)
+     */
+    void requestFailed(String endpoint, String method, String outcome, long durationNanos) {
+        activeRequests.decrementAndGet();
+        requestTimer(endpoint, method, "NONE", outcome).record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 403 응답 (rate limit 초과 여부 구분)
+     */
+    void forbidden(String endpoint, boolean rateLimited) {
+        counter("github.client.forbidden", "endpoint", endpoint, "rate_limited", String.valueOf(rateLimited)).increment();
+    }
+
+    /**
+     * rate limit 예산 때문에 요청을 늦춘 시간
+     */
+    void rateLimitWait(String resource, Duration wait) {
+        Timer.builder("github.client.rate_limit.wait")
+                .description("Time requests were held back by local rate limit pacing")
+                .tag("resource", resource)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(wait);
+    }
+
+    /**
+     * 재시도 1회 (reason: server_error, rate_limited, timeout, stats_pending)
+     */
+    public void retry(String endpoint, String reason) {
+        counter("github.client.retries", "endpoint", endpoint, "reason", reason).increment();
+    }
+
+    /**
+     * 재시도 사유 구분 (rate_limited, server_error, timeout, other)
+     */
+    public static String retryReason(Throwable error) {
+        if (error instanceof WebClientResponseException webClientException) {
+            if (RateLimitTracker.isRateLimited(webClientException.getStatusCode(), webClientException.getHeaders())) {
+                return "rate_limited";
+            }
+            if (webClientException.getStatusCode().is5xxServerError()) {
+                return "server_error";
+            }
+        }
+        if (ResponseTimeoutFilter.isTimeout(error)) {
+            return "timeout";
+        }
+        return "other";
+    }
+
+    /**
+     * 재시도 후에도 실패해 빈 결과로 대체된 호출 (repos: 목록 한 페이지, stats: 레포지토리 1개)
+     */
+    public void dropped(String endpoint) {
+        counter("github.client.dropped", "endpoint", endpoint).increment();
+    }
+
+    /**
+     * hedge 요청 (outcome: sent - 보냄, won - 원래 요청보다 먼저 응답, skipped - 비율/예산 상한으로 보내지 않음, failed - hedge 요청 실패)
+     */
+    void hedge(String endpoint, String outcome) {
+        counter("github.client.hedges", "endpoint", endpoint, "outcome", outcome).increment();
+    }
+
+    /**
+     * 엔드포인트의 현재 hedge 기준 지연 (아직 계산되지 않았으면 0)
+     */
+    void hedgeDelay(String endpoint, Supplier<Duration> delay) {
+        Gauge.builder("github.client.hedge.delay", () -> {
+                    Duration current = delay.get();
+                    return current == null ? 0 : current.toMillis();
+                })
+                .description("Latency after which a duplicate request is sent")
+                .tag("endpoint", endpoint)
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * circuit breaker 상태 (0: closed, 1: half-open, 2: open)
+     */
+    void circuitBreaker(String endpoint, CircuitBreaker breaker) {
+        Gauge.builder("github.client.circuit_breaker.state", breaker, b -> b.getState().ordinal())
+                .description("Circuit breaker state (0 closed, 1 half-open, 2 open)")
+                .tag("endpoint", endpoint)
+                .register(meterRegistry);
+    }
+
+    void circuitTransition(String endpoint, String state) {
+        counter("github.client.circuit_breaker.transitions", "endpoint", endpoint, "state", state).increment();
+    }
+
+    /**
+     * circuit breaker 가 열려 있어 보내지 않은 요청
+     */
+    void circuitRejected(String endpoint) {
+        counter("github.client.circuit_breaker.rejected", "endpoint", endpoint).increment();
+    }
+
+    private Timer requestTimer(String endpoint, String method, String status, String outcome) {
+        return Timer.builder("github.client.requests")
+                .description("GitHub API request latency")
+                .tags("endpoint", endpoint, "method", method, "status", status, "outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private Counter counter(String name, String... tags) {
+        return Counter.builder(name).tags(tags).register(meterRegistry);
+    }
+
+    private static String outcomeOf(HttpStatusCode status) {
+        if (status.is2xxSuccessful()) {
+            return "SUCCESS";
+        }
+        if (status.is3xxRedirection()) {
+            return "REDIRECTION";
+        }
+        if (status.is4xxClientError()) {
+            return "CLIENT_ERROR";
+        }
+        if (status.is5xxServerError()) {
+            return "SERVER_ERROR";
+        }
+        return "UNKNOWN";
+    }
+}
@@ -0,0 +1,57 @@
+package com.study.githubapi.github.client;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * 최근 응답 지연의 percentile 계산 (고정 크기 ring buffer)
+ * 매 기록마다 정렬하지 않도록 window 크기의 1/20 만큼 기록될 때마다 다시 계산한다.
+ */
+class LatencyWindow {
+
+    private final long[] samples;
+    private final double percentile;
+    private final int minSamples;
+    private final int recomputeEvery;
+
+    private int position;
+    private int size;
+    private int sinceRecompute;
+    private volatile Duration current;
+
+    LatencyWindow(int windowSize, double percentile, int minSamples) {
+        this.samples = new long[Math.max(1, windowSize)];
+        this.percentile = percentile;
+        this.minSamples = Math.min(minSamples, samples.length);
+        this.recomputeEvery = Math.max(1, samples.length / 20);
+    }
+
+    synchronized void record(long latencyNanos) {
+        samples[position] = latencyNanos;
+        position = (position + 1) % samples.length;
+        if (size < samples.length) {
+            size++;
+        }
+        if (size >= minSamples && ++sinceRecompute >= recomputeEvery) {
+            sinceRecompute = 0;
+            long[] sorted = Arrays.copyOf(samples, size);
+            Arrays.sort(sorted);
+            int index = (int) Math.ceil(percentile * size) - 1;
+            current = Duration.ofNanos(sorted[Math.max(0, Math.min(size - 1, index))]);
+        }
+    }
+
+    /**
+     * 지금까지 기록된 표본 수 (window 크기까지)
+     */
+    synchronized int size() {
+        return size;
+    }
+
+    /**
+     * 현재 percentile 지연 (표본이 minSamples 보다 적으면 null)
+     */
+    Duration percentile() {
+        return current;
+    }
+}
@@ -0,0 +1,54 @@
+package com.study.githubapi.github.client;
+
+import org.springframework.util.StringUtils;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * GitHub 페이징 응답의 Link 헤더 파서
+ * 예: {@code <https://api.github.com/organizations/1/repos?page=2>; rel="next", <...?page=34>; rel="last"}
+ */
+public final class LinkHeaderParser {
+    
+    private static final Pattern LINK_PATTERN = Pattern.compile("<([^>]*)>\\s*;\\s*rel=\"([^\"]+)\"");
+    
+    private LinkHeaderParser() {
+    }
+    
+    /**
+     * rel 값 → URL 맵
+     */
+    public static Map<String, String> parse(String header) {
+        Map<String, String> links = new LinkedHashMap<>();
+        if (!StringUtils.hasText(header)) {
+            return links;
+        }
+        
+        Matcher matcher = LINK_PATTERN.matcher(header);
+        while (matcher.find()) {
+            for (String rel : matcher.group(2).trim().split("\\s+")) {
+                links.put(rel, matcher.group(1));
+            }
+        }
+        return links;
+    }
+    
+    /**
+     * URL 의 page 쿼리 파라미터 (없거나 숫자가 아니면 -1)
+     */
+    public static int pageOf(String url) {
+        if (!StringUtils.hasText(url)) {
+            return -1;
+        }
+        String page = UriComponentsBuilder.fromUriString(url).build().getQueryParams().getFirst("page");
+        try {
+            return page != null ? Integer.parseInt(page) : -1;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.study.githubapi.github.client;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * Rate limit 예산이 소진되어 허용된 최대 대기 시간 안에 요청을 보낼 수 없는 경우
+ */
+@Getter
+public class RateLimitExceededException extends RuntimeException {
+    
+    private final String token;
+    private final String resource;
+    private final Duration wait;
+    
+    public RateLimitExceededException(String token, String resource, Duration wait) {
+        super("GitHub rate limit exhausted for token " + token + " (" + resource + "), next slot in " + wait.toSeconds() + "s");
+        this.token = token;
+        this.resource = resource;
+        this.wait = wait;
+    }
+}
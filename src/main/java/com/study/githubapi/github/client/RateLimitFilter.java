@@ -0,0 +1,72 @@
+package com.study.githubapi.github.client;
+
+import com.study.githubapi.github.service.FetchProgress;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * 모든 GitHub 요청에 rate limit 예산을 적용하는 필터
+ * 요청 전 {@link RateLimitTracker}에서 대기 시간을 받아 페이싱하고 (예산 소진 시 reset 까지 대기),
+ * 응답 헤더로 예산을 갱신한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RateLimitFilter implements ExchangeFilterFunction {
+    
+    private final RateLimitTracker rateLimitTracker;
+    private final GitHubClientMetrics metrics;
+    
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        String token = TokenFingerprint.fromHeaders(request.headers());
+        String path = request.url().getPath();
+        String resource = RateLimitTracker.resourceOf(path);
+        
+        // /rate_limit 조회는 예산을 차감하지 않음
+        if (path.endsWith("/rate_limit")) {
+            return next.exchange(request)
+                    .doOnNext(response -> rateLimitTracker.record(token, resource, 
+                            response.headers().asHttpHeaders(), response.statusCode()));
+        }
+        
+        return Mono.deferContextual(context -> {
+            Duration wait = rateLimitTracker.reserve(token, resource);
+            Mono<ClientResponse> exchange = next.exchange(request)
+                    .doOnNext(response -> {
+                        rateLimitTracker.record(token, resource, response.headers().asHttpHeaders(), response.statusCode());
+                        FetchProgress.from(context).ifPresent(progress -> {
+                            if (response.statusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+                                progress.notModified();
+                            } else {
+                                progress.requestSent();
+                            }
+                        });
+                    });
+            
+            if (wait.isZero()) {
+                return exchange.doFinally(signal -> rateLimitTracker.release(token, resource));
+            }
+            
+            if (wait.toSeconds() >= 60) {
+                log.info("Rate limit budget exhausted for token {} ({}), parking {} for {}s", 
+                    token, resource, path, wait.toSeconds());
+            } else {
+                log.debug("Pacing {} for {}ms (token {})", path, wait.toMillis(), token);
+            }
+            metrics.rateLimitWait(resource, wait);
+            return Mono.delay(wait)
+                    .then(exchange)
+                    .doFinally(signal -> rateLimitTracker.release(token, resource));
+        });
+    }
+}
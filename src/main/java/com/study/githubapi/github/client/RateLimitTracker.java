@@ -0,0 +1,416 @@
+package com.study.githubapi.github.client;
+
+import com.study.githubapi.github.config.GitHubApiConfig;
+import com.study.githubapi.github.dto.RateLimitStatus;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 토큰별 GitHub Rate Limit 예산 추적기
+ * 모든 응답의 X-RateLimit-Limit/Remaining/Used/Reset 헤더로 예산을 갱신하고,
+ * 요청 전에 얼마나 기다려야 하는지(페이싱, 소진 시 reset 까지 대기)를 계산한다.
+ * 지표는 토큰 풀의 토큰과 익명 요청만 토큰별로 남기고, 요청마다 전달되는 토큰은 token=caller 하나로 합친다.
+ * 요청마다 전달되는 토큰의 예산은 reset 시각이 지나고 진행 중인 요청이 없으면 정리한다.
+ */
+@Slf4j
+@Component
+public class RateLimitTracker {
+
+    public static final String RESOURCE_CORE = "core";
+    public static final String RESOURCE_GRAPHQL = "graphql";
+    public static final String RESOURCE_SEARCH = "search";
+
+    private static final String HEADER_LIMIT = "X-RateLimit-Limit";
+    private static final String HEADER_REMAINING = "X-RateLimit-Remaining";
+    private static final String HEADER_USED = "X-RateLimit-Used";
+    private static final String HEADER_RESET = "X-RateLimit-Reset";
+    private static final String HEADER_RESOURCE = "X-RateLimit-Resource";
+    private static final String CALLER_TAG = "caller";
+    private static final long EVICTION_INTERVAL_MILLIS = Duration.ofMinutes(1).toMillis();
+
+    private final GitHubApiConfig.RateLimit properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Budget> budgets = new ConcurrentHashMap<>();
+    private final Map<String, Budget> callerBudgets = new ConcurrentHashMap<>();
+    private final Set<String> meteredTokens;
+    private final Set<String> callerMeteredResources = ConcurrentHashMap.newKeySet();
+    private final AtomicLong nextEvictionMillis = new AtomicLong();
+
+    public RateLimitTracker(GitHubApiConfig gitHubApiConfig, MeterRegistry meterRegistry) {
+        this.properties = gitHubApiConfig.getRateLimit();
+        this.meterRegistry = meterRegistry;
+        this.meteredTokens = gitHubApiConfig.getTokenPool().getTokens().stream()
+                .filter(StringUtils::hasText)
+                .map(token -> TokenFingerprint.of(token.trim()))
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    /**
+     * 요청 경로로 rate limit 리소스 구분
+     */
+    public static String resourceOf(String path) {
+        if (path.endsWith("/graphql")) {
+            return RESOURCE_GRAPHQL;
+        }
+        if (path.contains("/search/")) {
+            return RESOURCE_SEARCH;
+        }
+        return RESOURCE_CORE;
+    }
+
+    /**
+     * 요청 1건에 대한 예산 확보
+     * 보낼 때까지 기다려야 하는 시간을 반환한다 (즉시 가능하면 Duration.ZERO).
+     */
+    public Duration reserve(String tokenFingerprint, String resource) {
+        if (!properties.isEnabled()) {
+            return Duration.ZERO;
+        }
+        Budget budget;
+        Duration wait;
+        do {
+            // 정리된 예산을 받았으면 새 예산으로 다시 확보
+            budget = budget(tokenFingerprint, resource);
+            wait = budget.reserve(System.currentTimeMillis());
+        } while (wait == null);
+        if (wait.compareTo(properties.getMaxWait()) > 0) {
+            budget.release();
+            throw new RateLimitExceededException(tokenFingerprint, resource, wait);
+        }
+        return wait;
+    }
+
+    /**
+     * 지금 바로 사용할 수 있는 요청 수 추정치 (진행 중인 요청과 reserve 제외, 차단 중이면 0)
+     * 응답을 받은 적이 없는 토큰은 설정된 시간당 요청 수로 가정한다.
+     */
+    public long available(String tokenFingerprint, String resource) {
+        Budget budget = budgets.get(key(tokenFingerprint, resource));
+        if (budget == null) {
+            return properties.getRequestsPerHour() - properties.getReserve();
+        }
+        return budget.available(System.currentTimeMillis());
+    }
+
+    /**
+     * 요청 완료(성공/실패/취소) 시 확보했던 예산 반납
+     * 실제 사용량은 응답 헤더로 갱신되므로 진행 중 카운트만 줄인다.
+     */
+    public void release(String tokenFingerprint, String resource) {
+        if (properties.isEnabled()) {
+            budget(tokenFingerprint, resource).release();
+        }
+    }
+
+    /**
+     * 응답 헤더로 예산 갱신
+     */
+    public void record(String tokenFingerprint, String requestedResource, HttpHeaders headers, HttpStatusCode status) {
+        String resource = Optional.ofNullable(headers.getFirst(HEADER_RESOURCE)).orElse(requestedResource);
+        Long limit = parseLong(headers.getFirst(HEADER_LIMIT));
+        Long remaining = parseLong(headers.getFirst(HEADER_REMAINING));
+        Long used = parseLong(headers.getFirst(HEADER_USED));
+        Long reset = parseLong(headers.getFirst(HEADER_RESET));
+        Long retryAfter = parseLong(headers.getFirst(HttpHeaders.RETRY_AFTER));
+
+        Budget budget;
+        do {
+            budget = budget(tokenFingerprint, resource);
+        } while (!budget.update(limit, remaining, used, reset, System.currentTimeMillis()));
+
+        // secondary rate limit: Retry-After 동안 해당 토큰의 요청을 멈춘다
+        if (retryAfter != null && (status.isSameCodeAs(HttpStatus.FORBIDDEN) || status.isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS))) {
+            budget.blockFor(Duration.ofSeconds(retryAfter), System.currentTimeMillis());
+            log.warn("Secondary rate limit hit for token {} ({}), pausing for {}s", tokenFingerprint, resource, retryAfter);
+        }
+    }
+
+    /**
+     * 응답 헤더가 rate limit 초과를 뜻하는지 확인 (권한 부족 403 과 구분)
+     */
+    public static boolean isRateLimited(HttpStatusCode status, HttpHeaders headers) {
+        if (status.isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS)) {
+            return true;
+        }
+        if (!status.isSameCodeAs(HttpStatus.FORBIDDEN)) {
+            return false;
+        }
+        return "0".equals(headers.getFirst(HEADER_REMAINING)) || headers.getFirst(HttpHeaders.RETRY_AFTER) != null;
+    }
+
+    /**
+     * 로컬에서 추적 중인 예산 상태 (응답을 받은 적이 없으면 empty)
+     */
+    public Optional<RateLimitStatus> getStatus(String tokenFingerprint, String resource) {
+        Budget budget = budgets.get(key(tokenFingerprint, resource));
+        if (budget == null || !budget.isObserved()) {
+            return Optional.empty();
+        }
+        return Optional.of(budget.toStatus(tokenFingerprint, resource, System.currentTimeMillis()));
+    }
+
+    /**
+     * 추적 중인 모든 토큰/리소스의 예산 상태
+     */
+    public List<RateLimitStatus> getAllStatuses() {
+        long now = System.currentTimeMillis();
+        return budgets.entrySet().stream()
+                .filter(entry -> entry.getValue().isObserved())
+                .map(entry -> {
+                    String[] parts = entry.getKey().split(":", 2);
+                    return entry.getValue().toStatus(parts[0], parts[1], now);
+                })
+                .toList();
+    }
+
+    private Budget budget(String tokenFingerprint, String resource) {
+        evictIdleCallerBudgets(System.currentTimeMillis());
+        return budgets.computeIfAbsent(key(tokenFingerprint, resource), k -> {
+            Budget budget = new Budget(properties);
+            if (TokenFingerprint.ANONYMOUS.equals(tokenFingerprint) || meteredTokens.contains(tokenFingerprint)) {
+                Gauge.builder("github.rate_limit.remaining", budget, b -> b.remaining(System.currentTimeMillis()))
+                        .description("Remaining GitHub rate limit budget tracked from response headers")
+                        .tags("token", tokenFingerprint, "resource", resource)
+                        .register(meterRegistry);
+                Gauge.builder("github.rate_limit.in_flight", budget, Budget::inFlight)
+                        .description("Requests holding a reserved rate limit slot")
+                        .tags("token", tokenFingerprint, "resource", resource)
+                        .register(meterRegistry);
+            } else {
+                callerBudgets.put(k, budget);
+                registerCallerGauges(resource);
+            }
+            return budget;
+        });
+    }
+
+    /**
+     * reset 시각이 지나고 진행 중인 요청이 없는 요청 토큰의 예산 정리 (1분에 한 번)
+     * 다음 요청에는 설정된 시간당 요청 수로 다시 시작하므로 지난 윈도우의 값을 보관할 필요가 없다.
+     */
+    void evictIdleCallerBudgets(long now) {
+        long next = nextEvictionMillis.get();
+        if (now < next || !nextEvictionMillis.compareAndSet(next, now + EVICTION_INTERVAL_MILLIS)) {
+            return;
+        }
+        callerBudgets.forEach((key, budget) -> {
+            if (budget.retireIfIdle(now)) {
+                budgets.remove(key, budget);
+                callerBudgets.remove(key, budget);
+            }
+        });
+    }
+
+    /**
+     * 요청에 전달된 토큰은 리소스별 gauge 하나로 합친다 (가장 적게 남은 예산, 진행 중인 요청 합계)
+     */
+    private void registerCallerGauges(String resource) {
+        if (!callerMeteredResources.add(resource)) {
+            return;
+        }
+        String suffix = ":" + resource;
+        Gauge.builder("github.rate_limit.remaining", callerBudgets, tracked -> tracked.entrySet().stream()
+                        .filter(entry -> entry.getKey().endsWith(suffix))
+                        .mapToLong(entry -> entry.getValue().remaining(System.currentTimeMillis()))
+                        .min()
+                        .orElse(properties.getRequestsPerHour()))
+                .description("Remaining GitHub rate limit budget tracked from response headers")
+                .tags("token", CALLER_TAG, "resource", resource)
+                .register(meterRegistry);
+        Gauge.builder("github.rate_limit.in_flight", callerBudgets, tracked -> tracked.entrySet().stream()
+                        .filter(entry -> entry.getKey().endsWith(suffix))
+                        .mapToLong(entry -> entry.getValue().inFlight())
+                        .sum())
+                .description("Requests holding a reserved rate limit slot")
+                .tags("token", CALLER_TAG, "resource", resource)
+                .register(meterRegistry);
+    }
+
+    private static String key(String tokenFingerprint, String resource) {
+        return tokenFingerprint + ":" + resource;
+    }
+
+    private static Long parseLong(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 토큰 + 리소스 단위 예산
+     */
+    private static final class Budget {
+        private final GitHubApiConfig.RateLimit properties;
+
+        private long limit;
+        private long remaining;
+        private long used;
+        private long resetAtMillis;
+        private long blockedUntilMillis;
+        private long nextSlotMillis;
+        private long inFlight;
+        private long updatedAtMillis;
+        private boolean observed;
+        private boolean retired;
+        private long usedUntilMillis; // 마지막으로 요청/응답이 있었던 윈도우의 reset 시각 (조회로 윈도우가 넘어가도 유지)
+
+        private Budget(GitHubApiConfig.RateLimit properties) {
+            this.properties = properties;
+            this.limit = properties.getRequestsPerHour();
+            this.remaining = properties.getRequestsPerHour();
+            this.resetAtMillis = System.currentTimeMillis() + Duration.ofHours(1).toMillis();
+        }
+
+        /**
+         * 정리된 예산이면 null
+         */
+        synchronized Duration reserve(long now) {
+            if (retired) {
+                return null;
+            }
+            rollWindow(now);
+            inFlight++;
+            usedUntilMillis = resetAtMillis;
+
+            if (blockedUntilMillis > now) {
+                return Duration.ofMillis(blockedUntilMillis - now);
+            }
+
+            // 설정된 시간당 요청 수가 GitHub 한도보다 작으면 설정값을 우선 적용
+            long effectiveLimit = Math.min(limit, properties.getRequestsPerHour());
+            long effectiveRemaining = Math.min(remaining, properties.getRequestsPerHour() - used) - inFlight;
+            long spendable = effectiveRemaining - properties.getReserve();
+            if (spendable < 0) {
+                // 예산 소진: reset 시점까지 대기
+                return Duration.ofMillis(Math.max(resetAtMillis - now, 0) + properties.getResetGrace().toMillis());
+            }
+
+            // 남은 예산이 일정 비율 아래로 떨어지면 reset 까지 남은 시간에 균등 분배
+            if (effectiveRemaining > effectiveLimit * properties.getPacingThreshold()) {
+                return Duration.ZERO;
+            }
+            long interval = Math.max(0, resetAtMillis - now) / Math.max(spendable, 1);
+            long slot = Math.max(now, nextSlotMillis);
+            nextSlotMillis = slot + interval;
+            return Duration.ofMillis(slot - now);
+        }
+
+        synchronized long available(long now) {
+            rollWindow(now);
+            if (blockedUntilMillis > now) {
+                return 0;
+            }
+            long effectiveRemaining = Math.min(remaining, properties.getRequestsPerHour() - used) - inFlight;
+            return Math.max(0, effectiveRemaining - properties.getReserve());
+        }
+
+        synchronized void release() {
+            inFlight = Math.max(0, inFlight - 1);
+        }
+
+        /**
+         * 정리된 예산이면 false
+         */
+        synchronized boolean update(Long limit, Long remaining, Long used, Long reset, long now) {
+            if (retired) {
+                return false;
+            }
+            if (limit == null || remaining == null) {
+                return true;
+            }
+            long resetAt = reset != null ? reset * 1000 : this.resetAtMillis;
+            // 늦게 도착한 이전 윈도우 응답은 무시
+            if (observed && resetAt < this.resetAtMillis) {
+                return true;
+            }
+            this.limit = limit;
+            this.remaining = remaining;
+            this.used = used != null ? used : limit - remaining;
+            this.resetAtMillis = resetAt;
+            this.updatedAtMillis = now;
+            this.observed = true;
+            this.usedUntilMillis = Math.max(usedUntilMillis, resetAt);
+            return true;
+        }
+
+        synchronized void blockFor(Duration duration, long now) {
+            blockedUntilMillis = Math.max(blockedUntilMillis, now + duration.toMillis());
+        }
+
+        synchronized long remaining(long now) {
+            rollWindow(now);
+            return Math.max(remaining, 0);
+        }
+
+        /**
+         * reset 시각이 지났고 진행 중인 요청/차단이 없으면 더 이상 사용하지 않도록 표시
+         */
+        synchronized boolean retireIfIdle(long now) {
+            if (inFlight == 0 && now >= usedUntilMillis && now >= blockedUntilMillis) {
+                retired = true;
+            }
+            return retired;
+        }
+
+        synchronized long inFlight() {
+            return inFlight;
+        }
+
+        synchronized boolean isObserved() {
+            return observed;
+        }
+
+        synchronized RateLimitStatus toStatus(String tokenFingerprint, String resource, long now) {
+            rollWindow(now);
+            return RateLimitStatus.builder()
+                    .token(tokenFingerprint)
+                    .resource(resource)
+                    .source(RateLimitStatus.SOURCE_LOCAL)
+                    .limit(limit)
+                    .remaining(Math.max(remaining, 0))
+                    .used(used)
+                    .inFlight(inFlight)
+                    .resetAt(toDateTime(resetAtMillis))
+                    .blockedUntil(blockedUntilMillis > now ? toDateTime(blockedUntilMillis) : null)
+                    .updatedAt(toDateTime(updatedAtMillis))
+                    .build();
+        }
+
+        private void rollWindow(long now) {
+            if (now >= resetAtMillis) {
+                remaining = limit;
+                used = 0;
+                blockedUntilMillis = 0;
+                nextSlotMillis = 0;
+                resetAtMillis = now + Duration.ofHours(1).toMillis();
+            }
+        }
+
+        private static LocalDateTime toDateTime(long epochMillis) {
+            return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneOffset.UTC);
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.study.githubapi.github.client;
+
+import com.study.githubapi.github.config.GitHubApiConfig;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * hedged request
+ * 요청이 엔드포인트의 최근 지연 percentile 안에 끝나지 않으면 같은 요청을 한 번 더 보내고 먼저 도착한 결과를 사용한다 (늦은 쪽은 취소, hedge 요청의 실패는 무시).
+ * hedge 요청도 rate limit 예산을 쓰므로 전체 요청 대비 비율과 호출자가 넘긴 예산 조건으로 제한한다.
+ * 지연 표본은 호출자가 표본으로 인정한 결과(202 생성 중 응답 제외)와, hedge 에 져서 취소된 원래 요청의 경과 시간(실제 지연의 하한)으로 기록한다.
+ */
+@Component
+public class RequestHedger {
+
+    private final GitHubApiConfig gitHubApiConfig;
+    private final GitHubClientMetrics metrics;
+    private final Map<String, EndpointState> endpoints = new ConcurrentHashMap<>();
+
+    public RequestHedger(GitHubApiConfig gitHubApiConfig, GitHubClientMetrics metrics) {
+        this.gitHubApiConfig = gitHubApiConfig;
+        this.metrics = metrics;
+    }
+
+    /**
+     * call 을 실행하고, 필요하면 hedge 요청을 추가로 보냄
+     *
+     * @param endpoint 지연 분포를 구분할 엔드포인트 ({@link GitHubClientMetrics#endpointOf})
+     * @param affordable hedge 요청을 보낼 만큼 예산이 남았는지 (hedge 시점에 확인)
+     * @param call 요청 (구독할 때마다 새로 요청해야 함)
+     */
+    public <T> Mono<T> execute(String endpoint, BooleanSupplier affordable, Supplier<Mono<T>> call) {
+        return execute(endpoint, affordable, value -> true, call);
+    }
+
+    /**
+     * call 을 실행하고, 필요하면 hedge 요청을 추가로 보냄
+     *
+     * @param endpoint 지연 분포를 구분할 엔드포인트 ({@link GitHubClientMetrics#endpointOf})
+     * @param affordable hedge 요청을 보낼 만큼 예산이 남았는지 (hedge 시점에 확인)
+     * @param sampled 지연 표본으로 기록할 결과인지 (즉시 돌아오는 202 생성 중 응답은 제외)
+     * @param call 요청 (구독할 때마다 새로 요청해야 함)
+     */
+    public <T> Mono<T> execute(String endpoint, BooleanSupplier affordable, Predicate<? super T> sampled, Supplier<Mono<T>> call) {
+        GitHubApiConfig.Hedging hedging = gitHubApiConfig.getHedging();
+        if (!hedging.isEnabled()) {
+            return call.get();
+        }
+        EndpointState state = endpoints.computeIfAbsent(endpoint, this::newState);
+        return Mono.defer(() -> {
+            state.requests.incrementAndGet();
+            Mono<T> primary = timed(call, state.latencies, sampled, true);
+            Duration percentile = state.latencies.percentile();
+            if (percentile == null) {
+                return primary;
+            }
+
+            Duration hedgeAfter = percentile.compareTo(hedging.getMinDelay()) > 0 ? percentile : hedging.getMinDelay();
+            Mono<T> hedge = Mono.delay(hedgeAfter)
+                    .then(Mono.defer(() -> {
+                        if (state.hedges.get() + 1 > hedging.getMaxRatio() * state.requests.get() || !affordable.getAsBoolean()) {
+                            metrics.hedge(endpoint, "skipped");
+                            return Mono.<T>never(); // 원래 요청 결과를 그대로 사용
+                        }
+                        state.hedges.incrementAndGet();
+                        metrics.hedge(endpoint, "sent");
+                        return timed(call, state.latencies, sampled, false)
+                                .doOnNext(value -> {
+                                    state.won.incrementAndGet();
+                                    metrics.hedge(endpoint, "won");
+                                })
+                                // hedge 가 먼저 실패해도 원래 요청은 취소하지 않는다 (호출자에게는 원래 요청의 오류만 전달)
+                                .onErrorResume(error -> {
+                                    metrics.hedge(endpoint, "failed");
+                                    return Mono.never();
+                                });
+                    }));
+            return Mono.firstWithSignal(primary, hedge);
+        });
+    }
+
+    /**
+     * 엔드포인트별 요청 수, hedge 수, 현재 hedge 기준 지연
+     */
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> statistics = new LinkedHashMap<>();
+        endpoints.forEach((endpoint, state) -> {
+            Duration percentile = state.latencies.percentile();
+            Map<String, Object> values = new LinkedHashMap<>();
+            values.put("requests", state.requests.get());
+            values.put("hedges", state.hedges.get());
+            values.put("hedgesWon", state.won.get());
+            values.put("hedgeAfterMillis", percentile != null ? percentile.toMillis() : null);
+            values.put("latencySamples", state.latencies.size());
+            statistics.put(endpoint, values);
+        });
+        return statistics;
+    }
+
+    /**
+     * 응답 지연을 기록
+     * recordCancelled 이면 응답 전에 취소된 경우에도 그때까지의 경과 시간을 기록한다.
+     * (hedge 가 이긴 느린 요청을 빼면 분포가 빠른 쪽으로 치우쳐 hedge 를 점점 더 일찍 보내게 됨)
+     */
+    private static <T> Mono<T> timed(Supplier<Mono<T>> call, LatencyWindow latencies, Predicate<? super T> sampled,
+                                     boolean recordCancelled) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            AtomicBoolean finished = new AtomicBoolean();
+            Mono<T> timed = call.get()
+                    .doOnNext(value -> {
+                        if (finished.compareAndSet(false, true) && sampled.test(value)) {
+                            latencies.record(System.nanoTime() - start);
+                        }
+                    })
+                    .doOnTerminate(() -> finished.set(true));
+            if (!recordCancelled) {
+                return timed;
+            }
+            return timed.doOnCancel(() -> {
+                if (finished.compareAndSet(false, true)) {
+                    latencies.record(System.nanoTime() - start);
+                }
+            });
+        });
+    }
+
+    private EndpointState newState(String endpoint) {
+        GitHubApiConfig.Hedging hedging = gitHubApiConfig.getHedging();
+        EndpointState state = new EndpointState(
+                new LatencyWindow(hedging.getWindowSize(), hedging.getPercentile(), hedging.getMinSamples()));
+        metrics.hedgeDelay(endpoint, state.latencies::percentile);
+        return state;
+    }
+
+    private static final class EndpointState {
+        private final LatencyWindow latencies;
+        private final AtomicLong requests = new AtomicLong();
+        private final AtomicLong hedges = new AtomicLong();
+        private final AtomicLong won = new AtomicLong();
+
+        private EndpointState(LatencyWindow latencies) {
+            this.latencies = latencies;
+        }
+    }
+}
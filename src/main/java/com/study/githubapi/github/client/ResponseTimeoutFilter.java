@@ -0,0 +1,67 @@
+package com.study.githubapi.github.client;
+
+import com.study.githubapi.github.config.GitHubApiConfig;
+import io.netty.channel.ConnectTimeoutException;
+import io.netty.handler.timeout.ReadTimeoutException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClientRequest;
+
+import java.time.Duration;
+
+/**
+ * 요청 종류별 응답 타임아웃 필터
+ * 레포지토리 목록과 기여자 통계에 각각의 응답 타임아웃을 적용하고, 나머지는 HttpClient 기본값(github.api.timeout)을 따른다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ResponseTimeoutFilter implements ExchangeFilterFunction {
+
+    private final GitHubApiConfig gitHubApiConfig;
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        Duration timeout = timeoutFor(GitHubClientMetrics.endpointOf(request.url().getPath()));
+        if (timeout == null) {
+            return next.exchange(request);
+        }
+        ClientRequest timed = ClientRequest.from(request)
+                .httpRequest(httpRequest -> {
+                    Object nativeRequest = httpRequest.getNativeRequest();
+                    if (nativeRequest instanceof HttpClientRequest reactorRequest) {
+                        reactorRequest.responseTimeout(timeout);
+                    }
+                })
+                .build();
+        return next.exchange(timed);
+    }
+
+    /**
+     * 엔드포인트별 응답 타임아웃 (null 이면 기본값)
+     */
+    Duration timeoutFor(String endpoint) {
+        GitHubApiConfig.Connection connection = gitHubApiConfig.getConnection();
+        return switch (endpoint) {
+            case GitHubClientMetrics.ENDPOINT_REPOS, GitHubClientMetrics.ENDPOINT_GRAPHQL -> connection.getListResponseTimeout();
+            case GitHubClientMetrics.ENDPOINT_STATS -> connection.getStatsResponseTimeout();
+            default -> null;
+        };
+    }
+
+    /**
+     * 연결 또는 응답 타임아웃으로 실패했는지 확인 (WebClientRequestException 으로 감싸진 원인까지 확인)
+     */
+    public static boolean isTimeout(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ReadTimeoutException || cause instanceof ConnectTimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
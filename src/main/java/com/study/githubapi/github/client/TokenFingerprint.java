@@ -0,0 +1,48 @@
+package com.study.githubapi.github.client;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 토큰 원문을 저장하지 않고 토큰 단위로 상태를 구분하기 위한 식별자
+ */
+public final class TokenFingerprint {
+    
+    public static final String ANONYMOUS = "anonymous";
+    
+    private static final String BEARER_PREFIX = "Bearer ";
+    
+    private TokenFingerprint() {
+    }
+    
+    /**
+     * 토큰의 SHA-256 해시 앞 12자리
+     */
+    public static String of(String token) {
+        if (!StringUtils.hasText(token)) {
+            return ANONYMOUS;
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 6);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+    
+    /**
+     * 요청 헤더의 Authorization 값으로부터 식별자 생성
+     */
+    public static String fromHeaders(HttpHeaders headers) {
+        String authorization = headers.getFirst(HttpHeaders.AUTHORIZATION);
+        if (authorization == null) {
+            return ANONYMOUS;
+        }
+        return of(authorization.startsWith(BEARER_PREFIX) ? authorization.substring(BEARER_PREFIX.length()) : authorization);
+    }
+}
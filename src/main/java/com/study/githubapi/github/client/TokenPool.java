@@ -0,0 +1,161 @@
+package com.study.githubapi.github.client;
+
+import com.study.githubapi.github.config.GitHubApiConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 설정된 GitHub 토큰 풀
+ * 요청마다 남은 예산이 가장 많은 토큰을 고르고 (같으면 순서대로 돌아가며), 401 응답을 받은 토큰은 일정 시간 제외한다.
+ */
+@Slf4j
+@Component
+public class TokenPool {
+
+    private final List<PooledToken> tokens;
+    private final RateLimitTracker rateLimitTracker;
+    private final Duration revokedCooldown;
+    private final AtomicInteger cursor = new AtomicInteger();
+    private final long startedAtMillis = System.currentTimeMillis();
+
+    public TokenPool(GitHubApiConfig gitHubApiConfig, RateLimitTracker rateLimitTracker) {
+        GitHubApiConfig.TokenPool properties = gitHubApiConfig.getTokenPool();
+        this.tokens = properties.getTokens().stream()
+                .filter(StringUtils::hasText)
+                .map(String::trim)
+                .distinct()
+                .map(PooledToken::new)
+                .toList();
+        this.rateLimitTracker = rateLimitTracker;
+        this.revokedCooldown = properties.getRevokedCooldown();
+        if (!tokens.isEmpty()) {
+            log.info("GitHub token pool configured with {} tokens", tokens.size());
+        }
+    }
+
+    public boolean isEmpty() {
+        return tokens.isEmpty();
+    }
+
+    /**
+     * 사용할 토큰 선택 (excluded 에 있는 fingerprint 와 폐기된 토큰 제외)
+     */
+    public Optional<PooledToken> select(String resource, Set<String> excluded) {
+        long now = System.currentTimeMillis();
+        int size = tokens.size();
+        int start = Math.floorMod(cursor.getAndIncrement(), Math.max(size, 1));
+
+        PooledToken best = null;
+        long bestAvailable = -1;
+        for (int i = 0; i < size; i++) {
+            PooledToken candidate = tokens.get((start + i) % size);
+            if (candidate.isRevoked(now) || excluded.contains(candidate.getFingerprint())) {
+                continue;
+            }
+            long available = rateLimitTracker.available(candidate.getFingerprint(), resource);
+            if (available > bestAvailable) {
+                best = candidate;
+                bestAvailable = available;
+            }
+        }
+        return Optional.ofNullable(best);
+    }
+
+    /**
+     * 폐기되지 않은 토큰들의 남은 예산 합계
+     */
+    public long available(String resource) {
+        long now = System.currentTimeMillis();
+        return tokens.stream()
+                .filter(token -> !token.isRevoked(now))
+                .mapToLong(token -> rateLimitTracker.available(token.getFingerprint(), resource))
+                .sum();
+    }
+
+    /**
+     * 요청에 쓰일 토큰의 남은 예산 (token 이 있으면 해당 토큰, 없으면 풀 전체, 풀도 비어 있으면 익명 예산)
+     */
+    public long available(String token, String resource) {
+        if (StringUtils.hasText(token) || tokens.isEmpty()) {
+            return rateLimitTracker.available(TokenFingerprint.of(token), resource);
+        }
+        return available(resource);
+    }
+    
+    /**
+     * 401 응답을 받은 토큰을 cooldown 동안 제외
+     */
+    public void markRevoked(PooledToken token) {
+        token.revokedUntilMillis = System.currentTimeMillis() + revokedCooldown.toMillis();
+        log.warn("GitHub token {} was rejected (401), excluding it from the pool for {}s",
+                token.getFingerprint(), revokedCooldown.toSeconds());
+    }
+
+    /**
+     * 토큰별 사용 현황 (토큰 원문 대신 fingerprint 로 표시)
+     */
+    public List<Map<String, Object>> getStatistics() {
+        long now = System.currentTimeMillis();
+        double hours = Math.max(now - startedAtMillis, 60_000) / 3_600_000.0;
+        return tokens.stream()
+                .map(token -> {
+                    Map<String, Object> statistics = new LinkedHashMap<>();
+                    statistics.put("token", token.getFingerprint());
+                    statistics.put("requests", token.requests.get());
+                    statistics.put("requestsPerHour", Math.round(token.requests.get() / hours));
+                    statistics.put("failovers", token.failovers.get());
+                    statistics.put("revoked", token.isRevoked(now));
+                    statistics.put("available", rateLimitTracker.available(token.getFingerprint(), RateLimitTracker.RESOURCE_CORE));
+                    rateLimitTracker.getStatus(token.getFingerprint(), RateLimitTracker.RESOURCE_CORE)
+                            .ifPresent(status -> statistics.put("rateLimit", status));
+                    return statistics;
+                })
+                .toList();
+    }
+
+    /**
+     * 풀에 속한 토큰 1개
+     */
+    public static final class PooledToken {
+        private final String token;
+        private final String fingerprint;
+        private final AtomicLong requests = new AtomicLong();
+        private final AtomicLong failovers = new AtomicLong();
+        private volatile long revokedUntilMillis;
+
+        private PooledToken(String token) {
+            this.token = token;
+            this.fingerprint = TokenFingerprint.of(token);
+        }
+
+        public String getToken() {
+            return token;
+        }
+
+        public String getFingerprint() {
+            return fingerprint;
+        }
+
+        void requestSent() {
+            requests.incrementAndGet();
+        }
+
+        void failedOver() {
+            failovers.incrementAndGet();
+        }
+
+        private boolean isRevoked(long now) {
+            return revokedUntilMillis > now;
+        }
+    }
+}
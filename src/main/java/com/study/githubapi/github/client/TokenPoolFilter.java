@@ -0,0 +1,70 @@
+package com.study.githubapi.github.client;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Authorization 헤더가 없는 요청에 토큰 풀의 토큰을 붙이는 필터
+ * 선택한 토큰이 폐기(401)되었거나 rate limit 에 걸리면 다른 토큰으로 다시 보낸다.
+ * 요청에 토큰이 지정되어 있거나 풀이 비어 있으면 그대로 통과시킨다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenPoolFilter implements ExchangeFilterFunction {
+
+    private final TokenPool tokenPool;
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        if (tokenPool.isEmpty() || request.headers().containsKey(HttpHeaders.AUTHORIZATION)) {
+            return next.exchange(request);
+        }
+        String resource = RateLimitTracker.resourceOf(request.url().getPath());
+        return Mono.defer(() -> attempt(request, next, resource, new HashSet<>()));
+    }
+
+    private Mono<ClientResponse> attempt(ClientRequest request, ExchangeFunction next, String resource, Set<String> tried) {
+        Optional<TokenPool.PooledToken> selected = tokenPool.select(resource, tried);
+        if (selected.isEmpty()) {
+            log.warn("No usable token in the pool, sending {} without authorization", request.url().getPath());
+            return next.exchange(request);
+        }
+
+        TokenPool.PooledToken token = selected.get();
+        tried.add(token.getFingerprint());
+        token.requestSent();
+
+        ClientRequest authorized = ClientRequest.from(request)
+                .headers(headers -> headers.setBearerAuth(token.getToken()))
+                .build();
+
+        return next.exchange(authorized)
+                .flatMap(response -> {
+                    boolean revoked = response.statusCode().isSameCodeAs(HttpStatus.UNAUTHORIZED);
+                    boolean rateLimited = RateLimitTracker.isRateLimited(response.statusCode(), response.headers().asHttpHeaders());
+                    if (revoked) {
+                        tokenPool.markRevoked(token);
+                    }
+                    if ((revoked || rateLimited) && tokenPool.select(resource, tried).isPresent()) {
+                        token.failedOver();
+                        log.info("Token {} returned {} for {}, failing over to another pooled token",
+                                token.getFingerprint(), response.statusCode().value(), request.url().getPath());
+                        return response.releaseBody().then(Mono.defer(() -> attempt(request, next, resource, tried)));
+                    }
+                    return Mono.just(response);
+                });
+    }
+}
@@ -1,30 +1,227 @@
 package com.study.githubapi.github.config;
 
+import com.study.githubapi.github.client.CircuitBreakerFilter;
+import com.study.githubapi.github.client.ClientMetricsFilter;
+import com.study.githubapi.github.client.ConditionalRequestFilter;
+import com.study.githubapi.github.client.GitHubClientMetrics;
+import com.study.githubapi.github.client.RateLimitFilter;
+import com.study.githubapi.github.client.ResponseTimeoutFilter;
+import com.study.githubapi.github.client.TokenPoolFilter;
+import io.netty.channel.ChannelOption;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.Http2AllocationStrategy;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 
 @Configuration
 @ConfigurationProperties(prefix = "github.api")
 @Data
 public class GitHubApiConfig {
     private String baseUrl = "https://api.github.com";
-    private int timeout = 30000;
+    private int timeout = 30000; // 기본 응답 타임아웃 (ms, 목록/통계 외 요청)
     private int maxRetry = 3;
     private int retryDelay = 2000;
     private RateLimit rateLimit = new RateLimit();
+    private Pagination pagination = new Pagination();
+    private StatsCache statsCache = new StatsCache();
+    private StatsWarmup statsWarmup = new StatsWarmup();
+    private ConditionalRequests conditionalRequests = new ConditionalRequests();
+    private TokenPool tokenPool = new TokenPool();
+    private RepositoryListing repositoryListing = new RepositoryListing();
+    private Connection connection = new Connection();
+    private Hedging hedging = new Hedging();
+    private CircuitBreaker circuitBreaker = new CircuitBreaker();
     
     @Data
     public static class RateLimit {
+        private boolean enabled = true;
         private int requestsPerHour = 5000;
+        private int reserve = 50; // 다른 용도로 남겨둘 요청 수
+        private double pacingThreshold = 0.2; // 남은 예산이 이 비율 아래로 떨어지면 reset 까지 균등 분배
+        private Duration resetGrace = Duration.ofSeconds(2);
+        private Duration maxWait = Duration.ofMinutes(65);
+    }
+    
+    /**
+     * 레포지토리 목록 페이징 설정
+     */
+    @Data
+    public static class Pagination {
+        private int perPage = 100;
+        private int parallelism = 4;
+    }
+    
+    /**
+     * 기여자 통계 캐시 설정 (메모리 + 로컬 디스크)
+     */
+    @Data
+    public static class StatsCache {
+        private boolean enabled = true;
+        private int maxEntries = 5000;
+        private Duration ttl = Duration.ofHours(24);
+        private boolean persistent = true;
+        private String directory = "./cache/contributor-stats";
+        private int maxDiskEntries = 20000;
+    }
+    
+    /**
+     * 기여자 통계 2단계 수집 설정 (prime → 202 응답 레포지토리만 polling)
+     */
+    @Data
+    public static class StatsWarmup {
+        private boolean enabled = true;
+        private int primeConcurrency = 16;
+        private int pollConcurrency = 8;
+        private Duration pollInterval = Duration.ofSeconds(3);
+        private Duration maxPollInterval = Duration.ofSeconds(30);
+        private int maxAttempts = 10;
+    }
+    
+    /**
+     * 조건부 요청(ETag / If-None-Match) 응답 캐시 설정
+     */
+    @Data
+    public static class ConditionalRequests {
+        private boolean enabled = true;
+        private int maxEntries = 10000;
+        private DataSize maxBytes = DataSize.ofMegabytes(64);
+        private DataSize maxEntryBytes = DataSize.ofMegabytes(4);
+    }
+    
+    /**
+     * 토큰 풀 설정
+     * 요청에 token 이 없으면 풀의 토큰 중 남은 예산이 가장 많은 토큰을 사용한다.
+     */
+    @Data
+    public static class TokenPool {
+        private List<String> tokens = new ArrayList<>();
+        private Duration revokedCooldown = Duration.ofMinutes(10); // 401 응답을 받은 토큰을 제외하는 시간
+    }
+    
+    /**
+     * 레포지토리 목록 조회 방식 설정
+     */
+    @Data
+    public static class RepositoryListing {
+        private Backend backend = Backend.REST;
+        private String graphqlPath = "/graphql"; // base-url 기준 경로 (GitHub Enterprise Server 는 https://{host}/api/graphql 처럼 전체 URL 지정)
+        private int graphqlPageSize = 100; // GraphQL connection 최대값
+        
+        public enum Backend {
+            REST, // GET /orgs/{org}/repos, /users/{user}/repos
+            GRAPHQL // repositoryOwner.repositories (필요한 필드만 선택, cursor 페이징, 토큰 필요)
+        }
+    }
+    
+    /**
+     * HTTP 연결 설정
+     * 응답 타임아웃은 요청 종류별로 따로 적용한다 (stats 는 GitHub 가 통계를 계산하는 동안 응답이 늦어질 수 있음).
+     */
+    @Data
+    public static class Connection {
+        private int maxConnections = 50;
+        private int pendingAcquireMaxCount = 1000; // 연결을 기다릴 수 있는 요청 수 (초과 시 즉시 실패)
+        private Duration pendingAcquireTimeout = Duration.ofSeconds(45);
+        private Duration maxIdleTime = Duration.ofSeconds(30);
+        private Duration maxLifeTime = Duration.ofMinutes(5);
+        private Duration evictInBackground = Duration.ofSeconds(30);
+        private boolean http2 = true; // https 에서만 사용 (ALPN 협상 실패 시 HTTP/1.1)
+        private int http2MaxConcurrentStreams = 100; // HTTP/2 연결 1개당 동시 요청 수
+        private Duration connectTimeout = Duration.ofSeconds(5); // 모든 요청 공통 (연결은 풀에서 엔드포인트 구분 없이 재사용되므로 요청 종류별로 나누지 않음)
+        private Duration listResponseTimeout = Duration.ofSeconds(30); // 레포지토리 목록 (REST, GraphQL)
+        private Duration statsResponseTimeout = Duration.ofSeconds(60); // 기여자 통계
+        private boolean metrics = true; // reactor.netty.connection.provider.* / reactor.netty.http.client.* 지표
+    }
+    
+    /**
+     * 기여자 통계 hedged request 설정
+     * 응답이 최근 지연 분포의 percentile 을 넘도록 오지 않으면 같은 요청을 한 번 더 보내고 먼저 온 응답을 사용한다.
+     */
+    @Data
+    public static class Hedging {
+        private boolean enabled = false;
+        private double percentile = 0.95;
+        private int windowSize = 1000; // 지연 분포를 계산할 최근 응답 수
+        private int minSamples = 100; // 이보다 적게 관측되면 hedge 하지 않음
+        private Duration minDelay = Duration.ofMillis(500);
+        private double maxRatio = 0.1; // 전체 요청 대비 hedge 요청 비율 상한
+        private int minRemaining = 500; // 토큰의 남은 예산이 이보다 적으면 hedge 하지 않음
+    }
+    
+    /**
+     * 엔드포인트(repos, stats, graphql)별 circuit breaker 설정
+     * 최근 요청 중 5xx/타임아웃 비율이 임계값을 넘으면 openDuration 동안 요청을 보내지 않고 즉시 실패시킨다.
+     */
+    @Data
+    public static class CircuitBreaker {
+        private boolean enabled = true;
+        private int windowSize = 50; // 실패율을 계산할 최근 요청 수
+        private int minCalls = 20;
+        private double failureRateThreshold = 0.5;
+        private Duration openDuration = Duration.ofSeconds(30);
+        private int halfOpenProbes = 3; // half-open 상태에서 보내는 시험 요청 수 (모두 성공하면 close)
+    }
+    
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider gitHubConnectionProvider() {
+        ConnectionProvider.Builder builder = ConnectionProvider.builder("github")
+                .maxConnections(connection.getMaxConnections())
+                .pendingAcquireMaxCount(connection.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(connection.getPendingAcquireTimeout())
+                .maxIdleTime(connection.getMaxIdleTime())
+                .maxLifeTime(connection.getMaxLifeTime())
+                .evictInBackground(connection.getEvictInBackground())
+                .metrics(connection.isMetrics());
+        if (isHttp2Enabled()) {
+            // HTTP/2 연결은 스트림 단위로 나눠 쓰므로 연결 수 대신 연결당 스트림 수로 제한
+            builder.allocationStrategy(Http2AllocationStrategy.builder()
+                    .maxConnections(connection.getMaxConnections())
+                    .maxConcurrentStreams(connection.getHttp2MaxConcurrentStreams())
+                    .build());
+        }
+        return builder.build();
     }
     
     @Bean
-    public WebClient gitHubWebClient() {
+    public WebClient gitHubWebClient(ConnectionProvider gitHubConnectionProvider,
+                                     ConditionalRequestFilter conditionalRequestFilter, 
+                                     TokenPoolFilter tokenPoolFilter, 
+                                     CircuitBreakerFilter circuitBreakerFilter,
+                                     RateLimitFilter rateLimitFilter, 
+                                     ClientMetricsFilter clientMetricsFilter,
+                                     ResponseTimeoutFilter responseTimeoutFilter) {
+        HttpClient httpClient = HttpClient.create(gitHubConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connection.getConnectTimeout().toMillis())
+                .responseTimeout(Duration.ofMillis(timeout))
+                .protocol(isHttp2Enabled()
+                        ? new HttpProtocol[]{HttpProtocol.H2, HttpProtocol.HTTP11}
+                        : new HttpProtocol[]{HttpProtocol.HTTP11})
+                .metrics(connection.isMetrics(), GitHubClientMetrics::endpointOf); // uri 태그는 엔드포인트 단위로 묶음
+        
+        // 조건부 요청 필터가 바깥쪽에 있어야 rate limit 필터가 실제 304 응답을 보고 예산 차감 여부를 구분할 수 있다
+        // 토큰 풀 필터는 rate limit 필터보다 바깥쪽에 있어야 선택한 토큰 기준으로 예산이 적용된다
+        // circuit breaker 는 rate limit 필터 바깥쪽에 두어 차단된 요청이 예산을 기다리거나 차감하지 않도록 한다
+        // 지표 필터는 가장 안쪽에 두어 rate limit 대기 시간을 제외한 응답 시간을 측정한다
         return WebClient.builder()
                 .baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .filter(conditionalRequestFilter)
+                .filter(tokenPoolFilter)
+                .filter(circuitBreakerFilter)
+                .filter(rateLimitFilter)
+                .filter(clientMetricsFilter)
+                .filter(responseTimeoutFilter)
                 .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(1024 * 1024)) // 1MB buffer
                 .defaultHeader("Accept", "application/vnd.github+json")
                 .defaultHeader("X-GitHub-Api-Version", "2022-11-28")
@@ -32,5 +229,9 @@ public class GitHubApiConfig {
                 .build();
     }
     
+    private boolean isHttp2Enabled() {
+        return connection.isHttp2() && baseUrl.startsWith("https://");
+    }
+    
 }
 
@@ -1,15 +1,26 @@
 package com.study.githubapi.github.dto;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.study.githubapi.github.stats.WeeklyContributionIndex;
 import lombok.Data;
 
-import java.util.List;
-
+/**
+ * 기여자 통계
+ * weeks 는 Week 객체 목록 대신 컬럼형 인덱스로 보관한다 (ContributorStatsDeserializer 가 응답에서 바로 채움).
+ */
 @Data
+@JsonSerialize(using = ContributorStatsSerializer.class)
+@JsonDeserialize(using = ContributorStatsDeserializer.class)
 public class ContributorStats {
     private Long total;
     private Author author;
-    private List<Week> weeks;
+    private WeeklyContributionIndex weeks = WeeklyContributionIndex.EMPTY;
+    
+    public void setWeeks(WeeklyContributionIndex weeks) {
+        this.weeks = weeks != null ? weeks : WeeklyContributionIndex.EMPTY;
+    }
     
     @Data
     public static class Author {
@@ -24,20 +35,4 @@ public class ContributorStats {
         
         private String type;
     }
-    
-    @Data
-    public static class Week {
-        @JsonProperty("w")
-        private Long timestamp; // Unix timestamp
-        
-        @JsonProperty("a")
-        private Integer additions;
-        
-        @JsonProperty("d")
-        private Integer deletions;
-        
-        @JsonProperty("c")
-        private Integer commits;
-    }
 }
-
@@ -0,0 +1,79 @@
+package com.study.githubapi.github.dto;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.study.githubapi.github.stats.WeeklyContributionIndex;
+
+import java.io.IOException;
+
+/**
+ * 기여자 통계 스트리밍 역직렬화
+ * weeks 배열의 토큰을 읽으면서 바로 WeeklyContributionIndex 에 채우므로 주 단위 객체를 만들지 않는다.
+ */
+public class ContributorStatsDeserializer extends StdDeserializer<ContributorStats> {
+
+    public ContributorStatsDeserializer() {
+        super(ContributorStats.class);
+    }
+
+    @Override
+    public ContributorStats deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        ContributorStats stats = new ContributorStats();
+
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+            token = parser.nextToken();
+        }
+        for (; token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "total" -> stats.setTotal(value == JsonToken.VALUE_NULL ? null : parser.getLongValue());
+                case "author" -> stats.setAuthor(value == JsonToken.VALUE_NULL ? null : context.readValue(parser, ContributorStats.Author.class));
+                case "weeks" -> stats.setWeeks(readWeeks(parser));
+                default -> parser.skipChildren();
+            }
+        }
+        return stats;
+    }
+
+    /**
+     * weeks: [{"w": 1367712000, "a": 6898, "d": 77, "c": 10}, ...]
+     */
+    private static WeeklyContributionIndex readWeeks(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return WeeklyContributionIndex.EMPTY;
+        }
+
+        WeeklyContributionIndex.Builder builder = WeeklyContributionIndex.builder();
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            long weekStart = -1;
+            long additions = 0;
+            long deletions = 0;
+            long commits = 0;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if (!value.isNumeric()) {
+                    parser.skipChildren();
+                    continue;
+                }
+                switch (field) {
+                    case "w" -> weekStart = parser.getLongValue();
+                    case "a" -> additions = parser.getLongValue();
+                    case "d" -> deletions = parser.getLongValue();
+                    case "c" -> commits = parser.getLongValue();
+                    default -> {
+                    }
+                }
+            }
+            if (weekStart >= 0) {
+                builder.add(weekStart, additions, deletions, commits);
+            }
+        }
+        return builder.build();
+    }
+}
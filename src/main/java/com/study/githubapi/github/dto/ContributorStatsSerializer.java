@@ -0,0 +1,44 @@
+package com.study.githubapi.github.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.study.githubapi.github.stats.WeeklyContributionIndex;
+
+import java.io.IOException;
+
+/**
+ * 기여자 통계 직렬화 (디스크 캐시용)
+ * GitHub 응답과 같은 형식으로 쓰되, 활동이 없는 주는 저장되어 있지 않으므로 생략된다.
+ */
+public class ContributorStatsSerializer extends StdSerializer<ContributorStats> {
+
+    public ContributorStatsSerializer() {
+        super(ContributorStats.class);
+    }
+
+    @Override
+    public void serialize(ContributorStats stats, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        generator.writeStartObject();
+        if (stats.getTotal() != null) {
+            generator.writeNumberField("total", stats.getTotal());
+        }
+        if (stats.getAuthor() != null) {
+            generator.writeFieldName("author");
+            provider.defaultSerializeValue(stats.getAuthor(), generator);
+        }
+
+        WeeklyContributionIndex weeks = stats.getWeeks();
+        generator.writeArrayFieldStart("weeks");
+        for (int i = 0; i < weeks.size(); i++) {
+            generator.writeStartObject();
+            generator.writeNumberField("w", weeks.weekStart(i));
+            generator.writeNumberField("a", weeks.additions(i));
+            generator.writeNumberField("d", weeks.deletions(i));
+            generator.writeNumberField("c", weeks.commits(i));
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+}
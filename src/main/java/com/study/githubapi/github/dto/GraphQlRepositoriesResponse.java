@@ -0,0 +1,80 @@
+package com.study.githubapi.github.dto;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * GraphQL repositoryOwner.repositories 응답 (쿼리에서 선택한 필드만 포함)
+ * GraphQL 필드는 camelCase 이므로 전역 SNAKE_CASE 설정 대신 camelCase 로 매핑한다.
+ */
+@Data
+@JsonNaming(PropertyNamingStrategies.LowerCamelCaseStrategy.class)
+public class GraphQlRepositoriesResponse {
+    private ResponseData data;
+    private List<Error> errors;
+
+    @Data
+    @JsonNaming(PropertyNamingStrategies.LowerCamelCaseStrategy.class)
+    public static class ResponseData {
+        private RepositoryOwner repositoryOwner; // 존재하지 않는 login 이면 null
+    }
+
+    @Data
+    @JsonNaming(PropertyNamingStrategies.LowerCamelCaseStrategy.class)
+    public static class RepositoryOwner {
+        private Connection repositories;
+    }
+
+    @Data
+    @JsonNaming(PropertyNamingStrategies.LowerCamelCaseStrategy.class)
+    public static class Connection {
+        private PageInfo pageInfo;
+        private List<Node> nodes;
+    }
+
+    @Data
+    @JsonNaming(PropertyNamingStrategies.LowerCamelCaseStrategy.class)
+    public static class PageInfo {
+        private boolean hasNextPage;
+        private String endCursor;
+    }
+
+    /**
+     * 레포지토리 1개 (isFork, isArchived, isDisabled, __typename 은 쿼리에서 별칭으로 받음)
+     */
+    @Data
+    @JsonNaming(PropertyNamingStrategies.LowerCamelCaseStrategy.class)
+    public static class Node {
+        private Long databaseId;
+        private String name;
+        private String nameWithOwner;
+        private String url;
+        private boolean fork;
+        private boolean archived;
+        private boolean disabled;
+        private LocalDateTime pushedAt;
+        private BranchRef defaultBranchRef; // 빈 레포지토리면 null
+        private Owner owner;
+    }
+
+    @Data
+    public static class BranchRef {
+        private String name;
+    }
+
+    @Data
+    public static class Owner {
+        private String login;
+        private String type; // Organization, User
+    }
+
+    @Data
+    public static class Error {
+        private String type;
+        private String message;
+    }
+}
@@ -0,0 +1,28 @@
+package com.study.githubapi.github.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class RateLimitStatus {
+    public static final String SOURCE_LOCAL = "local";
+    public static final String SOURCE_UPSTREAM = "upstream";
+    
+    private String token; // 토큰 식별자 (SHA-256 앞자리)
+    private String resource; // core, graphql, search
+    private String source; // local: 응답 헤더로 추적한 값, upstream: /rate_limit 조회 결과
+    private Long limit;
+    private Long remaining;
+    private Long used;
+    private Long inFlight; // 전송 대기 또는 진행 중인 요청 수
+    private LocalDateTime resetAt;
+    private LocalDateTime blockedUntil; // secondary rate limit 으로 멈춘 경우
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,190 @@
+package com.study.githubapi.github.service;
+
+import com.study.githubapi.github.cache.ContributorStatsCache;
+import com.study.githubapi.github.client.CircuitOpenException;
+import com.study.githubapi.github.client.GitHubClientMetrics;
+import com.study.githubapi.github.config.GitHubApiConfig;
+import com.study.githubapi.github.dto.ContributorStats;
+import com.study.githubapi.github.dto.GitHubRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.util.concurrent.Queues;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 여러 레포지토리의 기여자 통계를 수집
+ *
+ * warm-up 모드에서는 2단계로 동작한다.
+ * 1. prime: 모든 레포지토리에 통계 요청을 먼저 보내 GitHub 의 통계 생성을 동시에 시작시킨다.
+ * 2. collect: 202 Accepted 로 응답한 레포지토리만 공용 대기열에 넣고 Retry-After(없으면 backoff) 이후 다시 요청한다.
+ * 재요청 대기도 수집 체인 안에서 이뤄지므로 수집이 취소되면 대기 중인 타이머도 함께 취소된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ContributorStatsCollector {
+
+    private final GitHubApiService gitHubApiService;
+    private final ContributorStatsCache contributorStatsCache;
+    private final GitHubApiConfig gitHubApiConfig;
+    private final GitHubClientMetrics metrics;
+
+    /**
+     * 레포지토리별 기여자 통계 수집
+     * 통계를 끝내 받지 못한 레포지토리는 빈 통계로 전달된다.
+     */
+    public Flux<CollectedStats> collect(Flux<GitHubRepository> repositories, String token) {
+        return collect(repositories, token, Queues.SMALL_BUFFER_SIZE);
+    }
+
+    /**
+     * 레포지토리별 기여자 통계 수집 (동시 통계 요청 수를 concurrency 이하로 제한)
+     * warm-up 모드에서는 prime/poll 단계 각각의 설정값과 concurrency 중 작은 값을 사용한다.
+     */
+    public Flux<CollectedStats> collect(Flux<GitHubRepository> repositories, String token, int concurrency) {
+        return Flux.deferContextual(context -> {
+            Optional<FetchProgress> progress = FetchProgress.from(context);
+            Flux<GitHubRepository> discovered = repositories
+                    .doOnNext(repository -> progress.ifPresent(FetchProgress::repositoryDiscovered));
+
+            if (!gitHubApiConfig.getStatsWarmup().isEnabled()) {
+                return discovered.flatMap(repository -> gitHubApiService.getRepositoryContributorStats(repository, token)
+                                .map(stats -> new CollectedStats(repository, stats)), concurrency)
+                        .doOnNext(collected -> progress.ifPresent(FetchProgress::repositoryCompleted));
+            }
+
+            WarmupRound round = new WarmupRound(token, progress);
+
+            Flux<CollectedStats> primed = discovered
+                    .flatMap(repository -> prime(repository, round), Math.min(gitHubApiConfig.getStatsWarmup().getPrimeConcurrency(), concurrency))
+                    .doOnComplete(round::primingCompleted);
+
+            Flux<CollectedStats> polled = round.queue.asFlux()
+                    .flatMap(pending -> Mono.delay(pending.delay()).thenReturn(pending), Integer.MAX_VALUE)
+                    .flatMap(pending -> poll(pending, round), Math.min(gitHubApiConfig.getStatsWarmup().getPollConcurrency(), concurrency));
+
+            return Flux.merge(primed, polled)
+                    .doOnNext(collected -> progress.ifPresent(FetchProgress::repositoryCompleted))
+                    .doOnComplete(() -> log.info("Stats warm-up finished: {} repositories needed polling, {} gave up",
+                        round.pendingTotal.get(), round.gaveUp.get()));
+        });
+    }
+
+    /**
+     * 1단계: 캐시 확인 후 통계 요청 (202 이면 대기열에 등록)
+     */
+    private Mono<CollectedStats> prime(GitHubRepository repository, WarmupRound round) {
+        return contributorStatsCache.get(repository)
+                .map(stats -> new CollectedStats(repository, stats))
+                .switchIfEmpty(Mono.defer(() -> fetch(new PendingStats(repository, 1, Duration.ZERO), round)));
+    }
+
+    /**
+     * 2단계: 대기열에서 꺼낸 레포지토리 재요청
+     */
+    private Mono<CollectedStats> poll(PendingStats pending, WarmupRound round) {
+        return fetch(pending, round)
+                .doOnNext(collected -> round.progress.ifPresent(FetchProgress::retryFinished))
+                .doFinally(signal -> round.resolved());
+    }
+
+    private Mono<CollectedStats> fetch(PendingStats pending, WarmupRound round) {
+        GitHubRepository repository = pending.repository();
+        return gitHubApiService.fetchContributorStats(repository.getOwner().getLogin(), repository.getName(), round.token)
+                .flatMap(result -> {
+                    if (!result.isPending()) {
+                        contributorStatsCache.put(repository, result.stats());
+                        return Mono.just(new CollectedStats(repository, result.stats()));
+                    }
+                    if (pending.attempt() >= gitHubApiConfig.getStatsWarmup().getMaxAttempts()) {
+                        round.gaveUp.incrementAndGet();
+                        metrics.dropped(GitHubClientMetrics.ENDPOINT_STATS);
+                        log.warn("Contributor stats for {} still not ready after {} attempts, skipping",
+                            repository.getFullName(), pending.attempt());
+                        return Mono.just(new CollectedStats(repository, List.of()));
+                    }
+                    metrics.retry(GitHubClientMetrics.ENDPOINT_STATS, "stats_pending");
+                    round.schedule(new PendingStats(repository, pending.attempt() + 1,
+                            nextDelay(pending.attempt(), result.retryAfter())));
+                    return Mono.<CollectedStats>empty();
+                })
+                .onErrorResume(error -> !(error instanceof CircuitOpenException), error -> {
+                    log.warn("Failed to fetch contributor stats for {}: {}", repository.getFullName(), error.getMessage());
+                    metrics.dropped(GitHubClientMetrics.ENDPOINT_STATS);
+                    return Mono.just(new CollectedStats(repository, List.of()));
+                });
+    }
+
+    private Duration nextDelay(int attempt, Duration retryAfter) {
+        if (retryAfter != null) {
+            return retryAfter;
+        }
+        GitHubApiConfig.StatsWarmup warmup = gitHubApiConfig.getStatsWarmup();
+        long delay = warmup.getPollInterval().toMillis() << Math.min(attempt - 1, 10);
+        return Duration.ofMillis(Math.min(delay, warmup.getMaxPollInterval().toMillis()));
+    }
+
+    /**
+     * 수집된 레포지토리 통계
+     */
+    public record CollectedStats(GitHubRepository repository, List<ContributorStats> stats) {
+    }
+
+    /**
+     * @param delay 대기열에서 꺼낸 뒤 재요청까지 기다릴 시간
+     */
+    private record PendingStats(GitHubRepository repository, int attempt, Duration delay) {
+    }
+
+    /**
+     * collect 호출 1회 동안 공유되는 대기열과 진행 상태
+     */
+    private static final class WarmupRound {
+        private final String token;
+        private final Optional<FetchProgress> progress;
+        private final Sinks.Many<PendingStats> queue = Sinks.many().unicast().onBackpressureBuffer();
+        private final AtomicInteger outstanding = new AtomicInteger();
+        private final AtomicInteger pendingTotal = new AtomicInteger();
+        private final AtomicInteger gaveUp = new AtomicInteger();
+        private final AtomicBoolean primingDone = new AtomicBoolean();
+
+        private WarmupRound(String token, Optional<FetchProgress> progress) {
+            this.token = token;
+            this.progress = progress;
+        }
+
+        void schedule(PendingStats pending) {
+            outstanding.incrementAndGet();
+            if (pending.attempt() == 2) {
+                pendingTotal.incrementAndGet();
+                progress.ifPresent(FetchProgress::retryStarted);
+            }
+            queue.emitNext(pending, Sinks.EmitFailureHandler.busyLooping(Duration.ofSeconds(1)));
+        }
+
+        void resolved() {
+            outstanding.decrementAndGet();
+            completeIfDone();
+        }
+
+        void primingCompleted() {
+            primingDone.set(true);
+            completeIfDone();
+        }
+
+        private void completeIfDone() {
+            if (primingDone.get() && outstanding.get() == 0) {
+                queue.tryEmitComplete();
+            }
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.study.githubapi.github.service;
+
+import reactor.util.context.ContextView;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * 수집 파이프라인 진행 상황
+ * Reactor Context 에 넣어 두면 수집기와 WebClient 필터가 레포지토리 처리 현황과 요청 수를 기록한다.
+ * single-flight 실행에 합류하면 그 실행의 진행 상황이 합류한 모든 요청의 진행 상황에 함께 기록된다.
+ */
+public class FetchProgress {
+    
+    public static final String CONTEXT_KEY = FetchProgress.class.getName();
+    
+    private final AtomicInteger repositoriesDiscovered = new AtomicInteger();
+    private final AtomicInteger repositoriesCompleted = new AtomicInteger();
+    private final AtomicInteger repositoriesRetrying = new AtomicInteger();
+    private final AtomicLong requestsSent = new AtomicLong();
+    private final AtomicLong notModified = new AtomicLong();
+    private final List<FetchProgress> followers = new CopyOnWriteArrayList<>();
+    
+    public static Optional<FetchProgress> from(ContextView context) {
+        return context.getOrEmpty(CONTEXT_KEY);
+    }
+    
+    public void repositoryDiscovered() {
+        update(progress -> progress.repositoriesDiscovered.incrementAndGet());
+    }
+    
+    public void repositoryCompleted() {
+        update(progress -> progress.repositoriesCompleted.incrementAndGet());
+    }
+    
+    public void retryStarted() {
+        update(progress -> progress.repositoriesRetrying.incrementAndGet());
+    }
+    
+    public void retryFinished() {
+        update(progress -> progress.repositoriesRetrying.decrementAndGet());
+    }
+    
+    /**
+     * rate limit 예산을 차감하는 요청 1건 (304 Not Modified 제외)
+     */
+    public void requestSent() {
+        update(progress -> progress.requestsSent.incrementAndGet());
+    }
+    
+    public void notModified() {
+        update(progress -> progress.notModified.incrementAndGet());
+    }
+    
+    /**
+     * follower 가 이 진행 상황을 함께 기록하도록 등록
+     * 지금까지의 진행 상황을 follower 에 더하고, 이후 기록은 follower 에도 전달한다.
+     */
+    public synchronized void addFollower(FetchProgress follower) {
+        if (follower == this || followers.contains(follower)) {
+            return;
+        }
+        int discovered = repositoriesDiscovered.get();
+        int completed = repositoriesCompleted.get();
+        int retrying = repositoriesRetrying.get();
+        long sent = requestsSent.get();
+        long unchanged = notModified.get();
+        follower.update(progress -> {
+            progress.repositoriesDiscovered.addAndGet(discovered);
+            progress.repositoriesCompleted.addAndGet(completed);
+            progress.repositoriesRetrying.addAndGet(retrying);
+            progress.requestsSent.addAndGet(sent);
+            progress.notModified.addAndGet(unchanged);
+        });
+        followers.add(follower);
+    }
+    
+    private synchronized void update(Consumer<FetchProgress> counter) {
+        counter.accept(this);
+        followers.forEach(follower -> follower.update(counter));
+    }
+    
+    public int getRepositoriesDiscovered() {
+        return repositoriesDiscovered.get();
+    }
+    
+    public int getRepositoriesCompleted() {
+        return repositoriesCompleted.get();
+    }
+    
+    public int getRepositoriesRetrying() {
+        return repositoriesRetrying.get();
+    }
+    
+    public long getRequestsSent() {
+        return requestsSent.get();
+    }
+    
+    public long getNotModified() {
+        return notModified.get();
+    }
+}
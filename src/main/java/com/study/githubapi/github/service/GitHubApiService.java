@@ -1,13 +1,26 @@
 package com.study.githubapi.github.service;
 
+import com.study.githubapi.github.cache.ContributorStatsCache;
+import com.study.githubapi.github.client.CircuitOpenException;
+import com.study.githubapi.github.client.ContributorStatsStreamDecoder;
+import com.study.githubapi.github.client.GitHubClientMetrics;
+import com.study.githubapi.github.client.LinkHeaderParser;
+import com.study.githubapi.github.client.RateLimitTracker;
+import com.study.githubapi.github.client.RequestHedger;
+import com.study.githubapi.github.client.ResponseTimeoutFilter;
+import com.study.githubapi.github.client.TokenFingerprint;
+import com.study.githubapi.github.client.TokenPool;
 import com.study.githubapi.github.config.GitHubApiConfig;
 import com.study.githubapi.github.dto.ContributorStats;
 import com.study.githubapi.github.dto.GitHubRepository;
+import com.study.githubapi.github.dto.RateLimitStatus;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.BodyExtractors;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 import org.springframework.util.StringUtils;
@@ -16,8 +29,9 @@ import reactor.core.publisher.Mono;
 import reactor.util.retry.Retry;
 
 import java.time.Duration;
-import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 
 @Slf4j
 @Service
@@ -26,15 +40,19 @@ public class GitHubApiService {
     
     private final WebClient gitHubWebClient;
     private final GitHubApiConfig gitHubApiConfig;
+    private final ContributorStatsCache contributorStatsCache;
+    private final RateLimitTracker rateLimitTracker;
+    private final GraphQlRepositoryClient graphQlRepositoryClient;
+    private final TokenPool tokenPool;
+    private final GitHubClientMetrics metrics;
+    private final RequestHedger requestHedger;
+    private final SingleFlight<String, StatsFetchResult> contributorStatsFlight = new SingleFlight<>("contributor-stats");
     
     /**
      * 조직의 모든 레포지토리를 페이징 처리로 가져옴
      */
     public Flux<GitHubRepository> getOrganizationRepositories(String org, String token, boolean includeForks, boolean includeArchived) {
-        return Flux.range(1, Integer.MAX_VALUE)
-                .concatMap(page -> getRepositoriesPage(org, page, includeForks, includeArchived, token))
-                .takeWhile(repositories -> !repositories.isEmpty())
-                .flatMapIterable(repositories -> repositories)
+        return listRepositories("/orgs/{owner}/repos", org, token, includeForks, includeArchived)
                 .doOnNext(repo -> log.debug("Retrieved repository: {} (fork: {}, archived: {})", 
                     repo.getFullName(), repo.isFork(), repo.isArchived()))
                 .doOnComplete(() -> log.info("Completed fetching repositories for organization: {}", org));
@@ -44,47 +62,111 @@ public class GitHubApiService {
      * 사용자의 모든 레포지토리를 페이징 처리로 가져옴
      */
     public Flux<GitHubRepository> getUserRepositories(String username, String token, boolean includeForks, boolean includeArchived) {
-        return Flux.range(1, Integer.MAX_VALUE)
-                .concatMap(page -> getUserRepositoriesPage(username, page, includeForks, includeArchived, token))
-                .takeWhile(repositories -> !repositories.isEmpty())
-                .flatMapIterable(repositories -> repositories)
+        return listRepositories("/users/{owner}/repos", username, token, includeForks, includeArchived)
                 .doOnNext(repo -> log.debug("Retrieved repository: {} (fork: {}, archived: {})", 
                     repo.getFullName(), repo.isFork(), repo.isArchived()))
                 .doOnComplete(() -> log.info("Completed fetching repositories for user: {}", username));
     }
     
-    private Mono<List<GitHubRepository>> getUserRepositoriesPage(String username, int page, boolean includeForks, boolean includeArchived, String token) {
-        var uri = "/users/{username}/repos?page={page}&per_page=100&sort=updated&direction=desc";
+    /**
+     * 설정된 방식(REST/GraphQL)으로 레포지토리 목록 조회
+     * GraphQL API 는 인증이 필요하므로 요청 토큰도 토큰 풀도 없으면 REST 로 조회한다.
+     */
+    private Flux<GitHubRepository> listRepositories(String path, String owner, String token, boolean includeForks, boolean includeArchived) {
+        boolean graphQl = gitHubApiConfig.getRepositoryListing().getBackend() == GitHubApiConfig.RepositoryListing.Backend.GRAPHQL
+                && (StringUtils.hasText(token) || !tokenPool.isEmpty());
+        if (!graphQl) {
+            return getRepositories(path, owner, token, includeForks, includeArchived);
+        }
+        return graphQlRepositoryClient.getRepositories(owner, token, includeForks, includeArchived)
+                .filter(repo -> (includeForks || !repo.isFork()) && (includeArchived || !repo.isArchived()));
+    }
+    
+    /**
+     * 첫 페이지의 Link 헤더(rel="last")로 전체 페이지 수를 확인한 뒤 나머지 페이지를 병렬로 가져옴
+     * Link 헤더가 없으면 순차 페이징으로 동작하며, 각 페이지의 레포지토리는 도착하는 즉시 다음 단계로 전달된다.
+     */
+    private Flux<GitHubRepository> getRepositories(String path, String owner, String token, boolean includeForks, boolean includeArchived) {
+        // 첫 페이지 실패(잘못된 토큰, 없는 조직, rate limit 등)는 빈 목록으로 바꾸지 않고 호출자에게 전달
+        return fetchRepositoriesPage(path, owner, 1, token)
+                .flatMapMany(firstPage -> Flux.concat(Mono.just(firstPage), getRemainingPages(path, owner, token, firstPage)))
+                .flatMapIterable(RepositoryPage::repositories)
+                .filter(repo -> (includeForks || !repo.isFork()) && (includeArchived || !repo.isArchived()));
+    }
+    
+    private Flux<RepositoryPage> getRemainingPages(String path, String owner, String token, RepositoryPage firstPage) {
+        if (firstPage.lastPage() > 1) {
+            log.debug("Fetching {} pages of {} with parallelism {}", 
+                firstPage.lastPage(), owner, gitHubApiConfig.getPagination().getParallelism());
+            return Flux.range(2, firstPage.lastPage() - 1)
+                    .flatMap(page -> getRepositoriesPage(path, owner, page, token), 
+                            gitHubApiConfig.getPagination().getParallelism());
+        }
+        if (!firstPage.hasNext()) {
+            return Flux.empty();
+        }
         
-        return gitHubWebClient.get()
-                .uri(uri, username, page)
-                .headers(headers -> applyAuthorizationHeader(headers, token))
-                .retrieve()
-                .bodyToFlux(GitHubRepository.class)
-                .filter(repo -> (includeForks || !repo.isFork()) && (includeArchived || !repo.isArchived()))
-                .collectList()
-                .retryWhen(Retry.backoff(gitHubApiConfig.getMaxRetry(), Duration.ofMillis(gitHubApiConfig.getRetryDelay()))
-                        .filter(this::isRetryableException))
-                .doOnError(error -> log.error("Failed to fetch repositories page {} for user {}: {}", 
-                    page, username, error.getMessage()))
-                .onErrorReturn(Collections.emptyList());
+        // Link 헤더로 마지막 페이지를 알 수 없는 경우 순차 페이징
+        return Flux.range(2, Integer.MAX_VALUE - 1)
+                .concatMap(page -> getRepositoriesPage(path, owner, page, token))
+                .takeUntil(page -> !page.hasNext());
+    }
+    
+    /**
+     * 레포지토리 목록 한 페이지 조회 (실패한 페이지는 빈 페이지로 건너뜀)
+     */
+    private Mono<RepositoryPage> getRepositoriesPage(String path, String owner, int page, String token) {
+        return fetchRepositoriesPage(path, owner, page, token)
+                // circuit breaker 가 열린 경우는 누락시키지 않고 실패로 전달 (503)
+                .onErrorResume(error -> !(error instanceof CircuitOpenException), error -> {
+                    metrics.dropped(GitHubClientMetrics.ENDPOINT_REPOS);
+                    return Mono.just(RepositoryPage.EMPTY);
+                });
     }
     
-    private Mono<List<GitHubRepository>> getRepositoriesPage(String org, int page, boolean includeForks, boolean includeArchived, String token) {
-        var uri = "/orgs/{org}/repos?page={page}&per_page=100&sort=updated&direction=desc";
+    /**
+     * 레포지토리 목록 한 페이지 조회 (재시도 후에도 실패하면 마지막 오류를 그대로 전달)
+     */
+    private Mono<RepositoryPage> fetchRepositoriesPage(String path, String owner, int page, String token) {
+        int perPage = gitHubApiConfig.getPagination().getPerPage();
+        var uri = path + "?page={page}&per_page={perPage}&sort=updated&direction=desc";
         
         return gitHubWebClient.get()
-                .uri(uri, org, page)
+                .uri(uri, owner, page, perPage)
                 .headers(headers -> applyAuthorizationHeader(headers, token))
                 .retrieve()
-                .bodyToFlux(GitHubRepository.class)
-                .filter(repo -> (includeForks || !repo.isFork()) && (includeArchived || !repo.isArchived()))
-                .collectList()
+                .toEntityList(GitHubRepository.class)
+                .map(entity -> toRepositoryPage(entity, perPage))
                 .retryWhen(Retry.backoff(gitHubApiConfig.getMaxRetry(), Duration.ofMillis(gitHubApiConfig.getRetryDelay()))
-                        .filter(this::isRetryableException))
-                .doOnError(error -> log.error("Failed to fetch repositories page {} for org {}: {}", 
-                    page, org, error.getMessage()))
-                .onErrorReturn(List.of());
+                        .filter(this::isRetryableException)
+                        .doBeforeRetry(signal -> metrics.retry(GitHubClientMetrics.ENDPOINT_REPOS, 
+                                GitHubClientMetrics.retryReason(signal.failure())))
+                        .onRetryExhaustedThrow((spec, signal) -> signal.failure()))
+                .doOnError(error -> log.error("Failed to fetch repositories page {} for {}: {}", 
+                    page, owner, error.getMessage()));
+    }
+    
+    private RepositoryPage toRepositoryPage(ResponseEntity<List<GitHubRepository>> entity, int perPage) {
+        List<GitHubRepository> repositories = entity.getBody() != null ? entity.getBody() : List.of();
+        String linkHeader = entity.getHeaders().getFirst(HttpHeaders.LINK);
+        if (linkHeader == null) {
+            return new RepositoryPage(repositories, -1, repositories.size() >= perPage);
+        }
+        
+        Map<String, String> links = LinkHeaderParser.parse(linkHeader);
+        return new RepositoryPage(repositories, LinkHeaderParser.pageOf(links.get("last")), links.containsKey("next"));
+    }
+    
+    /**
+     * 레포지토리의 기여자 통계를 캐시 우선으로 가져옴
+     * pushed_at 이 바뀌지 않은 레포지토리는 네트워크 호출 없이 캐시에서 응답한다.
+     */
+    public Mono<List<ContributorStats>> getRepositoryContributorStats(GitHubRepository repository, String token) {
+        return contributorStatsCache.get(repository)
+                .doOnNext(stats -> log.debug("Contributor stats cache hit for {}", repository.getFullName()))
+                .switchIfEmpty(Mono.defer(() -> getRepositoryContributorStats(
+                                repository.getOwner().getLogin(), repository.getName(), token)
+                        .doOnNext(stats -> contributorStatsCache.put(repository, stats))));
     }
     
     /**
@@ -92,20 +174,93 @@ public class GitHubApiService {
      * GitHub API는 통계 생성 중일 때 202 Accepted를 반환하므로 재시도 로직 포함
      */
     public Mono<List<ContributorStats>> getRepositoryContributorStats(String owner, String repo, String token) {
-        var uri = "/repos/{owner}/{repo}/stats/contributors";
-        return gitHubWebClient.get()
-                .uri(uri, owner, repo)
-                .headers(headers -> applyAuthorizationHeader(headers, token))
-                .retrieve()
-                .bodyToFlux(ContributorStats.class)
-                .collectList()
+        return fetchContributorStats(owner, repo, token)
+                .flatMap(result -> result.isPending()
+                        ? Mono.<List<ContributorStats>>error(new StatsNotReadyException(owner, repo))
+                        : Mono.just(result.stats()))
                 .retryWhen(Retry.backoff(gitHubApiConfig.getMaxRetry(), Duration.ofMillis(gitHubApiConfig.getRetryDelay()))
-                        .filter(this::isRetryableException))
+                        .filter(StatsNotReadyException.class::isInstance)
+                        .doBeforeRetry(signal -> metrics.retry(GitHubClientMetrics.ENDPOINT_STATS, "stats_pending")))
                 .doOnNext(stats -> log.debug("Retrieved contributor stats for {}/{}: {} contributors", 
                     owner, repo, stats.size()))
                 .doOnError(error -> log.warn("Failed to fetch contributor stats for {}/{}: {}", 
                     owner, repo, error.getMessage()))
-                .onErrorReturn(List.of());
+                .onErrorResume(error -> !(error instanceof CircuitOpenException), error -> {
+                    metrics.dropped(GitHubClientMetrics.ENDPOINT_STATS);
+                    return Mono.just(List.of());
+                });
+    }
+    
+    /**
+     * 기여자 통계를 한 번만 요청 (202 Accepted 에 대한 재시도 없음)
+     * 통계 생성 중이면 PENDING 결과를 Retry-After 값과 함께 반환하고, 서버 에러/rate limit 만 재시도한다.
+     */
+    public Mono<StatsFetchResult> fetchContributorStats(String owner, String repo, String token) {
+        // 여러 집계가 같은 레포지토리를 동시에 요청하면 한 번만 호출 (토큰별로 구분해 접근 권한이 섞이지 않도록 함)
+        String key = TokenFingerprint.of(token) + " " + (owner + "/" + repo).toLowerCase(Locale.ROOT);
+        return contributorStatsFlight.execute(key, () -> requestContributorStats(owner, repo, token));
+    }
+    
+    /**
+     * 진행 중인 기여자 통계 요청 합류 현황
+     */
+    public Map<String, Object> getContributorStatsFlightStatistics() {
+        return contributorStatsFlight.getStatistics();
+    }
+    
+    private Mono<StatsFetchResult> requestContributorStats(String owner, String repo, String token) {
+        // 응답이 최근 지연 분포의 꼬리에 걸리면 같은 요청을 한 번 더 보내 먼저 온 응답 사용 (github.api.hedging)
+        // 202 생성 중 응답은 통계를 계산하지 않고 바로 돌아오므로 지연 표본에서 제외
+        return requestHedger.execute(GitHubClientMetrics.ENDPOINT_STATS, () -> canHedge(token),
+                        result -> !result.isPending(), () -> exchangeContributorStats(owner, repo, token))
+                .retryWhen(Retry.backoff(gitHubApiConfig.getMaxRetry(), Duration.ofMillis(gitHubApiConfig.getRetryDelay()))
+                        .filter(this::isRetryableException)
+                        .doBeforeRetry(signal -> metrics.retry(GitHubClientMetrics.ENDPOINT_STATS, 
+                                GitHubClientMetrics.retryReason(signal.failure()))));
+    }
+    
+    /**
+     * hedge 요청을 보낼 만큼 요청 토큰(없으면 토큰 풀)의 core 예산이 남았는지 확인
+     */
+    private boolean canHedge(String token) {
+        long available = tokenPool.available(token, RateLimitTracker.RESOURCE_CORE);
+        return available >= gitHubApiConfig.getHedging().getMinRemaining();
+    }
+    
+    private Mono<StatsFetchResult> exchangeContributorStats(String owner, String repo, String token) {
+        var uri = "/repos/{owner}/{repo}/stats/contributors";
+        return gitHubWebClient.get()
+                .uri(uri, owner, repo)
+                .headers(headers -> applyAuthorizationHeader(headers, token))
+                .exchangeToMono(response -> {
+                    if (response.statusCode().isSameCodeAs(HttpStatus.ACCEPTED)) {
+                        Duration retryAfter = parseRetryAfter(response.headers().asHttpHeaders());
+                        return response.releaseBody().thenReturn(StatsFetchResult.pending(retryAfter));
+                    }
+                    if (response.statusCode().isSameCodeAs(HttpStatus.NO_CONTENT)) {
+                        // 커밋이 없는 빈 레포지토리
+                        return response.releaseBody().thenReturn(StatsFetchResult.ready(List.of()));
+                    }
+                    if (response.statusCode().is2xxSuccessful()) {
+                        // 대형 레포지토리의 통계 본문은 수 MB 이므로 codec 버퍼를 거치지 않고 토큰 단위로 디코딩
+                        return ContributorStatsStreamDecoder.decode(response.body(BodyExtractors.toDataBuffers()))
+                                .collectList()
+                                .map(StatsFetchResult::ready);
+                    }
+                    return response.<StatsFetchResult>createError();
+                });
+    }
+    
+    private Duration parseRetryAfter(HttpHeaders headers) {
+        String retryAfter = headers.getFirst(HttpHeaders.RETRY_AFTER);
+        if (retryAfter == null) {
+            return null;
+        }
+        try {
+            return Duration.ofSeconds(Long.parseLong(retryAfter.trim()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
     }
     
     /**
@@ -114,28 +269,48 @@ public class GitHubApiService {
     private boolean isRetryableException(Throwable throwable) {
         if (throwable instanceof WebClientResponseException webClientException) {
             var status = webClientException.getStatusCode();
-            // 202 Accepted (통계 생성 중), 403 Forbidden (Rate limit), 500+ 서버 에러는 재시도
-            return status == HttpStatus.ACCEPTED || 
-                   status == HttpStatus.FORBIDDEN || 
+            // rate limit 초과, 500+ 서버 에러는 재시도 (202 Accepted 는 StatsFetchResult.PENDING 으로 별도 처리)
+            // rate limit 초과 시 재시도 요청은 RateLimitFilter 에서 reset 시점까지 대기한다
+            // 권한 부족 등 rate limit 이 아닌 403 은 재시도해도 결과가 같으므로 제외
+            return RateLimitTracker.isRateLimited(status, webClientException.getHeaders()) || 
                    status.is5xxServerError();
         }
-        return false;
+        // 연결/응답 타임아웃은 일시적인 지연일 수 있으므로 재시도
+        // circuit breaker 가 열려 거부된 요청(CircuitOpenException)은 재시도하지 않음
+        return ResponseTimeoutFilter.isTimeout(throwable);
+    }
+    
+    /**
+     * 레포지토리 목록 한 페이지
+     * lastPage 는 Link 헤더의 rel="last" 페이지 번호 (알 수 없으면 -1)
+     */
+    private record RepositoryPage(List<GitHubRepository> repositories, int lastPage, boolean hasNext) {
+        static final RepositoryPage EMPTY = new RepositoryPage(List.of(), -1, false);
     }
     
     /**
      * API Rate Limit 상태 확인
+     * 응답 헤더로 추적 중인 로컬 예산을 반환하며, 아직 관측된 적이 없는 토큰만 /rate_limit 을 조회한다.
      */
-    public Mono<String> getRateLimitStatus(String token) {
-        return gitHubWebClient.get()
-                .uri("/rate_limit")
-                .headers(headers -> applyAuthorizationHeader(headers, token))
-                .retrieve()
-                .bodyToMono(String.class)
-                .doOnNext(response -> log.info("Rate limit status: {}", response))
-                .onErrorReturn("Unable to fetch rate limit status");
+    public Mono<RateLimitStatus> getRateLimitStatus(String token) {
+        String fingerprint = TokenFingerprint.of(token);
+        return Mono.justOrEmpty(rateLimitTracker.getStatus(fingerprint, RateLimitTracker.RESOURCE_CORE))
+                .switchIfEmpty(Mono.defer(() -> gitHubWebClient.get()
+                        .uri("/rate_limit")
+                        .headers(headers -> applyAuthorizationHeader(headers, token))
+                        .retrieve()
+                        .toBodilessEntity()
+                        .flatMap(response -> Mono.justOrEmpty(
+                                rateLimitTracker.getStatus(fingerprint, RateLimitTracker.RESOURCE_CORE)))
+                        .map(status -> status.toBuilder().source(RateLimitStatus.SOURCE_UPSTREAM).build())))
+                .doOnNext(status -> log.info("Rate limit status for token {}: {}/{} remaining, resets at {}", 
+                    fingerprint, status.getRemaining(), status.getLimit(), status.getResetAt()));
     }
 
-    private void applyAuthorizationHeader(HttpHeaders headers, String token) {
+    /**
+     * 요청 토큰이 있으면 Bearer 인증, 없으면 Authorization 헤더 제거 (토큰 풀 필터가 채움)
+     */
+    static void applyAuthorizationHeader(HttpHeaders headers, String token) {
         if (StringUtils.hasText(token)) {
             headers.setBearerAuth(token);
         } else {
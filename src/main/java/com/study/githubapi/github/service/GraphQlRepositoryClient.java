@@ -0,0 +1,194 @@
+package com.study.githubapi.github.service;
+
+import com.study.githubapi.github.client.CircuitOpenException;
+import com.study.githubapi.github.client.GitHubClientMetrics;
+import com.study.githubapi.github.client.RateLimitTracker;
+import com.study.githubapi.github.client.ResponseTimeoutFilter;
+import com.study.githubapi.github.config.GitHubApiConfig;
+import com.study.githubapi.github.dto.GitHubRepository;
+import com.study.githubapi.github.dto.GraphQlRepositoriesResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * GraphQL API 로 레포지토리 목록 조회
+ * 집계에 필요한 필드만 선택하고 endCursor 로 다음 페이지를 이어서 요청한다.
+ * fork/archived 제외 조건은 서버에서 먼저 걸러 응답 크기를 줄인다.
+ * 첫 페이지 실패(errors 응답 포함)는 REST 목록 조회처럼 호출자에게 전달하고, 이후 페이지 실패는 누락으로 기록한 뒤 목록을 끝낸다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GraphQlRepositoryClient {
+
+    static final String REPOSITORIES_QUERY = """
+            query($login: String!, $first: Int!, $after: String, $isFork: Boolean, $isArchived: Boolean) {
+              repositoryOwner(login: $login) {
+                repositories(first: $first, after: $after, isFork: $isFork, isArchived: $isArchived,
+                             ownerAffiliations: [OWNER], orderBy: {field: UPDATED_AT, direction: DESC}) {
+                  pageInfo { hasNextPage endCursor }
+                  nodes {
+                    databaseId
+                    name
+                    nameWithOwner
+                    url
+                    fork: isFork
+                    archived: isArchived
+                    disabled: isDisabled
+                    pushedAt
+                    defaultBranchRef { name }
+                    owner { login type: __typename }
+                  }
+                }
+              }
+            }
+            """;
+
+    private final WebClient gitHubWebClient;
+    private final GitHubApiConfig gitHubApiConfig;
+    private final GitHubClientMetrics metrics;
+
+    /**
+     * 조직/사용자가 소유한 레포지토리 목록 (REST 의 /orgs/{org}/repos, /users/{user}/repos 와 같은 범위)
+     */
+    public Flux<GitHubRepository> getRepositories(String owner, String token, boolean includeForks, boolean includeArchived) {
+        return fetchRepositoriesPage(owner, null, token, includeForks, includeArchived)
+                .expand(page -> page.hasNextPage()
+                        ? getRepositoriesPage(owner, page.endCursor(), token, includeForks, includeArchived)
+                        : Mono.empty())
+                .flatMapIterable(RepositoryPage::repositories);
+    }
+
+    /**
+     * 다음 페이지 조회 (실패하면 누락으로 기록하고 목록을 끝냄)
+     */
+    private Mono<RepositoryPage> getRepositoriesPage(String owner, String cursor, String token,
+                                                     boolean includeForks, boolean includeArchived) {
+        return fetchRepositoriesPage(owner, cursor, token, includeForks, includeArchived)
+                // circuit breaker 가 열린 경우는 누락시키지 않고 실패로 전달 (503)
+                .onErrorResume(error -> !(error instanceof CircuitOpenException), error -> {
+                    metrics.dropped(GitHubClientMetrics.ENDPOINT_GRAPHQL);
+                    return Mono.just(RepositoryPage.EMPTY);
+                });
+    }
+
+    /**
+     * 레포지토리 목록 한 페이지 조회 (재시도 후에도 실패하면 마지막 오류를 그대로 전달)
+     */
+    private Mono<RepositoryPage> fetchRepositoriesPage(String owner, String cursor, String token,
+                                                       boolean includeForks, boolean includeArchived) {
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("login", owner);
+        variables.put("first", gitHubApiConfig.getRepositoryListing().getGraphqlPageSize());
+        variables.put("after", cursor);
+        // null 이면 조건 없음
+        variables.put("isFork", includeForks ? null : Boolean.FALSE);
+        variables.put("isArchived", includeArchived ? null : Boolean.FALSE);
+
+        return gitHubWebClient.post()
+                .uri(gitHubApiConfig.getRepositoryListing().getGraphqlPath())
+                .headers(headers -> GitHubApiService.applyAuthorizationHeader(headers, token))
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("query", REPOSITORIES_QUERY, "variables", variables))
+                .retrieve()
+                .bodyToMono(GraphQlRepositoriesResponse.class)
+                .map(response -> toRepositoryPage(owner, response))
+                .retryWhen(Retry.backoff(gitHubApiConfig.getMaxRetry(), Duration.ofMillis(gitHubApiConfig.getRetryDelay()))
+                        .filter(this::isRetryableException)
+                        .doBeforeRetry(signal -> metrics.retry(GitHubClientMetrics.ENDPOINT_GRAPHQL,
+                                GitHubClientMetrics.retryReason(signal.failure())))
+                        .onRetryExhaustedThrow((spec, signal) -> signal.failure()))
+                .doOnError(error -> log.error("Failed to fetch repositories of {} via GraphQL after cursor {}: {}",
+                    owner, cursor, error.getMessage()));
+    }
+
+    private RepositoryPage toRepositoryPage(String owner, GraphQlRepositoriesResponse response) {
+        if (response.getErrors() != null && !response.getErrors().isEmpty()) {
+            // GraphQL 은 에러도 200 으로 응답하므로 errors 로 구분 (NOT_FOUND 등)
+            throw toException(owner, response.getErrors());
+        }
+        if (response.getData() == null || response.getData().getRepositoryOwner() == null
+                || response.getData().getRepositoryOwner().getRepositories() == null) {
+            return RepositoryPage.EMPTY;
+        }
+
+        GraphQlRepositoriesResponse.Connection connection = response.getData().getRepositoryOwner().getRepositories();
+        List<GitHubRepository> repositories = connection.getNodes() == null ? List.of() : connection.getNodes().stream()
+                .map(GraphQlRepositoryClient::toRepository)
+                .toList();
+        GraphQlRepositoriesResponse.PageInfo pageInfo = connection.getPageInfo();
+        boolean hasNextPage = pageInfo != null && pageInfo.isHasNextPage() && pageInfo.getEndCursor() != null;
+        return new RepositoryPage(repositories, hasNextPage, hasNextPage ? pageInfo.getEndCursor() : null);
+    }
+
+    /**
+     * GraphQL errors 를 REST 목록 조회에서 받았을 응답 상태의 예외로 변환
+     * NOT_FOUND 는 404, FORBIDDEN 은 403, RATE_LIMITED 는 429, 그 외는 502 로 다룬다.
+     */
+    private static WebClientResponseException toException(String owner, List<GraphQlRepositoriesResponse.Error> errors) {
+        String type = errors.get(0).getType();
+        HttpStatus status = type == null ? HttpStatus.BAD_GATEWAY : switch (type) {
+            case "NOT_FOUND" -> HttpStatus.NOT_FOUND;
+            case "FORBIDDEN" -> HttpStatus.FORBIDDEN;
+            case "RATE_LIMITED" -> HttpStatus.TOO_MANY_REQUESTS;
+            default -> HttpStatus.BAD_GATEWAY;
+        };
+        String message = errors.stream().map(GraphQlRepositoriesResponse.Error::getMessage).toList().toString();
+        return WebClientResponseException.create(status.value(),
+                "GraphQL repository listing for " + owner + " returned errors: " + message,
+                new HttpHeaders(), message.getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8);
+    }
+
+    private static GitHubRepository toRepository(GraphQlRepositoriesResponse.Node node) {
+        GitHubRepository.Owner owner = new GitHubRepository.Owner();
+        owner.setLogin(node.getOwner().getLogin());
+        owner.setType(node.getOwner().getType());
+
+        GitHubRepository repository = new GitHubRepository();
+        repository.setId(node.getDatabaseId());
+        repository.setName(node.getName());
+        repository.setFullName(node.getNameWithOwner());
+        repository.setCloneUrl(node.getUrl() != null ? node.getUrl() + ".git" : null);
+        repository.setFork(node.isFork());
+        repository.setArchived(node.isArchived());
+        repository.setDisabled(node.isDisabled());
+        repository.setPushedAt(node.getPushedAt());
+        repository.setDefaultBranch(node.getDefaultBranchRef() != null ? node.getDefaultBranchRef().getName() : null);
+        repository.setOwner(owner);
+        return repository;
+    }
+
+    /**
+     * rate limit 초과, 500+ 서버 에러, 타임아웃만 재시도 (REST 목록 조회와 같은 기준)
+     */
+    private boolean isRetryableException(Throwable throwable) {
+        if (throwable instanceof WebClientResponseException webClientException) {
+            var status = webClientException.getStatusCode();
+            return RateLimitTracker.isRateLimited(status, webClientException.getHeaders()) ||
+                   status.is5xxServerError();
+        }
+        return ResponseTimeoutFilter.isTimeout(throwable);
+    }
+
+    /**
+     * 레포지토리 목록 한 페이지 (endCursor 는 다음 페이지가 있을 때만 존재)
+     */
+    private record RepositoryPage(List<GitHubRepository> repositories, boolean hasNextPage, String endCursor) {
+        static final RepositoryPage EMPTY = new RepositoryPage(List.of(), false, null);
+    }
+}
@@ -0,0 +1,94 @@
+package com.study.githubapi.github.service;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Signal;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키로 동시에 들어온 요청을 하나의 실행으로 합치는 single-flight
+ * 실행 중인 키로 들어온 요청은 새로 실행하지 않고 진행 중인 결과(성공/실패)를 함께 받는다.
+ * 실행이 끝나면 키가 제거되므로 결과를 캐시하지는 않는다.
+ * 합류한 요청이 모두 취소되면 실행도 취소된다.
+ * 공유된 실행은 처음 구독한 요청의 Reactor Context 로 동작하지만, {@link FetchProgress} 는 실행마다 따로 두고
+ * 합류한 모든 요청의 진행 상황에 전달한다.
+ */
+@Slf4j
+public class SingleFlight<K, V> {
+
+    private final String name;
+    private final Map<K, Flight> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong executions = new AtomicLong();
+    private final AtomicLong joined = new AtomicLong();
+
+    public SingleFlight(String name) {
+        this.name = name;
+    }
+
+    /**
+     * 키에 해당하는 실행이 진행 중이면 합류하고, 없으면 supplier 로 새로 실행
+     */
+    public Mono<V> execute(K key, Supplier<Mono<V>> supplier) {
+        return Mono.defer(() -> {
+            boolean[] created = new boolean[1];
+            Flight flight = inFlight.computeIfAbsent(key, k -> {
+                created[0] = true;
+                return new Flight(k, supplier);
+            });
+            if (created[0]) {
+                executions.incrementAndGet();
+            } else {
+                joined.incrementAndGet();
+                log.debug("Joined in-flight {} for {}", name, key);
+            }
+            return flight.join();
+        });
+    }
+    
+    /**
+     * 실행/합류 횟수
+     */
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> statistics = new LinkedHashMap<>();
+        statistics.put("inFlight", inFlight.size());
+        statistics.put("executions", executions.get());
+        statistics.put("joined", joined.get());
+        return statistics;
+    }
+
+    /**
+     * 진행 중인 실행 1건
+     * 끝난 실행의 결과는 보관해 두어, 종료 직전에 꺼낸 요청이 구독해도 supplier 를 다시 실행하지 않는다.
+     */
+    private final class Flight {
+        private final FetchProgress progress = new FetchProgress();
+        private final AtomicReference<Signal<V>> result = new AtomicReference<>();
+        private final Mono<Signal<V>> shared;
+
+        private Flight(K key, Supplier<Mono<V>> supplier) {
+            this.shared = supplier.get()
+                    .contextWrite(context -> context.put(FetchProgress.CONTEXT_KEY, progress))
+                    .materialize()
+                    .doOnNext(result::set)
+                    .doFinally(signal -> inFlight.remove(key, this))
+                    .flux()
+                    .replay(1)
+                    .refCount(1)
+                    .singleOrEmpty();
+        }
+
+        private Mono<V> join() {
+            return Mono.deferContextual(context -> {
+                FetchProgress.from(context).ifPresent(progress::addFollower);
+                Signal<V> finished = result.get();
+                return (finished != null ? Mono.just(finished) : shared).<V>dematerialize();
+            });
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.study.githubapi.github.service;
+
+import com.study.githubapi.github.dto.ContributorStats;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 기여자 통계 1회 요청 결과
+ * READY: 통계 수신 완료, PENDING: GitHub 에서 통계 생성 중 (202 Accepted)
+ * 
+ * @param retryAfter PENDING 응답의 Retry-After 값 (없으면 null)
+ */
+public record StatsFetchResult(Status status, List<ContributorStats> stats, Duration retryAfter) {
+    
+    public enum Status {
+        READY,
+        PENDING
+    }
+    
+    public static StatsFetchResult ready(List<ContributorStats> stats) {
+        return new StatsFetchResult(Status.READY, stats, null);
+    }
+    
+    public static StatsFetchResult pending(Duration retryAfter) {
+        return new StatsFetchResult(Status.PENDING, List.of(), retryAfter);
+    }
+    
+    public boolean isPending() {
+        return status == Status.PENDING;
+    }
+}
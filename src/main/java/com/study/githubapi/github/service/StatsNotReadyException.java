@@ -0,0 +1,11 @@
+package com.study.githubapi.github.service;
+
+/**
+ * GitHub 가 아직 기여자 통계를 생성 중 (202 Accepted)
+ */
+public class StatsNotReadyException extends RuntimeException {
+    
+    public StatsNotReadyException(String owner, String repo) {
+        super("Contributor stats for " + owner + "/" + repo + " are still being computed");
+    }
+}
@@ -0,0 +1,186 @@
+package com.study.githubapi.github.stats;
+
+import java.util.Arrays;
+
+/**
+ * 기여자 1명의 주간 통계를 담는 컬럼형 누적합(prefix sum) 인덱스
+ * 활동이 있었던 주만 저장하고(sparse), 주 시작 시각과 additions/deletions/commits 누적합을 primitive 배열로 보관한다.
+ * 임의 기간 합계는 이진 탐색 2회, 마지막 기여 주는 배열 조회 1회로 구한다.
+ */
+public final class WeeklyContributionIndex {
+
+    public static final WeeklyContributionIndex EMPTY = new WeeklyContributionIndex(
+            new long[0], new long[1], new long[1], new long[1]);
+
+    private final long[] weekStarts;   // 활동이 있었던 주의 시작 시각 (Unix timestamp, 오름차순)
+    private final long[] additions;    // additions[i] = 0..i-1 주의 합 (길이 n + 1)
+    private final long[] deletions;
+    private final long[] commits;
+
+    private WeeklyContributionIndex(long[] weekStarts, long[] additions, long[] deletions, long[] commits) {
+        this.weekStarts = weekStarts;
+        this.additions = additions;
+        this.deletions = deletions;
+        this.commits = commits;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * [fromEpoch, toEpoch] 기간에 시작하는 주의 합계
+     */
+    public RangeTotals query(long fromEpoch, long toEpoch) {
+        int lo = lowerBound(fromEpoch);      // 첫 번째 weekStart >= fromEpoch
+        int hi = upperBound(toEpoch);        // 첫 번째 weekStart > toEpoch
+        if (lo >= hi) {
+            return RangeTotals.EMPTY;
+        }
+        return new RangeTotals(
+                additions[hi] - additions[lo],
+                deletions[hi] - deletions[lo],
+                commits[hi] - commits[lo],
+                weekStarts[hi - 1]);
+    }
+
+    /**
+     * 저장된(활동이 있었던) 주의 수
+     */
+    public int size() {
+        return weekStarts.length;
+    }
+
+    public long weekStart(int i) {
+        return weekStarts[i];
+    }
+
+    public long additions(int i) {
+        return additions[i + 1] - additions[i];
+    }
+
+    public long deletions(int i) {
+        return deletions[i + 1] - deletions[i];
+    }
+
+    public long commits(int i) {
+        return commits[i + 1] - commits[i];
+    }
+
+    private int lowerBound(long key) {
+        int lo = 0;
+        int hi = weekStarts.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (weekStarts[mid] < key) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    private int upperBound(long key) {
+        int lo = 0;
+        int hi = weekStarts.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (weekStarts[mid] <= key) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * 기간 합계 (lastActiveWeek: 기간 내 활동이 있었던 마지막 주, 없으면 null)
+     */
+    public record RangeTotals(long additions, long deletions, long commits, Long lastActiveWeek) {
+        public static final RangeTotals EMPTY = new RangeTotals(0, 0, 0, null);
+    }
+
+    /**
+     * 주 단위로 값을 받아 인덱스를 만드는 빌더 (활동이 없는 주는 저장하지 않음)
+     */
+    public static final class Builder {
+        private long[] weekStarts = new long[16];
+        private long[] additions = new long[16];
+        private long[] deletions = new long[16];
+        private long[] commits = new long[16];
+        private int size;
+        private boolean sorted = true;
+
+        private Builder() {
+        }
+
+        public Builder add(long weekStart, long additions, long deletions, long commits) {
+            if (additions == 0 && deletions == 0 && commits == 0) {
+                return this;
+            }
+            if (size == weekStarts.length) {
+                int capacity = size * 2;
+                this.weekStarts = Arrays.copyOf(this.weekStarts, capacity);
+                this.additions = Arrays.copyOf(this.additions, capacity);
+                this.deletions = Arrays.copyOf(this.deletions, capacity);
+                this.commits = Arrays.copyOf(this.commits, capacity);
+            }
+            if (size > 0 && weekStart < this.weekStarts[size - 1]) {
+                sorted = false;
+            }
+            this.weekStarts[size] = weekStart;
+            this.additions[size] = additions;
+            this.deletions[size] = deletions;
+            this.commits[size] = commits;
+            size++;
+            return this;
+        }
+
+        public WeeklyContributionIndex build() {
+            if (size == 0) {
+                return EMPTY;
+            }
+            // GitHub 응답은 이미 정렬되어 있지만 보장되지 않으므로 필요할 때만 정렬
+            if (!sorted) {
+                sortByWeekStart();
+            }
+
+            long[] starts = Arrays.copyOf(weekStarts, size);
+            long[] additionSums = new long[size + 1];
+            long[] deletionSums = new long[size + 1];
+            long[] commitSums = new long[size + 1];
+            for (int i = 0; i < size; i++) {
+                additionSums[i + 1] = additionSums[i] + additions[i];
+                deletionSums[i + 1] = deletionSums[i] + deletions[i];
+                commitSums[i + 1] = commitSums[i] + commits[i];
+            }
+            return new WeeklyContributionIndex(starts, additionSums, deletionSums, commitSums);
+        }
+
+        private void sortByWeekStart() {
+            Integer[] order = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (x, y) -> Long.compare(weekStarts[x], weekStarts[y]));
+
+            long[] sortedStarts = new long[size];
+            long[] sortedAdditions = new long[size];
+            long[] sortedDeletions = new long[size];
+            long[] sortedCommits = new long[size];
+            for (int i = 0; i < size; i++) {
+                sortedStarts[i] = weekStarts[order[i]];
+                sortedAdditions[i] = additions[order[i]];
+                sortedDeletions[i] = deletions[order[i]];
+                sortedCommits[i] = commits[order[i]];
+            }
+            weekStarts = sortedStarts;
+            additions = sortedAdditions;
+            deletions = sortedDeletions;
+            commits = sortedCommits;
+            sorted = true;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.study.githubapi.monitor;
+
+import com.study.githubapi.github.cache.ContributorStatsCache;
+import com.study.githubapi.github.client.ConditionalRequestFilter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+@Slf4j
+@RestController
+@RequestMapping("/monitor/cache")
+@RequiredArgsConstructor
+public class CacheMonitorController {
+    
+    private final ContributorStatsCache contributorStatsCache;
+    private final ConditionalRequestFilter conditionalRequestFilter;
+    
+    /**
+     * 기여자 통계 캐시 적중/미스 현황
+     * 
+     * @return 캐시 통계
+     */
+    @GetMapping("/contributor-stats")
+    public Mono<ResponseEntity<Map<String, Object>>> getContributorStatsCacheStatistics() {
+        log.debug("Contributor stats cache statistics requested");
+        return Mono.just(ResponseEntity.ok(contributorStatsCache.getStatistics()));
+    }
+    
+    /**
+     * 조건부 요청(ETag) 캐시 현황
+     * 
+     * @return 304 응답 수, 저장 용량 등
+     */
+    @GetMapping("/conditional-requests")
+    public Mono<ResponseEntity<Map<String, Object>>> getConditionalRequestStatistics() {
+        log.debug("Conditional request cache statistics requested");
+        return Mono.just(ResponseEntity.ok(conditionalRequestFilter.getStatistics()));
+    }
+}
@@ -0,0 +1,33 @@
+package com.study.githubapi.monitor;
+
+import com.study.githubapi.assistant.prewarm.service.PrewarmScheduler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@RestController
+@RequestMapping("/monitor/prewarm")
+@RequiredArgsConstructor
+public class PrewarmMonitorController {
+    
+    private final PrewarmScheduler prewarmScheduler;
+    
+    /**
+     * 미리 갱신 대상별 최근 실행 현황
+     * 
+     * @return 대상별 실행 여부, 최근 시작/종료 시각, 처리한 레포지토리 수, 사용한 요청 수와 예산
+     */
+    @GetMapping
+    public Mono<ResponseEntity<List<Map<String, Object>>>> getPrewarmStatistics() {
+        log.debug("Pre-warm statistics requested");
+        return Mono.just(ResponseEntity.ok(prewarmScheduler.getStatistics()));
+    }
+}
@@ -0,0 +1,38 @@
+package com.study.githubapi.monitor;
+
+import com.study.githubapi.github.client.CircuitBreakerFilter;
+import com.study.githubapi.github.client.RequestHedger;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Slf4j
+@RestController
+@RequestMapping("/monitor/resilience")
+@RequiredArgsConstructor
+public class ResilienceMonitorController {
+    
+    private final CircuitBreakerFilter circuitBreakerFilter;
+    private final RequestHedger requestHedger;
+    
+    /**
+     * GitHub 호출의 circuit breaker 와 hedged request 현황
+     * 
+     * @return 엔드포인트별 circuit breaker 상태(최근 요청/실패 수, 남은 open 시간)와 hedge 요청 수, hedge 기준 지연
+     */
+    @GetMapping
+    public Mono<ResponseEntity<Map<String, Object>>> getResilienceStatistics() {
+        log.debug("Resilience statistics requested");
+        Map<String, Object> statistics = new LinkedHashMap<>();
+        statistics.put("circuitBreakers", circuitBreakerFilter.getStatistics());
+        statistics.put("hedging", requestHedger.getStatistics());
+        return Mono.just(ResponseEntity.ok(statistics));
+    }
+}
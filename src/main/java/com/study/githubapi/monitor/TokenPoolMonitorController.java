@@ -0,0 +1,33 @@
+package com.study.githubapi.monitor;
+
+import com.study.githubapi.github.client.TokenPool;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@RestController
+@RequestMapping("/monitor/token-pool")
+@RequiredArgsConstructor
+public class TokenPoolMonitorController {
+    
+    private final TokenPool tokenPool;
+    
+    /**
+     * 토큰 풀의 토큰별 사용 현황
+     * 
+     * @return 토큰(fingerprint)별 요청 수, 시간당 요청 수, failover 횟수, 폐기 여부, 남은 예산
+     */
+    @GetMapping
+    public Mono<ResponseEntity<List<Map<String, Object>>>> getTokenPoolStatistics() {
+        log.debug("Token pool statistics requested");
+        return Mono.just(ResponseEntity.ok(tokenPool.getStatistics()));
+    }
+}
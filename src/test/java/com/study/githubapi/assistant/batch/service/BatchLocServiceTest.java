@@ -0,0 +1,192 @@
+package com.study.githubapi.assistant.batch.service;
+
+import com.study.githubapi.assistant.batch.config.BatchLocConfig;
+import com.study.githubapi.assistant.common.AggregationMetrics;
+import com.study.githubapi.assistant.common.LocAggregationHelper;
+import com.study.githubapi.assistant.common.dto.LocSummaryOnlyResponse;
+import com.study.githubapi.github.cache.ContributorStatsCache;
+import com.study.githubapi.github.client.CircuitOpenException;
+import com.study.githubapi.github.client.RateLimitTracker;
+import com.study.githubapi.github.client.TokenPool;
+import com.study.githubapi.github.config.GitHubApiConfig;
+import com.study.githubapi.github.dto.ContributorStats;
+import com.study.githubapi.github.dto.GitHubRepository;
+import com.study.githubapi.github.service.ContributorStatsCollector;
+import com.study.githubapi.github.service.FetchProgress;
+import com.study.githubapi.github.service.GitHubApiService;
+import com.study.githubapi.github.stats.WeeklyContributionIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BatchLocServiceTest {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2024, 1, 1, 0, 0);
+    private static final LocalDateTime TO = LocalDateTime.of(2024, 12, 31, 23, 59);
+    private static final long WEEK = LocalDateTime.of(2024, 3, 3, 0, 0).toEpochSecond(ZoneOffset.UTC);
+
+    private final BatchLocConfig config = new BatchLocConfig();
+    private final GitHubApiService gitHubApiService = mock(GitHubApiService.class);
+    private final ContributorStatsCollector collector = mock(ContributorStatsCollector.class);
+    private final AggregationMetrics metrics = new AggregationMetrics(new SimpleMeterRegistry());
+    private final GitHubApiConfig gitHubApiConfig = new GitHubApiConfig();
+    private final BatchLocService service = new BatchLocService(config, gitHubApiService, collector,
+            new LocAggregationHelper(gitHubApiService, collector, mock(ContributorStatsCache.class), metrics), metrics,
+            new TokenPool(gitHubApiConfig, new RateLimitTracker(gitHubApiConfig, new SimpleMeterRegistry())));
+
+    private final Map<String, List<ContributorStats>> statsByRepository = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        config.setStatsConcurrency(7);
+        // 레포지토리마다 통계 요청 1건을 보낸 것으로 기록
+        when(collector.collect(any(), any(), anyInt())).thenAnswer(invocation -> {
+            Flux<GitHubRepository> repositories = invocation.getArgument(0);
+            return Flux.deferContextual(context -> repositories.map(repository -> {
+                FetchProgress.from(context).ifPresent(FetchProgress::requestSent);
+                return new ContributorStatsCollector.CollectedStats(repository,
+                        statsByRepository.getOrDefault(repository.getFullName().toLowerCase(Locale.ROOT), List.of()));
+            }));
+        });
+    }
+
+    @Test
+    void normalizesTargetNamesCaseInsensitively() {
+        Map<String, String> names = BatchLocService.normalize(Arrays.asList(" Acme ", "acme", "", null, "Globex"));
+
+        assertThat(names).containsExactly(Map.entry("acme", "Acme"), Map.entry("globex", "Globex"));
+    }
+
+    @Test
+    void collectsEachRepositoryOnceAcrossTargets() {
+        stats("acme/api", contribution("alice", 10), contribution("bob", 5));
+        stats("globex/web", contribution("bob", 7));
+        stats("alice/dotfiles", contribution("alice", 3));
+        organizationRepositories("Acme", "Acme/api");
+        organizationRepositories("globex", "globex/web");
+        when(gitHubApiService.getUserRepositories(eq("Alice"), any(), anyBoolean(), anyBoolean()))
+                .thenReturn(Flux.just(repository("alice/dotfiles"), repository("acme/API")));
+
+        StepVerifier.create(service.aggregate(List.of("Acme", "acme", "globex"), List.of("Alice"), null, FROM, TO, false, false))
+                .assertNext(response -> {
+                    assertThat(response.getMetadata())
+                            .containsEntry("totalRepositories", 3)
+                            .containsEntry("duplicateRepositories", 1)
+                            .containsEntry("requestsSent", 3L)
+                            .containsEntry("stoppedByBudget", false);
+                    assertThat(response.getCombinedUserSummaries())
+                            .extracting(LocSummaryOnlyResponse.UserLocSummaryOnly::getUsername, LocSummaryOnlyResponse.UserLocSummaryOnly::getTotalLoc)
+                            .containsExactly(tuple("alice", 13L), tuple("bob", 12L));
+                    assertThat(response.getOrganizationSummaries())
+                            .extracting(LocSummaryOnlyResponse::getOrganization, summary -> summary.getMetadata().get("totalLoc"))
+                            .containsExactly(tuple("Acme", 15L), tuple("globex", 7L));
+                    assertThat(response.getUserSummaries())
+                            .extracting(LocSummaryOnlyResponse.UserLocSummaryOnly::getUsername, LocSummaryOnlyResponse.UserLocSummaryOnly::getTotalLoc)
+                            .containsExactly(tuple("alice", 13L));
+                    assertThat(response.getFailedTargets()).isNull();
+                })
+                .verifyComplete();
+
+        // 대상 수와 관계없이 통계 수집은 배치 전체의 동시성 상한으로 한 번만 실행
+        verify(collector, times(1)).collect(any(), any(), eq(7));
+        verify(gitHubApiService, times(1)).getOrganizationRepositories(eq("Acme"), any(), anyBoolean(), anyBoolean());
+    }
+
+    @Test
+    void stopsCollectingNewRepositoriesAtBudgetCap() {
+        config.setMaxRequests(2);
+        organizationRepositories("acme", IntStream.range(0, 5).mapToObj(i -> "acme/repo-" + i).toArray(String[]::new));
+        IntStream.range(0, 5).forEach(i -> stats("acme/repo-" + i, contribution("alice", 1)));
+
+        StepVerifier.create(service.aggregate(List.of("acme"), null, null, FROM, TO, false, false))
+                .assertNext(response -> assertThat(response.getMetadata())
+                        .containsEntry("budget", 2L)
+                        .containsEntry("requestsSent", 2L)
+                        .containsEntry("totalRepositories", 2)
+                        .containsEntry("stoppedByBudget", true))
+                .verifyComplete();
+    }
+
+    @Test
+    void reportsTargetsWhoseListingFailed() {
+        stats("acme/api", contribution("alice", 10));
+        organizationRepositories("acme", "acme/api");
+        when(gitHubApiService.getOrganizationRepositories(eq("globex"), any(), anyBoolean(), anyBoolean()))
+                .thenReturn(Flux.error(WebClientResponseException.create(404, "Not Found", HttpHeaders.EMPTY, new byte[0], null)));
+
+        StepVerifier.create(service.aggregate(List.of("acme", "globex"), null, null, FROM, TO, false, false))
+                .assertNext(response -> {
+                    assertThat(response.getFailedTargets()).containsExactly("organization:globex");
+                    assertThat(response.getUserSummaries()).isNull();
+                    assertThat(response.getCombinedUserSummaries())
+                            .extracting(LocSummaryOnlyResponse.UserLocSummaryOnly::getTotalLoc)
+                            .containsExactly(10L);
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void failsWholeBatchWhenCircuitIsOpen() {
+        organizationRepositories("acme", "acme/api");
+        when(gitHubApiService.getOrganizationRepositories(eq("globex"), any(), anyBoolean(), anyBoolean()))
+                .thenReturn(Flux.error(new CircuitOpenException("repos", Duration.ofSeconds(30))));
+
+        StepVerifier.create(service.aggregate(List.of("acme", "globex"), null, null, FROM, TO, false, false))
+                .verifyError(CircuitOpenException.class);
+    }
+
+    private void organizationRepositories(String organization, String... fullNames) {
+        when(gitHubApiService.getOrganizationRepositories(eq(organization), any(), anyBoolean(), anyBoolean()))
+                .thenReturn(Flux.fromArray(fullNames).map(BatchLocServiceTest::repository));
+    }
+
+    private void stats(String fullName, ContributorStats... contributors) {
+        statsByRepository.put(fullName, List.of(contributors));
+    }
+
+    private static GitHubRepository repository(String fullName) {
+        GitHubRepository.Owner owner = new GitHubRepository.Owner();
+        owner.setLogin(fullName.substring(0, fullName.indexOf('/')));
+
+        GitHubRepository repository = new GitHubRepository();
+        repository.setName(fullName.substring(fullName.indexOf('/') + 1));
+        repository.setFullName(fullName);
+        repository.setOwner(owner);
+        return repository;
+    }
+
+    private static ContributorStats contribution(String login, long loc) {
+        ContributorStats.Author author = new ContributorStats.Author();
+        author.setLogin(login);
+        ContributorStats stats = new ContributorStats();
+        stats.setAuthor(author);
+        stats.setTotal(1L);
+        stats.setWeeks(WeeklyContributionIndex.builder().add(WEEK, loc, 0, 1).build());
+        return stats;
+    }
+}
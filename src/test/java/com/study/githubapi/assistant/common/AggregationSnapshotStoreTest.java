@@ -0,0 +1,112 @@
+package com.study.githubapi.assistant.common;
+
+import com.study.githubapi.assistant.common.config.LocPagingConfig;
+import com.study.githubapi.assistant.common.dto.LocSummaryOnlyResponse;
+import com.study.githubapi.assistant.common.exception.PageRequestException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.study.githubapi.assistant.common.LocAccumulatorTest.contribution;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AggregationSnapshotStoreTest {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2024, 1, 1, 0, 0);
+    private static final LocalDateTime TO = LocalDateTime.of(2024, 12, 31, 23, 59);
+
+    private final LocPagingConfig config = new LocPagingConfig();
+    private final AggregationSnapshotStore store = new AggregationSnapshotStore(config);
+    private final AggregationKey key = AggregationKey.of("acme", "token", FROM, TO, false, false);
+
+    @Test
+    void pagesThroughSnapshotWithCursors() {
+        AggregationSnapshot snapshot = store.retain(key, false, accumulator(5));
+
+        List<String> seen = new ArrayList<>(usernames(snapshot.page(0, 2)));
+        String cursor = snapshot.nextCursor(0, 2);
+        while (cursor != null) {
+            PageCursor pageCursor = PageCursor.decode(cursor);
+            AggregationSnapshot resolved = store.resolve(pageCursor, key, false);
+            seen.addAll(usernames(resolved.page(pageCursor.offset(), 2)));
+            cursor = resolved.nextCursor(pageCursor.offset(), 2);
+        }
+
+        assertThat(seen).containsExactly("user-4", "user-3", "user-2", "user-1", "user-0");
+    }
+
+    @Test
+    void reusesSnapshotForSameAggregation() {
+        LocAccumulator accumulator = accumulator(5);
+        config.setMaxSnapshots(2);
+
+        AggregationSnapshot first = store.retain(key, false, accumulator);
+        AggregationSnapshot second = store.retain(key, false, accumulator);
+        AggregationSnapshot detailed = store.retain(key, true, accumulator);
+
+        assertThat(second.getId()).isEqualTo(first.getId());
+        assertThat(PageCursor.decode(second.nextCursor(0, 2)).snapshotId())
+                .isEqualTo(PageCursor.decode(first.nextCursor(0, 2)).snapshotId());
+        assertThat(detailed.getId()).isNotEqualTo(first.getId());
+        assertThat(store.size()).isEqualTo(2);
+        assertThat(store.resolve(PageCursor.decode(first.nextCursor(0, 2)), key, false)).isSameAs(first);
+        assertThat(store.retain(key, false, accumulator(5)).getId()).isNotEqualTo(first.getId());
+    }
+
+    @Test
+    void rejectsCursorFromDifferentQuery() {
+        AggregationSnapshot snapshot = store.retain(key, false, accumulator(5));
+        PageCursor cursor = PageCursor.decode(snapshot.nextCursor(0, 2));
+        AggregationKey otherRange = AggregationKey.of("acme", "token", FROM.minusYears(1), TO, false, false);
+
+        assertThatThrownBy(() -> store.resolve(cursor, otherRange, false))
+                .isInstanceOfSatisfying(PageRequestException.class, e -> assertThat(e.getStatus()).isEqualTo(HttpStatus.BAD_REQUEST));
+        assertThatThrownBy(() -> store.resolve(cursor, key, true))
+                .isInstanceOf(PageRequestException.class);
+        assertThatThrownBy(() -> PageCursor.decode("not a cursor"))
+                .isInstanceOf(PageRequestException.class);
+    }
+
+    @Test
+    void expiresAndEvictsOldSnapshots() {
+        config.setMaxSnapshots(2);
+        AggregationSnapshot first = store.retain(key, false, accumulator(1));
+        store.retain(key, false, accumulator(1));
+        store.retain(key, false, accumulator(1));
+
+        assertThat(store.size()).isEqualTo(2);
+        assertThatThrownBy(() -> store.resolve(new PageCursor(first.getId(), 0), key, false))
+                .isInstanceOfSatisfying(PageRequestException.class, e -> assertThat(e.getStatus()).isEqualTo(HttpStatus.GONE));
+
+        config.setSnapshotRetention(Duration.ofMillis(-1));
+        AggregationSnapshot expired = store.retain(key, false, accumulator(1));
+        assertThatThrownBy(() -> store.resolve(new PageCursor(expired.getId(), 0), key, false))
+                .isInstanceOfSatisfying(PageRequestException.class, e -> assertThat(e.getStatus()).isEqualTo(HttpStatus.GONE));
+    }
+
+    @Test
+    void validatesLimit() {
+        assertThat(store.limitOf(null)).isEqualTo(config.getDefaultLimit());
+        assertThatThrownBy(() -> store.limitOf(0)).isInstanceOf(PageRequestException.class);
+        assertThatThrownBy(() -> store.limitOf(config.getMaxLimit() + 1)).isInstanceOf(PageRequestException.class);
+    }
+
+    private static LocAccumulator accumulator(int users) {
+        LocAccumulator accumulator = new LocAccumulator();
+        List<LocAggregationHelper.AuthoredContribution> contributions = new ArrayList<>();
+        for (int i = 0; i < users; i++) {
+            contributions.add(contribution("user-" + i, 10L * (i + 1), 1));
+        }
+        accumulator.add(contributions);
+        return accumulator;
+    }
+
+    private static List<String> usernames(List<LocSummaryOnlyResponse.UserLocSummaryOnly> summaries) {
+        return summaries.stream().map(LocSummaryOnlyResponse.UserLocSummaryOnly::getUsername).toList();
+    }
+}
@@ -0,0 +1,80 @@
+package com.study.githubapi.assistant.common;
+
+import com.study.githubapi.assistant.common.dto.LocSummaryOnlyResponse;
+import com.study.githubapi.assistant.common.dto.LocSummaryResponse;
+import com.study.githubapi.github.dto.ContributorStats;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocAccumulatorTest {
+
+    @Test
+    void topMatchesPrefixOfFullRanking() {
+        LocAccumulator accumulator = new LocAccumulator();
+        Random random = new Random(7);
+        for (int repository = 0; repository < 50; repository++) {
+            List<LocAggregationHelper.AuthoredContribution> contributions = new ArrayList<>();
+            for (int user = 0; user < 40; user++) {
+                if (random.nextInt(3) == 0) {
+                    contributions.add(contribution("user-" + user, random.nextInt(100), 1));
+                }
+            }
+            accumulator.add(contributions);
+        }
+
+        List<String> ranked = usernames(accumulator.ranking().page(0, Integer.MAX_VALUE));
+
+        assertThat(usernames(accumulator.top(10).page(0, 10))).isEqualTo(ranked.subList(0, 10));
+        assertThat(usernames(accumulator.top(100).page(0, 100))).isEqualTo(ranked);
+        assertThat(accumulator.top(0).size()).isZero();
+    }
+
+    @Test
+    void breaksTiesByLoginSoPagesAreStable() {
+        LocAccumulator accumulator = new LocAccumulator();
+        accumulator.add(List.of(
+                contribution("carol", 10, 1),
+                contribution("alice", 10, 1),
+                contribution("bob", 10, 1),
+                contribution("dave", 30, 1)));
+
+        assertThat(usernames(accumulator.snapshot())).containsExactly("dave", "alice", "bob", "carol");
+        assertThat(usernames(accumulator.top(2).page(0, 2))).containsExactly("dave", "alice");
+        assertThat(usernames(accumulator.ranking().page(2, 2))).containsExactly("bob", "carol");
+        assertThat(accumulator.ranking().page(4, 2)).isEmpty();
+    }
+
+    @Test
+    void totalsCoverAllUsers() {
+        LocAccumulator accumulator = new LocAccumulator();
+        accumulator.add(List.of(contribution("alice", 10, 2), contribution("bob", 5, 1)));
+        accumulator.add(List.of(contribution("alice", 1, 1)));
+
+        assertThat(accumulator.getUserCount()).isEqualTo(2);
+        assertThat(accumulator.getTotalLoc()).isEqualTo(16);
+        assertThat(accumulator.getTotalCommits()).isEqualTo(4);
+    }
+
+    private static List<String> usernames(List<LocSummaryOnlyResponse.UserLocSummaryOnly> summaries) {
+        return summaries.stream().map(LocSummaryOnlyResponse.UserLocSummaryOnly::getUsername).toList();
+    }
+
+    static LocAggregationHelper.AuthoredContribution contribution(String login, long additions, long commits) {
+        ContributorStats.Author author = new ContributorStats.Author();
+        author.setLogin(login);
+        LocSummaryResponse.RepositoryContribution contribution = LocSummaryResponse.RepositoryContribution.builder()
+                .repositoryName("api")
+                .repositoryFullName("acme/api")
+                .additions(additions)
+                .deletions(0L)
+                .loc(additions)
+                .commits(commits)
+                .build();
+        return new LocAggregationHelper.AuthoredContribution(author, contribution);
+    }
+}
@@ -0,0 +1,120 @@
+package com.study.githubapi.assistant.common;
+
+import com.study.githubapi.github.cache.ContributorStatsCache;
+import com.study.githubapi.github.dto.ContributorStats;
+import com.study.githubapi.github.dto.GitHubRepository;
+import com.study.githubapi.github.service.ContributorStatsCollector;
+import com.study.githubapi.github.service.GitHubApiService;
+import com.study.githubapi.github.stats.WeeklyContributionIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class LocAggregationHelperTest {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2024, 1, 1, 0, 0);
+    private static final LocalDateTime TO = LocalDateTime.of(2024, 12, 31, 23, 59);
+    private static final long WEEK = LocalDateTime.of(2024, 3, 3, 0, 0).toEpochSecond(ZoneOffset.UTC);
+
+    private final ContributorStatsCollector collector = mock(ContributorStatsCollector.class);
+    private final ContributorStatsCache cache = mock(ContributorStatsCache.class);
+    private final LocAggregationHelper helper = new LocAggregationHelper(mock(GitHubApiService.class), collector, cache,
+            new AggregationMetrics(new SimpleMeterRegistry()));
+
+    private final Map<String, List<ContributorStats>> statsByRepository = new HashMap<>();
+    private final List<String> fetched = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        when(cache.peek(any())).thenReturn(Optional.empty());
+        // 통계 수집까지 넘어온 레포지토리를 기록
+        when(collector.collect(any(), any())).thenAnswer(invocation -> {
+            Flux<GitHubRepository> repositories = invocation.getArgument(0);
+            return repositories.map(repository -> {
+                fetched.add(repository.getFullName());
+                return new ContributorStatsCollector.CollectedStats(repository,
+                        statsByRepository.getOrDefault(repository.getFullName(), List.of()));
+            });
+        });
+    }
+
+    @Test
+    void skipsCachedRepositoryWithoutTheUser() {
+        GitHubRepository api = repository("acme/api");
+        when(cache.peek(api)).thenReturn(Optional.of(List.of(contribution("bob", 5))));
+
+        StepVerifier.create(helper.collectUserRepositoryStats(Flux.just(api), "alice", null, FROM, TO))
+                .verifyComplete();
+
+        assertThat(fetched).isEmpty();
+    }
+
+    @Test
+    void fetchesUncachedRepositoryAndKeepsOnlyTheUser() {
+        statsByRepository.put("acme/web", List.of(contribution("alice", 10), contribution("bob", 5)));
+
+        StepVerifier.create(helper.collectUserRepositoryStats(Flux.just(repository("acme/web")), "alice", null, FROM, TO))
+                .assertNext(stats -> assertThat(stats.getContributorStats())
+                        .extracting(contributor -> contributor.getAuthor().getLogin())
+                        .containsExactly("alice"))
+                .verifyComplete();
+
+        assertThat(fetched).containsExactly("acme/web");
+    }
+
+    @Test
+    void matchesLoginIgnoringCase() {
+        GitHubRepository api = repository("acme/api");
+        GitHubRepository web = repository("acme/web");
+        when(cache.peek(api)).thenReturn(Optional.of(List.of(contribution("Alice", 3))));
+        statsByRepository.put("acme/api", List.of(contribution("Alice", 3)));
+        statsByRepository.put("acme/web", List.of(contribution("ALICE", 7)));
+
+        StepVerifier.create(helper.collectUserRepositoryStats(Flux.just(api, web), "alice", null, FROM, TO).collectList())
+                .assertNext(stats -> assertThat(stats)
+                        .extracting(repoStats -> repoStats.getRepository().getFullName(),
+                                repoStats -> repoStats.getContributorStats().get(0).getAuthor().getLogin())
+                        .containsExactly(tuple("acme/api", "Alice"), tuple("acme/web", "ALICE")))
+                .verifyComplete();
+
+        // 캐시에서 대소문자만 다른 login 을 찾았으므로 건너뛰지 않는다
+        assertThat(fetched).containsExactly("acme/api", "acme/web");
+    }
+
+    private static GitHubRepository repository(String fullName) {
+        GitHubRepository.Owner owner = new GitHubRepository.Owner();
+        owner.setLogin(fullName.substring(0, fullName.indexOf('/')));
+
+        GitHubRepository repository = new GitHubRepository();
+        repository.setName(fullName.substring(fullName.indexOf('/') + 1));
+        repository.setFullName(fullName);
+        repository.setOwner(owner);
+        return repository;
+    }
+
+    private static ContributorStats contribution(String login, long loc) {
+        ContributorStats.Author author = new ContributorStats.Author();
+        author.setLogin(login);
+        ContributorStats stats = new ContributorStats();
+        stats.setAuthor(author);
+        stats.setTotal(1L);
+        stats.setWeeks(WeeklyContributionIndex.builder().add(WEEK, loc, 0, 1).build());
+        return stats;
+    }
+}
@@ -0,0 +1,118 @@
+package com.study.githubapi.assistant.common;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.study.githubapi.assistant.common.dto.LocSummaryResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static com.study.githubapi.assistant.common.LocAccumulatorTest.contribution;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocSummaryStreamWriterTest {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2024, 1, 1, 0, 0);
+    private static final LocalDateTime TO = LocalDateTime.of(2024, 12, 31, 23, 59, 59);
+
+    private final ObjectMapper json = JsonMapper.builder()
+            .propertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
+            .serializationInclusion(JsonInclude.Include.NON_NULL)
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private final LocSummaryStreamWriter writer = new LocSummaryStreamWriter(json);
+
+    @Test
+    void streamsSameDocumentAsResponseObjectInSeveralChunks() throws Exception {
+        LocAccumulator accumulator = new LocAccumulator(true);
+        for (int repository = 0; repository < 3; repository++) {
+            accumulator.add(IntStream.range(0, 500)
+                    .mapToObj(user -> contribution("user-" + user, user * 3L + 1, 1))
+                    .toList());
+        }
+
+        List<DataBuffer> buffers = writer.write("acme", FROM, TO, false, true, Mono.never(), Mono.just(accumulator))
+                .collectList()
+                .block();
+        LocSummaryResponse streamed = json.readValue(join(buffers), LocSummaryResponse.class);
+
+        assertThat(buffers.size()).isGreaterThan(3);
+        assertThat(streamed.getOrganization()).isEqualTo("acme");
+        assertThat(streamed.getFrom()).isEqualTo(FROM);
+        assertThat(streamed.isIncludeArchived()).isTrue();
+        assertThat(streamed.getCollectedAt()).isNotNull();
+        assertThat(streamed.getUserSummaries()).isEqualTo(accumulator.detailedSnapshot());
+        assertThat(streamed.getMetadata())
+                .containsEntry("totalUsers", 500)
+                .containsEntry("totalRepositories", 3)
+                .containsEntry("totalCommits", 1500);
+    }
+
+    @Test
+    void sendsHeaderOnceStartedBeforeAggregationCompletes() {
+        StepVerifier.create(writer.write("acme", FROM, TO, false, false, Mono.empty(), Mono.never()))
+                .assertNext(buffer -> assertThat(buffer.toString(StandardCharsets.UTF_8))
+                        .startsWith("{\"organization\":\"acme\"")
+                        .endsWith("\"user_summaries\":["))
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    void holdsHeaderBackUntilStarted() {
+        Sinks.Empty<Void> started = Sinks.empty();
+
+        StepVerifier.create(writer.write("acme", FROM, TO, false, false, started.asMono(), Mono.never()))
+                .expectSubscription()
+                .expectNoEvent(Duration.ofMillis(100))
+                .then(started::tryEmitEmpty)
+                .assertNext(buffer -> assertThat(buffer.toString(StandardCharsets.UTF_8)).startsWith("{\"organization\""))
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    void failsWithoutWritingWhenAggregationFailsBeforeStart() {
+        StepVerifier.create(writer.write("acme", FROM, TO, false, false, Mono.never(),
+                        Mono.error(new IllegalStateException("listing failed"))))
+                .expectErrorMessage("listing failed")
+                .verify();
+    }
+
+    @Test
+    void writesEmptyOrganization() throws Exception {
+        List<DataBuffer> buffers = writer.write("acme", FROM, TO, false, false, Mono.empty(), Mono.just(new LocAccumulator(true)))
+                .collectList()
+                .block();
+
+        LocSummaryResponse streamed = json.readValue(join(buffers), LocSummaryResponse.class);
+
+        assertThat(streamed.getUserSummaries()).isEmpty();
+        assertThat(streamed.getMetadata()).containsEntry("totalUsers", 0);
+    }
+
+    private static byte[] join(List<DataBuffer> buffers) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (DataBuffer buffer : buffers) {
+            byte[] bytes = new byte[buffer.readableByteCount()];
+            buffer.read(bytes);
+            out.writeBytes(bytes);
+        }
+        return out.toByteArray();
+    }
+}
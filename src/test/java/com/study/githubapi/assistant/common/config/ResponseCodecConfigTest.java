@@ -0,0 +1,83 @@
+package com.study.githubapi.assistant.common.config;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.study.githubapi.assistant.common.dto.LocSummaryResponse;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResponseCodecConfigTest {
+
+    private final ObjectMapper json = JsonMapper.builder()
+            .propertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
+            .serializationInclusion(JsonInclude.Include.NON_NULL)
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    @Test
+    void binaryFormatsRoundTripAndDeduplicateRepeatedStrings() throws Exception {
+        LocSummaryResponse response = response();
+        byte[] jsonBytes = json.writeValueAsBytes(response);
+
+        for (ObjectMapper binary : List.of(ResponseCodecConfig.smileMapper(json), ResponseCodecConfig.cborMapper(json))) {
+            byte[] encoded = binary.writeValueAsBytes(response);
+
+            assertThat(binary.readValue(encoded, LocSummaryResponse.class)).isEqualTo(response);
+            assertThat(encoded.length).isLessThan(jsonBytes.length / 2);
+        }
+    }
+
+    @Test
+    void keepsJsonNamingInBinaryFormats() throws Exception {
+        ObjectMapper smile = ResponseCodecConfig.smileMapper(json);
+
+        assertThat(smile.readTree(smile.writeValueAsBytes(response())).has("user_summaries")).isTrue();
+    }
+
+    /**
+     * 사용자 50명이 같은 레포지토리 20개에 기여한 응답
+     */
+    private static LocSummaryResponse response() {
+        List<LocSummaryResponse.UserLocSummary> users = new ArrayList<>();
+        for (int user = 0; user < 50; user++) {
+            List<LocSummaryResponse.RepositoryContribution> repositories = new ArrayList<>();
+            for (int repository = 0; repository < 20; repository++) {
+                repositories.add(LocSummaryResponse.RepositoryContribution.builder()
+                        .repositoryName("repo-" + repository)
+                        .repositoryFullName("acme/repo-" + repository)
+                        .repositoryUrl("https://github.com/acme/repo-" + repository + ".git")
+                        .additions(100L + user)
+                        .deletions(10L)
+                        .loc(110L + user)
+                        .commits(3L)
+                        .lastContribution(LocalDateTime.of(2024, 6, 2, 0, 0))
+                        .build());
+            }
+            users.add(LocSummaryResponse.UserLocSummary.builder()
+                    .username("user-" + user)
+                    .totalAdditions(2000L)
+                    .totalDeletions(200L)
+                    .totalLoc(2200L)
+                    .totalCommits(60L)
+                    .repositories(repositories)
+                    .build());
+        }
+        return LocSummaryResponse.builder()
+                .organization("acme")
+                .from(LocalDateTime.of(2024, 1, 1, 0, 0))
+                .to(LocalDateTime.of(2024, 12, 31, 23, 59, 59))
+                .collectedAt(LocalDateTime.of(2025, 1, 1, 0, 0))
+                .userSummaries(users)
+                .build();
+    }
+}
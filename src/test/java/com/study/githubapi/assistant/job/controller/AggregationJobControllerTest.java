@@ -0,0 +1,87 @@
+package com.study.githubapi.assistant.job.controller;
+
+import com.study.githubapi.assistant.common.AggregationMetrics;
+import com.study.githubapi.assistant.common.dto.LocSummaryResponse;
+import com.study.githubapi.assistant.common.exception.GlobalExceptionHandler;
+import com.study.githubapi.assistant.job.config.AggregationJobConfig;
+import com.study.githubapi.assistant.job.dto.AggregationJobStatus;
+import com.study.githubapi.assistant.job.service.AggregationJobService;
+import com.study.githubapi.assistant.repository.service.RepositoryLocService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Sinks;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AggregationJobControllerTest {
+
+    private static final String SUBMIT = "/api/loc/jobs/repository/acme?from=2024-01-01T00:00:00&to=2024-12-31T23:59:59";
+
+    private final RepositoryLocService repositoryLocService = mock(RepositoryLocService.class);
+    private final AggregationJobConfig config = new AggregationJobConfig();
+    private final Sinks.One<LocSummaryResponse> aggregation = Sinks.one();
+
+    @Test
+    void answersAcceptedUntilResultIsReady() {
+        when(repositoryLocService.aggregateOrganizationLocStats(eq("acme"), any(), any(), any(), anyBoolean(), anyBoolean()))
+                .thenReturn(aggregation.asMono());
+        AggregationJobService service = startedService();
+        WebTestClient client = client(service);
+
+        AggregationJobStatus submitted = client.post().uri(SUBMIT)
+                .exchange()
+                .expectStatus().isAccepted()
+                .expectBody(AggregationJobStatus.class)
+                .returnResult().getResponseBody();
+
+        client.get().uri(submitted.getResultUrl())
+                .exchange()
+                .expectStatus().isAccepted()
+                .expectBody().jsonPath("$.state").isEqualTo("RUNNING");
+
+        aggregation.tryEmitValue(LocSummaryResponse.builder().organization("acme").build());
+
+        client.get().uri(submitted.getResultUrl())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.organization").isEqualTo("acme");
+        client.get().uri("/api/loc/jobs/unknown/result")
+                .exchange()
+                .expectStatus().isNotFound();
+        ReflectionTestUtils.invokeMethod(service, "stopWorker");
+    }
+
+    @Test
+    void answersServiceUnavailableWhenQueueIsFull() {
+        config.setMaxConcurrentJobs(1);
+        config.setMaxQueuedJobs(0);
+        when(repositoryLocService.aggregateOrganizationLocStats(eq("acme"), any(), any(), any(), anyBoolean(), anyBoolean()))
+                .thenReturn(aggregation.asMono());
+        AggregationJobService service = startedService();
+
+        client(service).post().uri(SUBMIT)
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        ReflectionTestUtils.invokeMethod(service, "stopWorker");
+    }
+
+    private AggregationJobService startedService() {
+        AggregationJobService service = new AggregationJobService(repositoryLocService, config,
+                new AggregationMetrics(new SimpleMeterRegistry()));
+        ReflectionTestUtils.invokeMethod(service, "startWorker");
+        return service;
+    }
+
+    private static WebTestClient client(AggregationJobService service) {
+        return WebTestClient.bindToController(new AggregationJobController(service))
+                .controllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+}
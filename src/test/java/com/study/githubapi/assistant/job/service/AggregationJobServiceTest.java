@@ -0,0 +1,157 @@
+package com.study.githubapi.assistant.job.service;
+
+import com.study.githubapi.assistant.common.AggregationMetrics;
+import com.study.githubapi.assistant.common.dto.LocSummaryResponse;
+import com.study.githubapi.assistant.job.config.AggregationJobConfig;
+import com.study.githubapi.assistant.job.dto.AggregationJobStatus;
+import com.study.githubapi.assistant.repository.service.RepositoryLocService;
+import com.study.githubapi.github.service.FetchProgress;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AggregationJobServiceTest {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2024, 1, 1, 0, 0);
+    private static final LocalDateTime TO = LocalDateTime.of(2024, 12, 31, 23, 59);
+
+    private final RepositoryLocService repositoryLocService = mock(RepositoryLocService.class);
+    private final AggregationJobConfig config = new AggregationJobConfig();
+    private final AggregationJobService service = new AggregationJobService(repositoryLocService, config,
+            new AggregationMetrics(new SimpleMeterRegistry()));
+
+    // 조직별 집계 결과를 테스트에서 직접 완료시킨다
+    private final Map<String, Sinks.One<LocSummaryResponse>> aggregations = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        config.setMaxConcurrentJobs(1);
+        when(repositoryLocService.aggregateOrganizationLocStats(anyString(), any(), any(), any(), anyBoolean(), anyBoolean()))
+                .thenAnswer(invocation -> {
+                    String organization = invocation.getArgument(0);
+                    return Mono.deferContextual(context -> {
+                        FetchProgress.from(context).ifPresent(progress -> {
+                            progress.repositoryDiscovered();
+                            progress.requestSent();
+                        });
+                        return aggregation(organization).asMono();
+                    });
+                });
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.stopWorker();
+    }
+
+    @Test
+    void movesJobsFromQueuedThroughRunningToCompleted() {
+        service.startWorker();
+
+        AggregationJobStatus first = submit("acme");
+        AggregationJobStatus second = submit("globex");
+
+        // 동시 실행 수 1: 두 번째 작업은 대기
+        assertThat(state(first)).isEqualTo("RUNNING");
+        assertThat(state(second)).isEqualTo("QUEUED");
+        assertThat(service.getResult(first.getJobId())).isEmpty();
+        assertThat(service.getStatus(first.getJobId()).orElseThrow())
+                .returns(1, AggregationJobStatus::getRepositoriesTotal)
+                .returns(1L, AggregationJobStatus::getBudgetConsumed);
+
+        aggregation("acme").tryEmitValue(LocSummaryResponse.builder().organization("acme").build());
+
+        AggregationJobStatus completed = service.getStatus(first.getJobId()).orElseThrow();
+        assertThat(completed.getState()).isEqualTo("COMPLETED");
+        assertThat(completed.getFinishedAt()).isNotNull();
+        assertThat(service.getResult(first.getJobId())).hasValueSatisfying(result ->
+                assertThat(result.getOrganization()).isEqualTo("acme"));
+        assertThat(state(second)).isEqualTo("RUNNING");
+    }
+
+    @Test
+    void recordsFailureWithoutResult() {
+        service.startWorker();
+
+        AggregationJobStatus job = submit("acme");
+        aggregation("acme").tryEmitError(new IllegalStateException("listing failed"));
+
+        AggregationJobStatus failed = service.getStatus(job.getJobId()).orElseThrow();
+        assertThat(failed.getState()).isEqualTo("FAILED");
+        assertThat(failed.getError()).isEqualTo("listing failed");
+        assertThat(service.getResult(job.getJobId())).isEmpty();
+    }
+
+    @Test
+    void rejectsJobsBeyondMaxQueuedJobs() {
+        config.setMaxQueuedJobs(1);
+        service.startWorker();
+
+        submit("acme");
+        submit("globex");
+
+        // 실행 중인 작업은 대기열에 포함되지 않는다
+        assertThatThrownBy(() -> submit("initech"))
+                .isInstanceOf(JobRejectedException.class)
+                .hasMessageContaining("max 1");
+
+        aggregation("acme").tryEmitValue(LocSummaryResponse.builder().organization("acme").build());
+        assertThat(state(submit("initech"))).isEqualTo("QUEUED");
+    }
+
+    @Test
+    void keepsOnlyMostRecentFinishedJobs() throws InterruptedException {
+        config.setMaxRetainedJobs(1);
+        service.startWorker();
+
+        AggregationJobStatus first = submit("acme");
+        AggregationJobStatus second = submit("globex");
+        aggregation("acme").tryEmitValue(LocSummaryResponse.builder().organization("acme").build());
+        Thread.sleep(5);
+        aggregation("globex").tryEmitValue(LocSummaryResponse.builder().organization("globex").build());
+
+        assertThat(service.getStatus(first.getJobId())).isEmpty();
+        assertThat(service.getResult(second.getJobId())).isPresent();
+    }
+
+    @Test
+    void evictsExpiredJobsWhenPolled() throws InterruptedException {
+        config.setRetention(Duration.ofMillis(1));
+        service.startWorker();
+
+        AggregationJobStatus job = submit("acme");
+        aggregation("acme").tryEmitValue(LocSummaryResponse.builder().organization("acme").build());
+        Thread.sleep(10);
+
+        assertThat(service.getStatus(job.getJobId())).isEmpty();
+        assertThat(service.getResult(job.getJobId())).isEmpty();
+    }
+
+    private AggregationJobStatus submit(String organization) {
+        return service.submitOrganizationJob(organization, null, FROM, TO, false, false);
+    }
+
+    private String state(AggregationJobStatus job) {
+        return service.getStatus(job.getJobId()).orElseThrow().getState();
+    }
+
+    private Sinks.One<LocSummaryResponse> aggregation(String organization) {
+        return aggregations.computeIfAbsent(organization, key -> Sinks.one());
+    }
+}
@@ -0,0 +1,150 @@
+package com.study.githubapi.assistant.prewarm.service;
+
+import com.study.githubapi.assistant.prewarm.config.PrewarmConfig;
+import com.study.githubapi.github.client.RateLimitTracker;
+import com.study.githubapi.github.client.TokenPool;
+import com.study.githubapi.github.config.GitHubApiConfig;
+import com.study.githubapi.github.dto.GitHubRepository;
+import com.study.githubapi.github.service.ContributorStatsCollector;
+import com.study.githubapi.github.service.FetchProgress;
+import com.study.githubapi.github.service.GitHubApiService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import reactor.core.publisher.Flux;
+import reactor.test.scheduler.VirtualTimeScheduler;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PrewarmSchedulerTest {
+
+    private final PrewarmConfig config = new PrewarmConfig();
+    private final GitHubApiService gitHubApiService = mock(GitHubApiService.class);
+    private final ContributorStatsCollector collector = mock(ContributorStatsCollector.class);
+    private final GitHubApiConfig gitHubApiConfig = new GitHubApiConfig();
+    private final PrewarmScheduler scheduler = new PrewarmScheduler(config, gitHubApiService, collector,
+            new TokenPool(gitHubApiConfig, new RateLimitTracker(gitHubApiConfig, new SimpleMeterRegistry())));
+
+    private VirtualTimeScheduler virtualTime;
+
+    @BeforeEach
+    void setUp() {
+        virtualTime = VirtualTimeScheduler.getOrSet();
+        config.setEnabled(true);
+        PrewarmConfig.Target target = new PrewarmConfig.Target();
+        target.setName("acme");
+        config.setTargets(List.of(target));
+
+        // 레포지토리마다 통계 요청 1건을 보낸 것으로 기록
+        when(collector.collect(any(), any())).thenAnswer(invocation -> {
+            Flux<GitHubRepository> repositories = invocation.getArgument(0);
+            return Flux.deferContextual(context -> repositories.map(repository -> {
+                FetchProgress.from(context).ifPresent(progress -> {
+                    progress.requestSent();
+                    progress.repositoryCompleted();
+                });
+                return new ContributorStatsCollector.CollectedStats(repository, List.of());
+            }));
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.cancelRuns();
+        VirtualTimeScheduler.reset();
+    }
+
+    @Test
+    void startsRunAfterJitterWithoutBlockingTrigger() {
+        config.setJitter(Duration.ofHours(1));
+        when(gitHubApiService.getOrganizationRepositories(eq("acme"), any(), anyBoolean(), anyBoolean()))
+                .thenReturn(repositories(2));
+
+        Runnable trigger = trigger();
+        trigger.run();
+
+        assertThat(statistics()).containsEntry("running", true).containsEntry("lastStartedAt", null);
+        verify(gitHubApiService, never()).getOrganizationRepositories(any(), any(), anyBoolean(), anyBoolean());
+
+        virtualTime.advanceTimeBy(Duration.ofHours(1));
+
+        assertThat(statistics()).containsEntry("running", false).containsEntry("lastRepositories", 2);
+    }
+
+    @Test
+    void skipsTriggerWhilePreviousRunIsInProgress() {
+        config.setJitter(Duration.ZERO);
+        when(gitHubApiService.getOrganizationRepositories(eq("acme"), any(), anyBoolean(), anyBoolean()))
+                .thenReturn(Flux.never());
+
+        Runnable trigger = trigger();
+        trigger.run();
+        virtualTime.advanceTime();
+        trigger.run();
+        virtualTime.advanceTime();
+
+        verify(gitHubApiService, times(1)).getOrganizationRepositories(any(), any(), anyBoolean(), anyBoolean());
+        assertThat(statistics()).containsEntry("running", true);
+
+        scheduler.cancelRuns();
+        trigger.run();
+        virtualTime.advanceTime();
+
+        verify(gitHubApiService, times(2)).getOrganizationRepositories(any(), any(), anyBoolean(), anyBoolean());
+    }
+
+    @Test
+    void stopsRequestingRepositoriesAtBudgetCap() {
+        config.setJitter(Duration.ZERO);
+        config.setMaxRequestsPerRun(3);
+        when(gitHubApiService.getOrganizationRepositories(eq("acme"), any(), anyBoolean(), anyBoolean()))
+                .thenReturn(repositories(10));
+
+        trigger().run();
+        virtualTime.advanceTime();
+
+        assertThat(statistics())
+                .containsEntry("running", false)
+                .containsEntry("lastBudget", 3L)
+                .containsEntry("lastRequests", 3L)
+                .containsEntry("lastRepositories", 3)
+                .containsEntry("lastStoppedByBudget", true);
+    }
+
+    private Runnable trigger() {
+        ScheduledTaskRegistrar registrar = new ScheduledTaskRegistrar();
+        scheduler.configureTasks(registrar);
+        return registrar.getCronTaskList().get(0).getRunnable();
+    }
+
+    private Map<String, Object> statistics() {
+        return scheduler.getStatistics().get(0);
+    }
+
+    private static Flux<GitHubRepository> repositories(int count) {
+        return Flux.fromStream(IntStream.range(0, count).mapToObj(i -> {
+            GitHubRepository.Owner owner = new GitHubRepository.Owner();
+            owner.setLogin("acme");
+            GitHubRepository repository = new GitHubRepository();
+            repository.setName("repo-" + i);
+            repository.setFullName("acme/repo-" + i);
+            repository.setOwner(owner);
+            return repository;
+        }));
+    }
+}
@@ -0,0 +1,77 @@
+package com.study.githubapi.assistant.repository.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.githubapi.assistant.common.AggregationMetrics;
+import com.study.githubapi.assistant.common.LocSummaryStreamWriter;
+import com.study.githubapi.assistant.common.exception.GlobalExceptionHandler;
+import com.study.githubapi.assistant.repository.service.RepositoryLocService;
+import com.study.githubapi.github.client.CircuitOpenException;
+import com.study.githubapi.github.service.GitHubApiService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RepositoryLocControllerTest {
+
+    private static final String DETAILED = "/api/loc/repository/acme/detailed?from=2024-01-01T00:00:00&to=2024-12-31T23:59:59";
+
+    private final RepositoryLocService repositoryLocService = mock(RepositoryLocService.class);
+
+    private final WebTestClient client = WebTestClient
+            .bindToController(new RepositoryLocController(repositoryLocService, mock(GitHubApiService.class),
+                    new AggregationMetrics(new SimpleMeterRegistry()), new LocSummaryStreamWriter(new ObjectMapper())))
+            .controllerAdvice(new GlobalExceptionHandler())
+            .build();
+
+    @Test
+    void streamsDetailedResponse() {
+        when(repositoryLocService.writeOrganizationLocStats(eq("acme"), any(), any(), any(), anyBoolean(), anyBoolean()))
+                .thenReturn(Flux.just("{\"organization\":\"acme\",", "\"user_summaries\":[]}")
+                        .map(chunk -> DefaultDataBufferFactory.sharedInstance.wrap(chunk.getBytes(StandardCharsets.UTF_8))));
+
+        client.get().uri(DETAILED)
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectBody().jsonPath("$.organization").isEqualTo("acme");
+    }
+
+    @Test
+    void answersServiceUnavailableWhenBreakerIsOpenBeforeStreaming() {
+        when(repositoryLocService.writeOrganizationLocStats(eq("acme"), any(), any(), any(), anyBoolean(), anyBoolean()))
+                .thenReturn(Flux.error(new CircuitOpenException("repos", Duration.ofSeconds(30))));
+
+        client.get().uri(DETAILED)
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.SERVICE_UNAVAILABLE)
+                .expectBody().jsonPath("$.retryAfterSeconds").isEqualTo(30);
+    }
+
+    @Test
+    void passesGitHubStatusThroughWhenListingFailsBeforeStreaming() {
+        when(repositoryLocService.writeOrganizationLocStats(eq("acme"), any(), any(), any(), anyBoolean(), anyBoolean()))
+                .thenReturn(Flux.error(WebClientResponseException.create(401, "Unauthorized", HttpHeaders.EMPTY, new byte[0], null)));
+
+        client.get().uri(DETAILED)
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isUnauthorized();
+    }
+}
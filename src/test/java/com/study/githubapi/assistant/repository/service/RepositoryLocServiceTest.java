@@ -0,0 +1,125 @@
+package com.study.githubapi.assistant.repository.service;
+
+import com.study.githubapi.assistant.common.AggregationMetrics;
+import com.study.githubapi.assistant.common.AggregationSnapshotStore;
+import com.study.githubapi.assistant.common.LocAggregationHelper;
+import com.study.githubapi.assistant.common.LocSummaryStreamWriter;
+import com.study.githubapi.assistant.common.config.LocStreamConfig;
+import com.study.githubapi.assistant.common.dto.LocStreamEvent;
+import com.study.githubapi.assistant.common.dto.LocSummaryOnlyResponse;
+import com.study.githubapi.github.cache.ContributorStatsCache;
+import com.study.githubapi.github.dto.ContributorStats;
+import com.study.githubapi.github.dto.GitHubRepository;
+import com.study.githubapi.github.service.ContributorStatsCollector;
+import com.study.githubapi.github.service.GitHubApiService;
+import com.study.githubapi.github.stats.WeeklyContributionIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RepositoryLocServiceTest {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2024, 1, 1, 0, 0);
+    private static final LocalDateTime TO = LocalDateTime.of(2024, 12, 31, 23, 59);
+    private static final long WEEK = LocalDateTime.of(2024, 3, 3, 0, 0).toEpochSecond(ZoneOffset.UTC);
+
+    private final GitHubApiService gitHubApiService = mock(GitHubApiService.class);
+    private final ContributorStatsCollector collector = mock(ContributorStatsCollector.class);
+    private final LocStreamConfig streamConfig = new LocStreamConfig();
+    private final RepositoryLocService service = new RepositoryLocService(gitHubApiService,
+            new LocAggregationHelper(gitHubApiService, collector, mock(ContributorStatsCache.class),
+                    new AggregationMetrics(new SimpleMeterRegistry())),
+            streamConfig, mock(AggregationSnapshotStore.class), mock(LocSummaryStreamWriter.class));
+
+    private final Map<String, List<ContributorStats>> statsByRepository = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        streamConfig.setProgressInterval(Duration.ofSeconds(5));
+        streamConfig.setProgressTopUsers(1);
+        when(collector.collect(any(), any())).thenAnswer(invocation -> {
+            Flux<GitHubRepository> repositories = invocation.getArgument(0);
+            return repositories.map(repository -> new ContributorStatsCollector.CollectedStats(repository,
+                    statsByRepository.getOrDefault(repository.getFullName(), List.of())));
+        });
+    }
+
+    @Test
+    void streamsRepositoryEventsWithProgressTicksAndEndsWithSummary() {
+        statsByRepository.put("acme/api", List.of(contribution("alice", 10), contribution("bob", 5)));
+        statsByRepository.put("acme/web", List.of(contribution("carol", 3)));
+
+        StepVerifier.withVirtualTime(() -> {
+                    // 두 번째 레포지토리는 progress 주기가 한 번 지난 뒤 도착
+                    when(gitHubApiService.getOrganizationRepositories(eq("acme"), any(), anyBoolean(), anyBoolean()))
+                            .thenReturn(Flux.just(repository("acme/api"))
+                                    .concatWith(Mono.delay(Duration.ofSeconds(7)).thenReturn(repository("acme/web"))));
+                    return service.streamOrganizationLocStats("acme", null, FROM, TO, false, false);
+                })
+                .assertNext(event -> assertThat(event).returns(LocStreamEvent.TYPE_REPOSITORY, LocStreamEvent::getType)
+                        .returns("alice", LocStreamEvent::getUsername))
+                .assertNext(event -> assertThat(event.getUsername()).isEqualTo("bob"))
+                .thenAwait(Duration.ofSeconds(5))
+                .assertNext(event -> {
+                    // 전체 사용자 목록 대신 합계와 상위 사용자만 전송
+                    assertThat(event).returns(LocStreamEvent.TYPE_PROGRESS, LocStreamEvent::getType)
+                            .returns(1, LocStreamEvent::getRepositoriesProcessed)
+                            .returns(2, LocStreamEvent::getUsersFound)
+                            .returns(15L, LocStreamEvent::getTotalLoc);
+                    assertThat(event.getUserTotals())
+                            .extracting(LocSummaryOnlyResponse.UserLocSummaryOnly::getUsername)
+                            .containsExactly("alice");
+                })
+                .thenAwait(Duration.ofSeconds(2))
+                .assertNext(event -> assertThat(event).returns(LocStreamEvent.TYPE_REPOSITORY, LocStreamEvent::getType)
+                        .returns("carol", LocStreamEvent::getUsername))
+                .assertNext(event -> {
+                    assertThat(event.getType()).isEqualTo(LocStreamEvent.TYPE_SUMMARY);
+                    assertThat(event.getSummary().getUserSummaries())
+                            .extracting(LocSummaryOnlyResponse.UserLocSummaryOnly::getUsername,
+                                    LocSummaryOnlyResponse.UserLocSummaryOnly::getTotalLoc)
+                            .containsExactly(tuple("alice", 10L), tuple("bob", 5L), tuple("carol", 3L));
+                })
+                // 레포지토리 수집이 끝나면 progress 주기도 멈추고 스트림이 완료된다
+                .verifyComplete();
+    }
+
+    private static GitHubRepository repository(String fullName) {
+        GitHubRepository.Owner owner = new GitHubRepository.Owner();
+        owner.setLogin(fullName.substring(0, fullName.indexOf('/')));
+
+        GitHubRepository repository = new GitHubRepository();
+        repository.setName(fullName.substring(fullName.indexOf('/') + 1));
+        repository.setFullName(fullName);
+        repository.setOwner(owner);
+        return repository;
+    }
+
+    private static ContributorStats contribution(String login, long loc) {
+        ContributorStats.Author author = new ContributorStats.Author();
+        author.setLogin(login);
+        ContributorStats stats = new ContributorStats();
+        stats.setAuthor(author);
+        stats.setTotal(1L);
+        stats.setWeeks(WeeklyContributionIndex.builder().add(WEEK, loc, 0, 1).build());
+        return stats;
+    }
+}
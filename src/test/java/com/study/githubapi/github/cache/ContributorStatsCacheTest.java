@@ -0,0 +1,174 @@
+package com.study.githubapi.github.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.githubapi.github.config.GitHubApiConfig;
+import com.study.githubapi.github.dto.ContributorStats;
+import com.study.githubapi.github.dto.GitHubRepository;
+import com.study.githubapi.github.stats.WeeklyContributionIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import reactor.test.StepVerifier;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ContributorStatsCacheTest {
+
+    private static final LocalDateTime PUSHED_AT = LocalDateTime.of(2024, 5, 1, 10, 0);
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final GitHubApiConfig config = new GitHubApiConfig();
+
+    @TempDir
+    Path directory;
+
+    @BeforeEach
+    void setUp() {
+        config.getStatsCache().setPersistent(false);
+        config.getStatsCache().setDirectory(directory.toString());
+    }
+
+    @Test
+    void invalidatesEntryWhenRepositoryIsPushedAgain() {
+        ContributorStatsCache cache = new ContributorStatsCache(config, objectMapper);
+        cache.put(repository("api", PUSHED_AT), List.of(stats("alice")));
+
+        StepVerifier.create(cache.get(repository("api", PUSHED_AT)))
+                .assertNext(stats -> assertThat(stats).extracting(s -> s.getAuthor().getLogin()).containsExactly("alice"))
+                .verifyComplete();
+        StepVerifier.create(cache.get(repository("api", PUSHED_AT.plusHours(1))))
+                .verifyComplete();
+
+        assertThat(cache.peek(repository("api", PUSHED_AT))).isEmpty();
+        assertThat(cache.getStatistics())
+                .containsEntry("memoryHits", 1L)
+                .containsEntry("staleMisses", 1L)
+                .containsEntry("size", 0);
+    }
+
+    @Test
+    void invalidatesEntryAfterTtl() {
+        config.getStatsCache().setTtl(Duration.ZERO);
+        ContributorStatsCache cache = new ContributorStatsCache(config, objectMapper);
+        cache.put(repository("api", PUSHED_AT), List.of(stats("alice")));
+
+        StepVerifier.create(cache.get(repository("api", PUSHED_AT)))
+                .verifyComplete();
+
+        assertThat(cache.getStatistics()).containsEntry("staleMisses", 1L);
+    }
+
+    @Test
+    void doesNotCacheEmptyResults() {
+        config.getStatsCache().setPersistent(true);
+        ContributorStatsCache cache = new ContributorStatsCache(config, objectMapper);
+
+        // 에러로 인한 fallback 도 빈 목록이므로 저장하지 않는다
+        cache.put(repository("api", PUSHED_AT), List.of());
+
+        StepVerifier.create(cache.get(repository("api", PUSHED_AT)))
+                .verifyComplete();
+        assertThat(cache.getStatistics()).containsEntry("size", 0).containsEntry("misses", 1L);
+        assertThat(cacheFiles()).isEmpty();
+    }
+
+    @Test
+    void loadsEntryFromDiskIntoMemoryAfterRestart() {
+        config.getStatsCache().setPersistent(true);
+        ContributorStatsCache before = new ContributorStatsCache(config, objectMapper);
+        before.put(repository("api", PUSHED_AT), List.of(stats("alice")));
+        await(() -> cacheFiles().size() == 1);
+
+        ContributorStatsCache after = new ContributorStatsCache(config, objectMapper);
+        after.pruneDiskEntries();
+        assertThat(after.peek(repository("api", PUSHED_AT))).isEmpty();
+
+        StepVerifier.create(after.get(repository("api", PUSHED_AT)))
+                .assertNext(stats -> {
+                    assertThat(stats).extracting(s -> s.getAuthor().getLogin()).containsExactly("alice");
+                    assertThat(stats.get(0).getWeeks().query(0, Long.MAX_VALUE).additions()).isEqualTo(10);
+                })
+                .verifyComplete();
+
+        // 디스크에서 읽은 항목은 메모리에 올라가 다음 조회는 메모리에서 응답
+        assertThat(after.peek(repository("api", PUSHED_AT))).isPresent();
+        assertThat(after.getStatistics())
+                .containsEntry("diskHits", 1L)
+                .containsEntry("diskEntries", 1);
+    }
+
+    @Test
+    void prunesDiskEntriesWhenWritingPastLimit() {
+        config.getStatsCache().setPersistent(true);
+        config.getStatsCache().setMaxDiskEntries(2);
+        ContributorStatsCache cache = new ContributorStatsCache(config, objectMapper);
+        cache.pruneDiskEntries();
+
+        cache.put(repository("api", PUSHED_AT), List.of(stats("alice")));
+        await(() -> cacheFiles().size() == 1);
+        cache.put(repository("web", PUSHED_AT), List.of(stats("alice")));
+        await(() -> cacheFiles().size() == 2);
+        cache.put(repository("cli", PUSHED_AT), List.of(stats("alice")));
+
+        // 상한을 넘는 저장 시점에 가장 오래된 파일부터 정리
+        await(() -> (long) cache.getStatistics().get("diskPruned") == 1L);
+        assertThat(cacheFiles()).hasSize(2);
+        assertThat(cache.getStatistics()).containsEntry("diskEntries", 2);
+    }
+
+    private List<Path> cacheFiles() {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(".json")).toList();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 디스크 쓰기는 별도 스레드에서 실행되므로 조건이 만족될 때까지 대기
+     */
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition not met within 5 seconds").isLessThan(deadline);
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    private static GitHubRepository repository(String name, LocalDateTime pushedAt) {
+        GitHubRepository.Owner owner = new GitHubRepository.Owner();
+        owner.setLogin("acme");
+
+        GitHubRepository repository = new GitHubRepository();
+        repository.setName(name);
+        repository.setFullName("acme/" + name);
+        repository.setOwner(owner);
+        repository.setPushedAt(pushedAt);
+        return repository;
+    }
+
+    private static ContributorStats stats(String login) {
+        ContributorStats.Author author = new ContributorStats.Author();
+        author.setLogin(login);
+        ContributorStats stats = new ContributorStats();
+        stats.setAuthor(author);
+        stats.setTotal(1L);
+        stats.setWeeks(WeeklyContributionIndex.builder().add(604800, 10, 2, 1).build());
+        return stats;
+    }
+}
@@ -0,0 +1,104 @@
+package com.study.githubapi.github.client;
+
+import com.study.githubapi.github.config.GitHubApiConfig;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CircuitBreakerTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000);
+    private final List<CircuitBreaker.State> transitions = new ArrayList<>();
+
+    @Test
+    void opensWhenFailureRateCrossesThresholdAfterMinCalls() {
+        CircuitBreaker breaker = breaker();
+
+        for (int i = 0; i < 9; i++) {
+            assertThat(breaker.tryAcquire()).isTrue();
+            breaker.onFailure();
+        }
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED); // minCalls 미만
+
+        breaker.tryAcquire();
+        breaker.onFailure();
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquire()).isFalse();
+        assertThat(breaker.remainingOpen()).isEqualTo(Duration.ofSeconds(30));
+    }
+
+    @Test
+    void staysClosedWhileFailuresAreBelowThreshold() {
+        CircuitBreaker breaker = breaker();
+
+        for (int i = 0; i < 40; i++) {
+            breaker.tryAcquire();
+            if (i % 3 == 0) {
+                breaker.onFailure();
+            } else {
+                breaker.onSuccess();
+            }
+        }
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void closesAfterAllHalfOpenProbesSucceed() {
+        CircuitBreaker breaker = openedBreaker();
+        now.addAndGet(Duration.ofSeconds(30).toMillis());
+
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.tryAcquire()).isFalse(); // 시험 요청 2개까지만
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+
+        breaker.onSuccess();
+        breaker.onSuccess();
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(transitions).containsExactly(
+                CircuitBreaker.State.OPEN, CircuitBreaker.State.HALF_OPEN, CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void reopensWhenHalfOpenProbeFailsAndIgnoresCancelledProbes() {
+        CircuitBreaker breaker = openedBreaker();
+        now.addAndGet(Duration.ofSeconds(30).toMillis());
+
+        breaker.tryAcquire();
+        breaker.tryAcquire();
+        breaker.onIgnored(); // 취소된 시험 요청은 자리만 반납
+        assertThat(breaker.tryAcquire()).isTrue();
+
+        breaker.onFailure();
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquire()).isFalse();
+    }
+
+    private CircuitBreaker openedBreaker() {
+        CircuitBreaker breaker = breaker();
+        for (int i = 0; i < 10; i++) {
+            breaker.tryAcquire();
+            breaker.onFailure();
+        }
+        return breaker;
+    }
+
+    private CircuitBreaker breaker() {
+        GitHubApiConfig.CircuitBreaker config = new GitHubApiConfig.CircuitBreaker();
+        config.setWindowSize(20);
+        config.setMinCalls(10);
+        config.setFailureRateThreshold(0.5);
+        config.setOpenDuration(Duration.ofSeconds(30));
+        config.setHalfOpenProbes(2);
+        return new CircuitBreaker("stats", config, now::get, transitions::add);
+    }
+}
@@ -0,0 +1,201 @@
+package com.study.githubapi.github.client;
+
+import com.study.githubapi.github.cache.ContributorStatsCache;
+import com.study.githubapi.github.config.GitHubApiConfig;
+import com.study.githubapi.github.dto.GitHubRepository;
+import com.study.githubapi.github.service.GitHubApiService;
+import com.study.githubapi.github.service.GraphQlRepositoryClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class ConditionalRequestFilterTest {
+
+    private static final String BASE_URL = "https://api.github.com";
+
+    private final GitHubApiConfig config = new GitHubApiConfig();
+    private final ConditionalRequestFilter filter = new ConditionalRequestFilter(config);
+    private final List<ClientRequest> requests = new CopyOnWriteArrayList<>();
+
+    @Test
+    void sendsStoredValidatorsWithNextRequest() {
+        exchange("/orgs/acme/repos", null, ok("[1]").header(HttpHeaders.ETAG, "\"a\"")
+                .header(HttpHeaders.LAST_MODIFIED, "Wed, 01 May 2024 10:00:00 GMT").build());
+        exchange("/orgs/acme/repos", null, ok("[1]").build());
+
+        HttpHeaders sent = requests.get(1).headers();
+        assertThat(requests.get(0).headers().getIfNoneMatch()).isEmpty();
+        assertThat(sent.getIfNoneMatch()).containsExactly("\"a\"");
+        assertThat(sent.getFirst(HttpHeaders.IF_MODIFIED_SINCE)).isEqualTo("Wed, 01 May 2024 10:00:00 GMT");
+    }
+
+    @Test
+    void replaysNotModifiedAsOkWithStoredBody() {
+        exchange("/orgs/acme/repos", null, ok("[1, 2]").header(HttpHeaders.ETAG, "\"a\"").build());
+
+        ClientResponse replayed = filter.filter(request("/orgs/acme/repos", null),
+                        request -> Mono.just(ClientResponse.create(HttpStatus.NOT_MODIFIED).build()))
+                .block();
+
+        assertThat(replayed.statusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(replayed.headers().contentType()).contains(MediaType.APPLICATION_JSON);
+        assertThat(replayed.bodyToMono(String.class).block()).isEqualTo("[1, 2]");
+        assertThat(filter.getStatistics()).containsEntry("notModified", 1L);
+    }
+
+    @Test
+    void keepsEntriesSeparatePerToken() {
+        exchange("/orgs/acme/repos", "token-a", ok("[1]").header(HttpHeaders.ETAG, "\"a\"").build());
+        exchange("/orgs/acme/repos", "token-b", ok("[1]").build());
+        exchange("/orgs/acme/repos", "token-a", ok("[1]").build());
+
+        // 다른 토큰으로 저장된 응답의 검증자는 보내지 않는다 (접근 권한이 다를 수 있음)
+        assertThat(requests.get(1).headers().getIfNoneMatch()).isEmpty();
+        assertThat(requests.get(2).headers().getIfNoneMatch()).containsExactly("\"a\"");
+    }
+
+    @Test
+    void skipsBodiesLargerThanEntryLimit() {
+        config.getConditionalRequests().setMaxEntryBytes(DataSize.ofBytes(4));
+
+        assertThat(exchange("/orgs/acme/repos", null, ok("[1, 2, 3]").header(HttpHeaders.ETAG, "\"a\"").build()))
+                .isEqualTo("[1, 2, 3]");
+        exchange("/orgs/acme/repos", null, ok("[1]").build());
+
+        assertThat(requests.get(1).headers().getIfNoneMatch()).isEmpty();
+        assertThat(filter.getStatistics())
+                .containsEntry("size", 0)
+                .containsEntry("skippedOversized", 1L);
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedEntriesToStayWithinByteLimit() {
+        config.getConditionalRequests().setMaxBytes(DataSize.ofBytes(10));
+
+        exchange("/orgs/a/repos", null, ok("[11]").header(HttpHeaders.ETAG, "\"a\"").build());
+        exchange("/orgs/b/repos", null, ok("[22]").header(HttpHeaders.ETAG, "\"b\"").build());
+        // a 를 다시 사용해 b 가 가장 오래 사용하지 않은 항목이 됨
+        exchange("/orgs/a/repos", null, ok("[11]").header(HttpHeaders.ETAG, "\"a\"").build());
+        exchange("/orgs/c/repos", null, ok("[33]").header(HttpHeaders.ETAG, "\"c\"").build());
+
+        assertThat(filter.getStatistics())
+                .containsEntry("size", 2)
+                .containsEntry("totalBytes", 8L)
+                .containsEntry("evictions", 1L);
+
+        requests.clear();
+        exchange("/orgs/a/repos", null, ok("[11]").build());
+        exchange("/orgs/b/repos", null, ok("[22]").build());
+        assertThat(requests.get(0).headers().getIfNoneMatch()).containsExactly("\"a\"");
+        assertThat(requests.get(1).headers().getIfNoneMatch()).isEmpty();
+    }
+
+    @Test
+    void leavesContributorStatsUnbuffered() {
+        exchange("/repos/acme/api/stats/contributors", null, ok("[]").header(HttpHeaders.ETAG, "\"a\"").build());
+        exchange("/repos/acme/api/stats/contributors", null, ok("[]").build());
+
+        // 기여자 통계 본문은 ContributorStatsCache 가 보관하므로 복사하지 않는다
+        assertThat(requests.get(1).headers().getIfNoneMatch()).isEmpty();
+        assertThat(filter.getStatistics()).containsEntry("size", 0).containsEntry("stored", 0L);
+    }
+
+    @Test
+    void replaysLinkHeaderSoWarmListingStillFetchesPagesInParallel() {
+        GitHubApiService service = gitHubApiService(WebClient.builder()
+                .baseUrl(BASE_URL)
+                .filter(filter)
+                .exchangeFunction(request -> {
+                    requests.add(request);
+                    int page = Integer.parseInt(queryParameter(request, "page"));
+                    if (page == 1 && request.headers().getIfNoneMatch().contains("\"v1\"")) {
+                        return Mono.just(ClientResponse.create(HttpStatus.NOT_MODIFIED).build());
+                    }
+                    ClientResponse.Builder response = ClientResponse.create(HttpStatus.OK)
+                            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                            .body("[{\"name\": \"repo-" + page + "\", \"full_name\": \"acme/repo-" + page + "\"}]");
+                    if (page == 1) {
+                        response.header(HttpHeaders.ETAG, "\"v1\"")
+                                .header(HttpHeaders.LINK, "<" + BASE_URL + "/orgs/acme/repos?page=2>; rel=\"next\", "
+                                        + "<" + BASE_URL + "/orgs/acme/repos?page=3>; rel=\"last\"");
+                    }
+                    return Mono.just(response.build());
+                })
+                .build());
+
+        StepVerifier.create(service.getOrganizationRepositories("acme", null, true, true).map(GitHubRepository::getName).collectList())
+                .assertNext(names -> assertThat(names).containsExactlyInAnyOrder("repo-1", "repo-2", "repo-3"))
+                .verifyComplete();
+        requests.clear();
+
+        // 첫 페이지가 304 여도 저장된 Link 헤더로 마지막 페이지를 알 수 있어 나머지 페이지를 모두 조회
+        StepVerifier.create(service.getOrganizationRepositories("acme", null, true, true).map(GitHubRepository::getName).collectList())
+                .assertNext(names -> assertThat(names).containsExactlyInAnyOrder("repo-1", "repo-2", "repo-3"))
+                .verifyComplete();
+
+        assertThat(requests).hasSize(3);
+        assertThat(filter.getStatistics()).containsEntry("notModified", 1L);
+    }
+
+    /**
+     * 필터를 거쳐 요청을 보내고 본문을 모두 읽음 (본문을 다 읽어야 응답이 저장된다)
+     */
+    private String exchange(String path, String token, ClientResponse response) {
+        return filter.filter(request(path, token), request -> {
+                    requests.add(request);
+                    return Mono.just(response);
+                })
+                .flatMap(received -> received.bodyToMono(String.class))
+                .block();
+    }
+
+    private static ClientRequest request(String path, String token) {
+        return ClientRequest.create(HttpMethod.GET, URI.create(BASE_URL + path))
+                .headers(headers -> {
+                    if (token != null) {
+                        headers.setBearerAuth(token);
+                    }
+                })
+                .build();
+    }
+
+    private static ClientResponse.Builder ok(String body) {
+        return ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body(body);
+    }
+
+    private GitHubApiService gitHubApiService(WebClient webClient) {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        GitHubClientMetrics metrics = new GitHubClientMetrics(registry);
+        RateLimitTracker rateLimitTracker = new RateLimitTracker(config, registry);
+        return new GitHubApiService(webClient, config, mock(ContributorStatsCache.class), rateLimitTracker,
+                mock(GraphQlRepositoryClient.class), new TokenPool(config, rateLimitTracker), metrics,
+                new RequestHedger(config, metrics));
+    }
+
+    private static String queryParameter(ClientRequest request, String name) {
+        for (String parameter : request.url().getQuery().split("&")) {
+            if (parameter.startsWith(name + "=")) {
+                return parameter.substring(name.length() + 1);
+            }
+        }
+        return null;
+    }
+}
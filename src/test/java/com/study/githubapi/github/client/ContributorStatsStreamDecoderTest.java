@@ -0,0 +1,65 @@
+package com.study.githubapi.github.client;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ContributorStatsStreamDecoderTest {
+
+    private static final String JSON = """
+            [
+              {"total": 3,
+               "author": {"id": 1, "login": "octocat", "avatar_url": "https://a/1", "plan": {"tags": [1]}},
+               "weeks": [{"w": 0, "a": 0, "d": 0, "c": 0}, {"w": 604800, "a": 12, "d": 3, "c": 2}, {"w": 1209600, "a": null, "d": 4, "c": 1}],
+               "unknown": {"nested": [1, 2]}},
+              {"total": 1, "author": null, "weeks": []}
+            ]
+            """;
+
+    @Test
+    void decodesRegardlessOfBufferBoundaries() {
+        for (int chunkSize : new int[] {1, 3, 64, 4096}) {
+            StepVerifier.create(ContributorStatsStreamDecoder.decode(chunks(JSON, chunkSize)))
+                    .assertNext(stats -> {
+                        assertThat(stats.getTotal()).isEqualTo(3);
+                        assertThat(stats.getAuthor().getLogin()).isEqualTo("octocat");
+                        assertThat(stats.getAuthor().getAvatarUrl()).isEqualTo("https://a/1");
+                        assertThat(stats.getWeeks().size()).isEqualTo(2);
+                        assertThat(stats.getWeeks().query(0, Long.MAX_VALUE).additions()).isEqualTo(12);
+                        assertThat(stats.getWeeks().query(0, Long.MAX_VALUE).deletions()).isEqualTo(7);
+                    })
+                    .assertNext(stats -> {
+                        assertThat(stats.getAuthor()).isNull();
+                        assertThat(stats.getWeeks().size()).isZero();
+                    })
+                    .verifyComplete();
+        }
+    }
+
+    @Test
+    void failsOnTruncatedBody() {
+        StepVerifier.create(ContributorStatsStreamDecoder.decode(chunks("[{\"total\": 1, \"weeks\": [", 8)))
+                .verifyError();
+    }
+
+    private static Flux<DataBuffer> chunks(String json, int chunkSize) {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        return Flux.defer(() -> {
+            List<DataBuffer> buffers = new ArrayList<>();
+            for (int offset = 0; offset < bytes.length; offset += chunkSize) {
+                int end = Math.min(offset + chunkSize, bytes.length);
+                buffers.add(DefaultDataBufferFactory.sharedInstance.wrap(Arrays.copyOfRange(bytes, offset, end)));
+            }
+            return Flux.fromIterable(buffers);
+        });
+    }
+}
@@ -0,0 +1,37 @@
+package com.study.githubapi.github.client;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GitHubClientMetricsTest {
+
+    @Test
+    void groupsPathsIntoEndpoints() {
+        assertThat(GitHubClientMetrics.endpointOf("/orgs/acme/repos")).isEqualTo(GitHubClientMetrics.ENDPOINT_REPOS);
+        assertThat(GitHubClientMetrics.endpointOf("/users/octocat/repos")).isEqualTo(GitHubClientMetrics.ENDPOINT_REPOS);
+        assertThat(GitHubClientMetrics.endpointOf("/repos/acme/api/stats/contributors")).isEqualTo(GitHubClientMetrics.ENDPOINT_STATS);
+        assertThat(GitHubClientMetrics.endpointOf("/rate_limit")).isEqualTo(GitHubClientMetrics.ENDPOINT_RATE_LIMIT);
+        assertThat(GitHubClientMetrics.endpointOf("/api/graphql")).isEqualTo(GitHubClientMetrics.ENDPOINT_GRAPHQL);
+        assertThat(GitHubClientMetrics.endpointOf("/repos/acme/api")).isEqualTo(GitHubClientMetrics.ENDPOINT_OTHER);
+    }
+
+    @Test
+    void recordsRequestsByStatusAndCountsPendingStats() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        GitHubClientMetrics metrics = new GitHubClientMetrics(registry);
+
+        metrics.requestStarted();
+        metrics.requestCompleted(GitHubClientMetrics.ENDPOINT_STATS, "GET", HttpStatus.ACCEPTED, 1_000_000);
+        metrics.requestStarted();
+        metrics.requestStarted();
+        metrics.requestCompleted(GitHubClientMetrics.ENDPOINT_STATS, "GET", HttpStatus.OK, 2_000_000);
+
+        assertThat(registry.get("github.client.requests").tag("status", "202").timer().count()).isEqualTo(1);
+        assertThat(registry.get("github.client.requests").tag("status", "200").tag("outcome", "SUCCESS").timer().count()).isEqualTo(1);
+        assertThat(registry.get("github.client.stats.accepted").counter().count()).isEqualTo(1);
+        assertThat(registry.get("github.client.requests.active").gauge().value()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,35 @@
+package com.study.githubapi.github.client;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LinkHeaderParserTest {
+
+    @Test
+    void parsesNextAndLastRelations() {
+        String header = "<https://api.github.com/organizations/1/repos?page=2&per_page=100>; rel=\"next\", "
+                + "<https://api.github.com/organizations/1/repos?page=34&per_page=100>; rel=\"last\"";
+
+        Map<String, String> links = LinkHeaderParser.parse(header);
+
+        assertThat(links).containsOnlyKeys("next", "last");
+        assertThat(LinkHeaderParser.pageOf(links.get("next"))).isEqualTo(2);
+        assertThat(LinkHeaderParser.pageOf(links.get("last"))).isEqualTo(34);
+    }
+
+    @Test
+    void returnsEmptyForMissingHeader() {
+        assertThat(LinkHeaderParser.parse(null)).isEmpty();
+        assertThat(LinkHeaderParser.parse("")).isEmpty();
+        assertThat(LinkHeaderParser.pageOf(null)).isEqualTo(-1);
+    }
+
+    @Test
+    void ignoresNonNumericPage() {
+        assertThat(LinkHeaderParser.pageOf("https://api.github.com/repos?page=abc")).isEqualTo(-1);
+        assertThat(LinkHeaderParser.pageOf("https://api.github.com/repos?per_page=100")).isEqualTo(-1);
+    }
+}
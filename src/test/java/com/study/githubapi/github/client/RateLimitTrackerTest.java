@@ -0,0 +1,240 @@
+package com.study.githubapi.github.client;
+
+import com.study.githubapi.github.config.GitHubApiConfig;
+import com.study.githubapi.github.dto.RateLimitStatus;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RateLimitTrackerTest {
+
+    private final GitHubApiConfig config = new GitHubApiConfig();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final String token = TokenFingerprint.of("token");
+
+    @Test
+    void recordsBudgetFromResponseHeaders() {
+        RateLimitTracker tracker = new RateLimitTracker(config, registry);
+        long reset = Instant.now().plusSeconds(1800).getEpochSecond();
+        HttpHeaders headers = headers(5000, 4000, reset);
+        headers.set("X-RateLimit-Resource", RateLimitTracker.RESOURCE_GRAPHQL);
+
+        assertThat(tracker.getStatus(token, RateLimitTracker.RESOURCE_GRAPHQL)).isEmpty();
+        tracker.record(token, RateLimitTracker.RESOURCE_CORE, headers, HttpStatus.OK);
+
+        // 응답의 X-RateLimit-Resource 가 요청 경로로 추정한 리소스보다 우선
+        assertThat(tracker.getStatus(token, RateLimitTracker.RESOURCE_CORE)).isEmpty();
+        RateLimitStatus status = tracker.getStatus(token, RateLimitTracker.RESOURCE_GRAPHQL).orElseThrow();
+        assertThat(status.getLimit()).isEqualTo(5000);
+        assertThat(status.getRemaining()).isEqualTo(4000);
+        assertThat(status.getUsed()).isEqualTo(1000);
+        assertThat(status.getResetAt()).isEqualTo(LocalDateTime.ofEpochSecond(reset, 0, ZoneOffset.UTC));
+        assertThat(status.getSource()).isEqualTo(RateLimitStatus.SOURCE_LOCAL);
+    }
+
+    @Test
+    void ignoresMissingOrMalformedHeaders() {
+        RateLimitTracker tracker = new RateLimitTracker(config, registry);
+        HttpHeaders malformed = new HttpHeaders();
+        malformed.set("X-RateLimit-Limit", "5000");
+        malformed.set("X-RateLimit-Remaining", "not a number");
+
+        tracker.record(token, RateLimitTracker.RESOURCE_CORE, new HttpHeaders(), HttpStatus.OK);
+        tracker.record(token, RateLimitTracker.RESOURCE_CORE, malformed, HttpStatus.OK);
+
+        assertThat(tracker.getStatus(token, RateLimitTracker.RESOURCE_CORE)).isEmpty();
+        assertThat(tracker.available(token, RateLimitTracker.RESOURCE_CORE)).isEqualTo(5000 - 50);
+    }
+
+    @Test
+    void reservedSlotsCountAgainstBudgetUntilReleased() {
+        RateLimitTracker tracker = new RateLimitTracker(config, registry);
+        tracker.record(token, RateLimitTracker.RESOURCE_CORE, headers(5000, 4000), HttpStatus.OK);
+
+        assertThat(tracker.reserve(token, RateLimitTracker.RESOURCE_CORE)).isZero();
+        assertThat(tracker.reserve(token, RateLimitTracker.RESOURCE_CORE)).isZero();
+        assertThat(tracker.available(token, RateLimitTracker.RESOURCE_CORE)).isEqualTo(4000 - 2 - 50);
+
+        tracker.release(token, RateLimitTracker.RESOURCE_CORE);
+        tracker.release(token, RateLimitTracker.RESOURCE_CORE);
+        tracker.release(token, RateLimitTracker.RESOURCE_CORE);
+
+        assertThat(tracker.getStatus(token, RateLimitTracker.RESOURCE_CORE).orElseThrow().getInFlight()).isZero();
+        assertThat(tracker.available(token, RateLimitTracker.RESOURCE_CORE)).isEqualTo(4000 - 50);
+    }
+
+    @Test
+    void pacesRequestsWhenBudgetFallsBelowThreshold() {
+        RateLimitTracker tracker = new RateLimitTracker(config, registry);
+        // 남은 예산 500 (20% 미만): reset 까지 남은 1시간을 사용할 수 있는 요청 수로 나눠 간격을 둔다
+        tracker.record(token, RateLimitTracker.RESOURCE_CORE, headers(5000, 500), HttpStatus.OK);
+
+        Duration first = tracker.reserve(token, RateLimitTracker.RESOURCE_CORE);
+        Duration second = tracker.reserve(token, RateLimitTracker.RESOURCE_CORE);
+
+        long interval = Duration.ofHours(1).toMillis() / (500 - 1 - 50);
+        assertThat(first).isZero();
+        assertThat(second.toMillis()).isBetween(interval - 1000, interval);
+    }
+
+    @Test
+    void waitsForResetWhenBudgetIsExhausted() {
+        RateLimitTracker tracker = new RateLimitTracker(config, registry);
+        tracker.record(token, RateLimitTracker.RESOURCE_CORE, headers(5000, 10), HttpStatus.OK);
+
+        Duration wait = tracker.reserve(token, RateLimitTracker.RESOURCE_CORE);
+
+        // reset 시각 + reset-grace(2초)
+        assertThat(wait.toSeconds()).isBetween(3590L, 3602L);
+
+        config.getRateLimit().setMaxWait(Duration.ofMinutes(1));
+        assertThatThrownBy(() -> tracker.reserve(token, RateLimitTracker.RESOURCE_CORE))
+                .isInstanceOf(RateLimitExceededException.class);
+        // 거절된 요청의 슬롯은 바로 반납
+        assertThat(tracker.getStatus(token, RateLimitTracker.RESOURCE_CORE).orElseThrow().getInFlight()).isEqualTo(1);
+    }
+
+    @Test
+    void blocksTokenForRetryAfterOnSecondaryRateLimit() {
+        RateLimitTracker tracker = new RateLimitTracker(config, registry);
+        HttpHeaders headers = headers(5000, 4000);
+        headers.set(HttpHeaders.RETRY_AFTER, "30");
+
+        assertThat(RateLimitTracker.isRateLimited(HttpStatus.FORBIDDEN, headers)).isTrue();
+        assertThat(RateLimitTracker.isRateLimited(HttpStatus.FORBIDDEN, headers(5000, 4000))).isFalse();
+        tracker.record(token, RateLimitTracker.RESOURCE_CORE, headers, HttpStatus.FORBIDDEN);
+
+        assertThat(tracker.available(token, RateLimitTracker.RESOURCE_CORE)).isZero();
+        assertThat(tracker.reserve(token, RateLimitTracker.RESOURCE_CORE).toSeconds()).isBetween(29L, 30L);
+        assertThat(tracker.getStatus(token, RateLimitTracker.RESOURCE_CORE).orElseThrow().getBlockedUntil()).isNotNull();
+    }
+
+    @Test
+    void restoresBudgetOnceResetWindowHasPassed() {
+        RateLimitTracker tracker = new RateLimitTracker(config, registry);
+        long past = Instant.now().minusSeconds(1).getEpochSecond();
+        tracker.record(token, RateLimitTracker.RESOURCE_CORE, headers(5000, 0, past), HttpStatus.OK);
+
+        assertThat(tracker.available(token, RateLimitTracker.RESOURCE_CORE)).isEqualTo(5000 - 50);
+        assertThat(tracker.reserve(token, RateLimitTracker.RESOURCE_CORE)).isZero();
+    }
+
+    @Test
+    void ignoresLateResponseFromPreviousWindow() {
+        RateLimitTracker tracker = new RateLimitTracker(config, registry);
+        long reset = Instant.now().plusSeconds(3600).getEpochSecond();
+        tracker.record(token, RateLimitTracker.RESOURCE_CORE, headers(5000, 4900, reset), HttpStatus.OK);
+        tracker.record(token, RateLimitTracker.RESOURCE_CORE, headers(5000, 100, reset - 3600), HttpStatus.OK);
+
+        assertThat(tracker.getStatus(token, RateLimitTracker.RESOURCE_CORE).orElseThrow().getRemaining()).isEqualTo(4900);
+    }
+
+    @Test
+    void filterReleasesSlotWhenRequestIsCancelled() {
+        RateLimitTracker tracker = new RateLimitTracker(config, registry);
+        RateLimitFilter filter = new RateLimitFilter(tracker, new GitHubClientMetrics(registry));
+        ClientRequest request = ClientRequest.create(HttpMethod.GET, URI.create("https://api.github.com/repos/acme/api/stats/contributors"))
+                .headers(headers -> headers.setBearerAuth("token"))
+                .build();
+        tracker.record(token, RateLimitTracker.RESOURCE_CORE, headers(5000, 4000), HttpStatus.OK);
+
+        Disposable inFlight = filter.filter(request, next -> Mono.<ClientResponse>never()).subscribe();
+        assertThat(tracker.getStatus(token, RateLimitTracker.RESOURCE_CORE).orElseThrow().getInFlight()).isEqualTo(1);
+
+        inFlight.dispose();
+        assertThat(tracker.getStatus(token, RateLimitTracker.RESOURCE_CORE).orElseThrow().getInFlight()).isZero();
+
+        // 예산 소진으로 대기 중인 요청도 취소하면 반납
+        tracker.record(token, RateLimitTracker.RESOURCE_CORE, headers(5000, 10), HttpStatus.OK);
+        Disposable parked = filter.filter(request, next -> Mono.<ClientResponse>never()).subscribe();
+        assertThat(tracker.getStatus(token, RateLimitTracker.RESOURCE_CORE).orElseThrow().getInFlight()).isEqualTo(1);
+
+        parked.dispose();
+        assertThat(tracker.getStatus(token, RateLimitTracker.RESOURCE_CORE).orElseThrow().getInFlight()).isZero();
+    }
+
+    @Test
+    void tagsPooledTokensAndFoldsCallerTokensIntoOneGauge() {
+        config.getTokenPool().setTokens(List.of("pooled"));
+        RateLimitTracker tracker = new RateLimitTracker(config, registry);
+
+        tracker.record(TokenFingerprint.of("pooled"), RateLimitTracker.RESOURCE_CORE, headers(5000, 4000), HttpStatus.OK);
+        for (int i = 0; i < 20; i++) {
+            tracker.record(TokenFingerprint.of("caller-" + i), RateLimitTracker.RESOURCE_CORE, headers(5000, 4000 - i), HttpStatus.OK);
+        }
+        tracker.reserve(TokenFingerprint.of("caller-0"), RateLimitTracker.RESOURCE_CORE);
+        tracker.reserve(TokenFingerprint.of("caller-1"), RateLimitTracker.RESOURCE_CORE);
+
+        assertThat(registry.find("github.rate_limit.remaining").gauges())
+                .extracting(gauge -> gauge.getId().getTag("token"))
+                .containsExactlyInAnyOrder(TokenFingerprint.of("pooled"), "caller");
+        assertThat(gauge("github.rate_limit.remaining", "caller").value()).isEqualTo(3981);
+        assertThat(gauge("github.rate_limit.in_flight", "caller").value()).isEqualTo(2);
+        assertThat(gauge("github.rate_limit.remaining", TokenFingerprint.of("pooled")).value()).isEqualTo(4000);
+    }
+
+    @Test
+    void evictsIdleCallerBudgetsOnceTheirWindowHasReset() {
+        config.getTokenPool().setTokens(List.of("pooled"));
+        RateLimitTracker tracker = new RateLimitTracker(config, registry);
+        String idle = TokenFingerprint.of("caller-idle");
+        String busy = TokenFingerprint.of("caller-busy");
+
+        tracker.record(TokenFingerprint.of("pooled"), RateLimitTracker.RESOURCE_CORE, headers(5000, 4000), HttpStatus.OK);
+        tracker.record(idle, RateLimitTracker.RESOURCE_CORE, headers(5000, 4000), HttpStatus.OK);
+        tracker.record(busy, RateLimitTracker.RESOURCE_CORE, headers(5000, 3000), HttpStatus.OK);
+        tracker.reserve(busy, RateLimitTracker.RESOURCE_CORE);
+
+        long afterReset = Instant.now().plus(Duration.ofHours(2)).toEpochMilli();
+        tracker.evictIdleCallerBudgets(afterReset);
+
+        // 진행 중인 요청이 있는 예산과 토큰 풀의 예산은 유지
+        assertThat(tracker.getStatus(idle, RateLimitTracker.RESOURCE_CORE)).isEmpty();
+        assertThat(tracker.getStatus(busy, RateLimitTracker.RESOURCE_CORE)).isPresent();
+        assertThat(tracker.getStatus(TokenFingerprint.of("pooled"), RateLimitTracker.RESOURCE_CORE)).isPresent();
+        assertThat(gauge("github.rate_limit.remaining", "caller").value()).isEqualTo(3000);
+
+        tracker.release(busy, RateLimitTracker.RESOURCE_CORE);
+        tracker.evictIdleCallerBudgets(afterReset + Duration.ofMinutes(1).toMillis());
+
+        assertThat(tracker.getStatus(busy, RateLimitTracker.RESOURCE_CORE)).isEmpty();
+        assertThat(gauge("github.rate_limit.in_flight", "caller").value()).isZero();
+        // 정리된 토큰의 다음 요청은 새 예산으로 시작
+        assertThat(tracker.reserve(idle, RateLimitTracker.RESOURCE_CORE)).isZero();
+        assertThat(tracker.available(idle, RateLimitTracker.RESOURCE_CORE)).isEqualTo(5000 - 1 - 50);
+    }
+
+    private Gauge gauge(String name, String token) {
+        return registry.get(name).tags("token", token, "resource", RateLimitTracker.RESOURCE_CORE).gauge();
+    }
+
+    static HttpHeaders headers(long limit, long remaining) {
+        return headers(limit, remaining, Instant.now().plusSeconds(3600).getEpochSecond());
+    }
+
+    static HttpHeaders headers(long limit, long remaining, long reset) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("X-RateLimit-Limit", String.valueOf(limit));
+        headers.set("X-RateLimit-Remaining", String.valueOf(remaining));
+        headers.set("X-RateLimit-Used", String.valueOf(limit - remaining));
+        headers.set("X-RateLimit-Reset", String.valueOf(reset));
+        return headers;
+    }
+}
@@ -0,0 +1,156 @@
+package com.study.githubapi.github.client;
+
+import com.study.githubapi.github.config.GitHubApiConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestHedgerTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void sendsOneRequestUntilEnoughLatencySamples() {
+        RequestHedger hedger = hedger();
+        AtomicInteger calls = new AtomicInteger();
+
+        StepVerifier.withVirtualTime(() -> hedger.execute(GitHubClientMetrics.ENDPOINT_STATS, () -> true,
+                        () -> Mono.fromCallable(calls::incrementAndGet).delayElement(Duration.ofSeconds(5))))
+                .thenAwait(Duration.ofSeconds(5))
+                .expectNext(1)
+                .verifyComplete();
+
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    void takesHedgeWhenPrimaryIsSlowerThanLearnedPercentile() {
+        RequestHedger hedger = hedger();
+        learn(hedger, 10);
+        AtomicInteger calls = new AtomicInteger();
+
+        // 첫 요청은 10초, hedge 요청은 100ms 만에 응답
+        StepVerifier.withVirtualTime(() -> hedger.execute(GitHubClientMetrics.ENDPOINT_STATS, () -> true,
+                        () -> Mono.defer(() -> {
+                            int call = calls.incrementAndGet();
+                            return Mono.just(call).delayElement(call == 1 ? Duration.ofSeconds(10) : Duration.ofMillis(100));
+                        })))
+                .expectSubscription()
+                .thenAwait(Duration.ofMillis(600)) // minDelay 500ms + 100ms
+                .expectNext(2)
+                .verifyComplete();
+
+        assertThat(registry.get("github.client.hedges").tag("outcome", "won").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void keepsPrimaryWhenHedgeFailsFirst() {
+        RequestHedger hedger = hedger();
+        learn(hedger, 10);
+        AtomicInteger calls = new AtomicInteger();
+
+        // 첫 요청은 3초 뒤 성공, hedge 요청은 100ms 만에 실패
+        StepVerifier.withVirtualTime(() -> hedger.execute(GitHubClientMetrics.ENDPOINT_STATS, () -> true,
+                        () -> Mono.defer(() -> {
+                            int call = calls.incrementAndGet();
+                            return call == 1
+                                    ? Mono.just(call).delayElement(Duration.ofSeconds(3))
+                                    : Mono.delay(Duration.ofMillis(100)).then(Mono.<Integer>error(new IllegalStateException("hedge failed")));
+                        })))
+                .expectSubscription()
+                .thenAwait(Duration.ofSeconds(3))
+                .expectNext(1)
+                .verifyComplete();
+
+        assertThat(calls).hasValue(2);
+        assertThat(registry.get("github.client.hedges").tag("outcome", "failed").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void skipsHedgeWhenBudgetIsLow() {
+        RequestHedger hedger = hedger();
+        learn(hedger, 10);
+        AtomicInteger calls = new AtomicInteger();
+
+        StepVerifier.withVirtualTime(() -> hedger.execute(GitHubClientMetrics.ENDPOINT_STATS, () -> false,
+                        () -> Mono.fromCallable(calls::incrementAndGet).delayElement(Duration.ofSeconds(3))))
+                .thenAwait(Duration.ofSeconds(3))
+                .expectNext(1)
+                .verifyComplete();
+
+        assertThat(calls).hasValue(1);
+        assertThat(registry.get("github.client.hedges").tag("outcome", "skipped").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void ignoresResultsNotAcceptedAsSamples() {
+        RequestHedger hedger = hedger();
+        AtomicInteger calls = new AtomicInteger();
+
+        // 202 생성 중 응답처럼 즉시 돌아오는 결과로는 hedge 기준 지연을 학습하지 않는다
+        for (int i = 0; i < 10; i++) {
+            hedger.execute(GitHubClientMetrics.ENDPOINT_STATS, () -> true, value -> value > 0, () -> Mono.just(0)).block();
+        }
+        StepVerifier.withVirtualTime(() -> hedger.execute(GitHubClientMetrics.ENDPOINT_STATS, () -> true, value -> value > 0,
+                        () -> Mono.fromCallable(calls::incrementAndGet).delayElement(Duration.ofSeconds(3))))
+                .thenAwait(Duration.ofSeconds(3))
+                .expectNext(1)
+                .verifyComplete();
+
+        assertThat(calls).hasValue(1);
+        assertThat(statistics(hedger))
+                .containsEntry("latencySamples", 1)
+                .containsEntry("hedges", 0L);
+    }
+
+    @Test
+    void recordsCancelledPrimaryAsLatencySample() {
+        RequestHedger hedger = hedger();
+        learn(hedger, 10);
+        AtomicInteger calls = new AtomicInteger();
+
+        StepVerifier.withVirtualTime(() -> hedger.execute(GitHubClientMetrics.ENDPOINT_STATS, () -> true,
+                        () -> Mono.defer(() -> {
+                            int call = calls.incrementAndGet();
+                            return Mono.just(call).delayElement(call == 1 ? Duration.ofSeconds(10) : Duration.ofMillis(100));
+                        })))
+                .expectSubscription()
+                .thenAwait(Duration.ofMillis(600))
+                .expectNext(2)
+                .verifyComplete();
+
+        // hedge 응답과, 취소된 원래 요청의 경과 시간(하한) 모두 표본으로 기록
+        assertThat(statistics(hedger)).containsEntry("latencySamples", 12);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> statistics(RequestHedger hedger) {
+        return (Map<String, Object>) hedger.getStatistics().get(GitHubClientMetrics.ENDPOINT_STATS);
+    }
+
+    /**
+     * 즉시 응답하는 요청으로 지연 분포를 채움
+     */
+    private static void learn(RequestHedger hedger, int samples) {
+        for (int i = 0; i < samples; i++) {
+            hedger.execute(GitHubClientMetrics.ENDPOINT_STATS, () -> true, () -> Mono.just(0)).block();
+        }
+    }
+
+    private RequestHedger hedger() {
+        GitHubApiConfig config = new GitHubApiConfig();
+        config.getHedging().setEnabled(true);
+        config.getHedging().setWindowSize(20);
+        config.getHedging().setMinSamples(10);
+        config.getHedging().setMinDelay(Duration.ofMillis(500));
+        config.getHedging().setMaxRatio(1.0);
+        return new RequestHedger(config, new GitHubClientMetrics(registry));
+    }
+}
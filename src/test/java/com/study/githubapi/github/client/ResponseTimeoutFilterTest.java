@@ -0,0 +1,43 @@
+package com.study.githubapi.github.client;
+
+import com.study.githubapi.github.config.GitHubApiConfig;
+import io.netty.handler.timeout.ReadTimeoutException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.net.URI;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResponseTimeoutFilterTest {
+
+    @Test
+    void appliesListAndStatsTimeoutsSeparately() {
+        GitHubApiConfig config = new GitHubApiConfig();
+        config.getConnection().setListResponseTimeout(Duration.ofSeconds(10));
+        config.getConnection().setStatsResponseTimeout(Duration.ofSeconds(90));
+        ResponseTimeoutFilter filter = new ResponseTimeoutFilter(config);
+
+        assertThat(filter.timeoutFor(GitHubClientMetrics.ENDPOINT_REPOS)).isEqualTo(Duration.ofSeconds(10));
+        assertThat(filter.timeoutFor(GitHubClientMetrics.ENDPOINT_GRAPHQL)).isEqualTo(Duration.ofSeconds(10));
+        assertThat(filter.timeoutFor(GitHubClientMetrics.ENDPOINT_STATS)).isEqualTo(Duration.ofSeconds(90));
+        assertThat(filter.timeoutFor(GitHubClientMetrics.ENDPOINT_RATE_LIMIT)).isNull(); // HttpClient 기본값
+    }
+
+    @Test
+    void detectsTimeoutsWrappedByWebClient() {
+        WebClientRequestException timeout = new WebClientRequestException(ReadTimeoutException.INSTANCE,
+                HttpMethod.GET, URI.create("https://api.github.com/repos/acme/api/stats/contributors"), new HttpHeaders());
+        WebClientResponseException serverError = WebClientResponseException.create(
+                HttpStatus.BAD_GATEWAY.value(), "Bad Gateway", new HttpHeaders(), new byte[0], null);
+
+        assertThat(ResponseTimeoutFilter.isTimeout(timeout)).isTrue();
+        assertThat(ResponseTimeoutFilter.isTimeout(serverError)).isFalse();
+        assertThat(GitHubClientMetrics.retryReason(timeout)).isEqualTo("timeout");
+    }
+}
@@ -0,0 +1,110 @@
+package com.study.githubapi.github.client;
+
+import com.study.githubapi.github.config.GitHubApiConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenPoolFilterTest {
+
+    private static final ClientRequest REQUEST = ClientRequest
+            .create(HttpMethod.GET, URI.create("https://api.github.com/orgs/acme/repos")).build();
+
+    private final TokenPool pool = pool("token-a", "token-b");
+    private final TokenPoolFilter filter = new TokenPoolFilter(pool);
+    private final List<String> sentTokens = new ArrayList<>();
+
+    @Test
+    void failsOverOnceAndRevokesTokenRejectedWith401() {
+        ExchangeFunction next = responding(ClientResponse.create(HttpStatus.UNAUTHORIZED).build(),
+                ClientResponse.create(HttpStatus.OK).build());
+
+        StepVerifier.create(filter.filter(REQUEST, next))
+                .assertNext(response -> assertThat(response.statusCode()).isEqualTo(HttpStatus.OK))
+                .verifyComplete();
+
+        assertThat(sentTokens).hasSize(2).doesNotHaveDuplicates();
+        assertThat(statistics(sentTokens.get(0))).containsEntry("revoked", true).containsEntry("failovers", 1L);
+        assertThat(statistics(sentTokens.get(1))).containsEntry("revoked", false).containsEntry("requests", 1L);
+    }
+
+    @Test
+    void failsOverOnRateLimitWithoutRevokingToken() {
+        ExchangeFunction next = responding(rateLimited(), ClientResponse.create(HttpStatus.OK).build());
+
+        StepVerifier.create(filter.filter(REQUEST, next))
+                .assertNext(response -> assertThat(response.statusCode()).isEqualTo(HttpStatus.OK))
+                .verifyComplete();
+
+        assertThat(sentTokens).hasSize(2).doesNotHaveDuplicates();
+        assertThat(statistics(sentTokens.get(0))).containsEntry("revoked", false).containsEntry("failovers", 1L);
+    }
+
+    @Test
+    void returnsLastResponseWhenEveryTokenIsExhausted() {
+        ExchangeFunction next = responding(rateLimited(), rateLimited(), ClientResponse.create(HttpStatus.OK).build());
+
+        StepVerifier.create(filter.filter(REQUEST, next))
+                .assertNext(response -> assertThat(response.statusCode()).isEqualTo(HttpStatus.FORBIDDEN))
+                .verifyComplete();
+
+        assertThat(sentTokens).hasSize(2).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void leavesExplicitAuthorizationAlone() {
+        ClientRequest request = ClientRequest.from(REQUEST).headers(headers -> headers.setBearerAuth("caller")).build();
+
+        StepVerifier.create(filter.filter(request, responding(ClientResponse.create(HttpStatus.UNAUTHORIZED).build())))
+                .assertNext(response -> assertThat(response.statusCode()).isEqualTo(HttpStatus.UNAUTHORIZED))
+                .verifyComplete();
+
+        assertThat(sentTokens).containsExactly("caller");
+    }
+
+    /**
+     * 요청마다 준비된 응답을 차례로 돌려주고, 보낸 토큰을 기록
+     */
+    private ExchangeFunction responding(ClientResponse... responses) {
+        Iterator<ClientResponse> remaining = List.of(responses).iterator();
+        return request -> {
+            String authorization = request.headers().getFirst(HttpHeaders.AUTHORIZATION);
+            sentTokens.add(authorization == null ? null : authorization.substring("Bearer ".length()));
+            return Mono.just(remaining.next());
+        };
+    }
+
+    private Map<String, Object> statistics(String token) {
+        return pool.getStatistics().stream()
+                .filter(statistics -> TokenFingerprint.of(token).equals(statistics.get("token")))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static ClientResponse rateLimited() {
+        return ClientResponse.create(HttpStatus.FORBIDDEN)
+                .header("X-RateLimit-Remaining", "0")
+                .build();
+    }
+
+    private static TokenPool pool(String... tokens) {
+        GitHubApiConfig config = new GitHubApiConfig();
+        config.getTokenPool().setTokens(List.of(tokens));
+        return new TokenPool(config, new RateLimitTracker(config, new SimpleMeterRegistry()));
+    }
+}
@@ -0,0 +1,70 @@
+package com.study.githubapi.github.client;
+
+import com.study.githubapi.github.config.GitHubApiConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenPoolTest {
+
+    @Test
+    void spreadsRequestsAcrossTokensWithEqualBudget() {
+        TokenPool pool = pool(new RateLimitTracker(new GitHubApiConfig(), new SimpleMeterRegistry()), "a", "b", "c");
+
+        Map<String, Integer> selections = new HashMap<>();
+        for (int i = 0; i < 6; i++) {
+            pool.select(RateLimitTracker.RESOURCE_CORE, Set.of())
+                    .ifPresent(token -> selections.merge(token.getToken(), 1, Integer::sum));
+        }
+
+        assertThat(selections).containsExactlyInAnyOrderEntriesOf(Map.of("a", 2, "b", 2, "c", 2));
+    }
+
+    @Test
+    void prefersTokenWithMoreRemainingBudget() {
+        RateLimitTracker tracker = new RateLimitTracker(new GitHubApiConfig(), new SimpleMeterRegistry());
+        tracker.record(TokenFingerprint.of("a"), RateLimitTracker.RESOURCE_CORE, headers(5000, 10), HttpStatus.OK);
+        tracker.record(TokenFingerprint.of("b"), RateLimitTracker.RESOURCE_CORE, headers(5000, 4000), HttpStatus.OK);
+        TokenPool pool = pool(tracker, "a", "b");
+
+        for (int i = 0; i < 4; i++) {
+            assertThat(pool.select(RateLimitTracker.RESOURCE_CORE, Set.of()))
+                    .hasValueSatisfying(token -> assertThat(token.getToken()).isEqualTo("b"));
+        }
+    }
+
+    @Test
+    void skipsRevokedAndExcludedTokens() {
+        TokenPool pool = pool(new RateLimitTracker(new GitHubApiConfig(), new SimpleMeterRegistry()), "a", "b");
+        TokenPool.PooledToken a = pool.select(RateLimitTracker.RESOURCE_CORE, Set.of(TokenFingerprint.of("b"))).orElseThrow();
+        pool.markRevoked(a);
+
+        assertThat(pool.select(RateLimitTracker.RESOURCE_CORE, Set.of()))
+                .hasValueSatisfying(token -> assertThat(token.getToken()).isEqualTo("b"));
+        assertThat(pool.select(RateLimitTracker.RESOURCE_CORE, Set.of(TokenFingerprint.of("b")))).isEmpty();
+    }
+
+    private static TokenPool pool(RateLimitTracker tracker, String... tokens) {
+        GitHubApiConfig config = new GitHubApiConfig();
+        config.getTokenPool().setTokens(List.of(tokens));
+        return new TokenPool(config, tracker);
+    }
+
+    private static HttpHeaders headers(long limit, long remaining) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("X-RateLimit-Limit", String.valueOf(limit));
+        headers.set("X-RateLimit-Remaining", String.valueOf(remaining));
+        headers.set("X-RateLimit-Used", String.valueOf(limit - remaining));
+        headers.set("X-RateLimit-Reset", String.valueOf(Instant.now().plusSeconds(3600).getEpochSecond()));
+        return headers;
+    }
+}
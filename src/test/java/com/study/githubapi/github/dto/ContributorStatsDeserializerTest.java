@@ -0,0 +1,46 @@
+package com.study.githubapi.github.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ContributorStatsDeserializerTest {
+
+    private static final String JSON = """
+            {
+              "total": 3,
+              "author": {"id": 1, "login": "octocat", "avatar_url": "https://a/1", "html_url": "https://h/1", "type": "User"},
+              "weeks": [
+                {"w": 0, "a": 0, "d": 0, "c": 0},
+                {"w": 604800, "a": 12, "d": 3, "c": 2},
+                {"w": 1209600, "a": null, "d": 4, "c": 1}
+              ],
+              "unknown": {"nested": [1, 2]}
+            }
+            """;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void readsWeeksIntoSparseColumns() throws Exception {
+        ContributorStats stats = objectMapper.readValue(JSON, ContributorStats.class);
+
+        assertThat(stats.getTotal()).isEqualTo(3);
+        assertThat(stats.getAuthor().getLogin()).isEqualTo("octocat");
+        assertThat(stats.getAuthor().getAvatarUrl()).isEqualTo("https://a/1");
+        assertThat(stats.getWeeks().size()).isEqualTo(2);
+        assertThat(stats.getWeeks().query(0, 1209600).additions()).isEqualTo(12);
+        assertThat(stats.getWeeks().query(0, 1209600).deletions()).isEqualTo(7);
+    }
+
+    @Test
+    void roundTripsThroughSerializer() throws Exception {
+        ContributorStats stats = objectMapper.readValue(JSON, ContributorStats.class);
+
+        ContributorStats copy = objectMapper.readValue(objectMapper.writeValueAsString(stats), ContributorStats.class);
+
+        assertThat(copy.getAuthor()).isEqualTo(stats.getAuthor());
+        assertThat(copy.getWeeks().query(0, Long.MAX_VALUE)).isEqualTo(stats.getWeeks().query(0, Long.MAX_VALUE));
+    }
+}
@@ -0,0 +1,126 @@
+package com.study.githubapi.github.service;
+
+import com.study.githubapi.github.cache.ContributorStatsCache;
+import com.study.githubapi.github.client.GitHubClientMetrics;
+import com.study.githubapi.github.config.GitHubApiConfig;
+import com.study.githubapi.github.dto.ContributorStats;
+import com.study.githubapi.github.dto.GitHubRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import reactor.test.scheduler.VirtualTimeScheduler;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ContributorStatsCollectorTest {
+
+    private final GitHubApiService gitHubApiService = mock(GitHubApiService.class);
+    private final ContributorStatsCache contributorStatsCache = mock(ContributorStatsCache.class);
+    private final GitHubApiConfig config = new GitHubApiConfig();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ContributorStatsCollector collector = new ContributorStatsCollector(
+            gitHubApiService, contributorStatsCache, config, new GitHubClientMetrics(registry));
+
+    @BeforeEach
+    void setUp() {
+        config.getStatsWarmup().setPollInterval(Duration.ofSeconds(1));
+        config.getStatsWarmup().setMaxPollInterval(Duration.ofSeconds(4));
+        when(contributorStatsCache.get(any())).thenReturn(Mono.empty());
+    }
+
+    @Test
+    void pollsUntilStatsAreReady() {
+        List<ContributorStats> stats = List.of(stats("alice"));
+        when(gitHubApiService.fetchContributorStats("acme", "api", null)).thenReturn(
+                Mono.just(StatsFetchResult.pending(Duration.ofSeconds(5))),
+                Mono.just(StatsFetchResult.ready(stats)));
+
+        StepVerifier.withVirtualTime(() -> collector.collect(Flux.just(repository("api")), null))
+                .expectSubscription()
+                .expectNoEvent(Duration.ofSeconds(4))
+                .thenAwait(Duration.ofSeconds(1))
+                .assertNext(collected -> assertThat(collected.stats()).isEqualTo(stats))
+                .verifyComplete();
+
+        verify(gitHubApiService, times(2)).fetchContributorStats("acme", "api", null);
+        verify(contributorStatsCache).put(any(), any());
+    }
+
+    @Test
+    void givesUpOnRepositoryThatNeverLeavesPending() {
+        config.getStatsWarmup().setMaxAttempts(3);
+        when(gitHubApiService.fetchContributorStats("acme", "api", null))
+                .thenReturn(Mono.just(StatsFetchResult.pending(null)));
+
+        // backoff: 1초, 2초 후 재요청, 3번째 시도에서 포기
+        StepVerifier.withVirtualTime(() -> collector.collect(Flux.just(repository("api")), null))
+                .expectSubscription()
+                .expectNoEvent(Duration.ofSeconds(2))
+                .thenAwait(Duration.ofSeconds(1))
+                .assertNext(collected -> assertThat(collected.stats()).isEmpty())
+                .verifyComplete();
+
+        verify(gitHubApiService, times(3)).fetchContributorStats("acme", "api", null);
+        assertThat(registry.counter("github.client.dropped", "endpoint", GitHubClientMetrics.ENDPOINT_STATS).count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void cancelsPendingPollsWhenCollectionIsCancelled() {
+        AtomicBoolean pollCancelled = new AtomicBoolean();
+        when(gitHubApiService.fetchContributorStats("acme", "api", null)).thenReturn(
+                Mono.just(StatsFetchResult.pending(Duration.ofSeconds(2))),
+                Mono.<StatsFetchResult>never().doOnCancel(() -> pollCancelled.set(true)));
+        when(gitHubApiService.fetchContributorStats("acme", "web", null))
+                .thenReturn(Mono.just(StatsFetchResult.pending(Duration.ofSeconds(10))));
+
+        VirtualTimeScheduler scheduler = VirtualTimeScheduler.getOrSet();
+        try {
+            Disposable subscription = collector.collect(Flux.just(repository("api"), repository("web")), null)
+                    .subscribe();
+            scheduler.advanceTimeBy(Duration.ofSeconds(3));
+            subscription.dispose();
+            scheduler.advanceTimeBy(Duration.ofMinutes(1));
+        } finally {
+            VirtualTimeScheduler.reset();
+        }
+
+        // 진행 중이던 재요청은 취소되고, 대기 중이던 재요청은 다시 보내지 않는다
+        assertThat(pollCancelled).isTrue();
+        verify(gitHubApiService, times(2)).fetchContributorStats("acme", "api", null);
+        verify(gitHubApiService, times(1)).fetchContributorStats("acme", "web", null);
+    }
+
+    private static GitHubRepository repository(String name) {
+        GitHubRepository.Owner owner = new GitHubRepository.Owner();
+        owner.setLogin("acme");
+
+        GitHubRepository repository = new GitHubRepository();
+        repository.setName(name);
+        repository.setFullName("acme/" + name);
+        repository.setOwner(owner);
+        return repository;
+    }
+
+    private static ContributorStats stats(String login) {
+        ContributorStats.Author author = new ContributorStats.Author();
+        author.setLogin(login);
+        ContributorStats stats = new ContributorStats();
+        stats.setAuthor(author);
+        stats.setTotal(1L);
+        return stats;
+    }
+}
@@ -0,0 +1,140 @@
+package com.study.githubapi.github.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.githubapi.github.client.GitHubClientMetrics;
+import com.study.githubapi.github.config.GitHubApiConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GraphQlRepositoryClientTest {
+
+    private static final String FIRST_PAGE = """
+            {"data": {"repositoryOwner": {"repositories": {
+              "pageInfo": {"hasNextPage": true, "endCursor": "Y3Vyc29yOjE="},
+              "nodes": [
+                {"databaseId": 1, "name": "api", "nameWithOwner": "acme/api", "url": "https://github.com/acme/api",
+                 "fork": false, "archived": false, "disabled": false, "pushedAt": "2024-05-01T10:00:00Z",
+                 "defaultBranchRef": {"name": "main"}, "owner": {"login": "acme", "type": "Organization"}}
+              ]}}}}
+            """;
+
+    private static final String SECOND_PAGE = """
+            {"data": {"repositoryOwner": {"repositories": {
+              "pageInfo": {"hasNextPage": false, "endCursor": "Y3Vyc29yOjI="},
+              "nodes": [
+                {"databaseId": 2, "name": "empty", "nameWithOwner": "acme/empty", "url": "https://github.com/acme/empty",
+                 "fork": false, "archived": false, "disabled": false, "pushedAt": null,
+                 "defaultBranchRef": null, "owner": {"login": "acme", "type": "Organization"}}
+              ]}}}}
+            """;
+
+    private static final String NOT_FOUND = """
+            {"data": {"repositoryOwner": null},
+             "errors": [{"type": "NOT_FOUND", "message": "Could not resolve to a RepositoryOwner with the login of 'nobody'."}]}
+            """;
+
+    private static final String FAILED_PAGE = """
+            {"data": null, "errors": [{"message": "Something went wrong while executing your query."}]}
+            """;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<JsonNode> requests = new CopyOnWriteArrayList<>();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private DisposableServer server;
+    private GraphQlRepositoryClient client;
+
+    @BeforeEach
+    void startStubServer() {
+        server = HttpServer.create()
+                .port(0)
+                .route(routes -> routes.post("/graphql", (request, response) -> request.receive().aggregate().asString()
+                        .flatMap(body -> {
+                            try {
+                                JsonNode json = objectMapper.readTree(body);
+                                requests.add(json);
+                                JsonNode variables = json.get("variables");
+                                String login = variables.get("login").asText();
+                                String page = "nobody".equals(login) ? NOT_FOUND
+                                        : !variables.hasNonNull("after") ? FIRST_PAGE
+                                        : "partial".equals(login) ? FAILED_PAGE : SECOND_PAGE;
+                                return Mono.just(page);
+                            } catch (Exception e) {
+                                return Mono.error(e);
+                            }
+                        })
+                        .flatMap(page -> response.header("Content-Type", "application/json").sendString(Mono.just(page)).then())))
+                .bindNow();
+
+        GitHubApiConfig config = new GitHubApiConfig();
+        config.setMaxRetry(0);
+        config.getRepositoryListing().setGraphqlPageSize(1);
+        WebClient webClient = WebClient.builder().baseUrl("http://localhost:" + server.port()).build();
+        client = new GraphQlRepositoryClient(webClient, config, new GitHubClientMetrics(registry));
+    }
+
+    @AfterEach
+    void stopStubServer() {
+        server.disposeNow();
+    }
+
+    @Test
+    void followsCursorUntilLastPage() {
+        StepVerifier.create(client.getRepositories("acme", "token", false, true))
+                .assertNext(repository -> {
+                    assertThat(repository.getId()).isEqualTo(1L);
+                    assertThat(repository.getFullName()).isEqualTo("acme/api");
+                    assertThat(repository.getOwner().getLogin()).isEqualTo("acme");
+                    assertThat(repository.getDefaultBranch()).isEqualTo("main");
+                    assertThat(repository.getCloneUrl()).isEqualTo("https://github.com/acme/api.git");
+                    assertThat(repository.getPushedAt()).isEqualTo(LocalDateTime.of(2024, 5, 1, 10, 0));
+                })
+                .assertNext(repository -> {
+                    assertThat(repository.getName()).isEqualTo("empty");
+                    assertThat(repository.getDefaultBranch()).isNull();
+                    assertThat(repository.getPushedAt()).isNull();
+                })
+                .verifyComplete();
+
+        assertThat(requests).hasSize(2);
+        JsonNode first = requests.get(0).get("variables");
+        assertThat(first.get("first").asInt()).isEqualTo(1);
+        assertThat(first.get("isFork").asBoolean(true)).isFalse();
+        assertThat(first.hasNonNull("isArchived")).isFalse();
+        assertThat(requests.get(1).get("variables").get("after").asText()).isEqualTo("Y3Vyc29yOjE=");
+    }
+
+    @Test
+    void failsForUnknownOwnerLikeRestListing() {
+        StepVerifier.create(client.getRepositories("nobody", "token", true, true))
+                .verifyErrorSatisfies(error -> assertThat(error)
+                        .isInstanceOfSatisfying(WebClientResponseException.class,
+                                e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND)));
+    }
+
+    @Test
+    void countsDroppedPageWhenLaterPageReturnsErrors() {
+        StepVerifier.create(client.getRepositories("partial", "token", true, true))
+                .assertNext(repository -> assertThat(repository.getFullName()).isEqualTo("acme/api"))
+                .verifyComplete();
+
+        assertThat(requests).hasSize(2);
+        assertThat(registry.counter("github.client.dropped", "endpoint", GitHubClientMetrics.ENDPOINT_GRAPHQL).count())
+                .isEqualTo(1);
+    }
+}
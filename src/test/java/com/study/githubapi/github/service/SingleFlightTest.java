@@ -0,0 +1,167 @@
+package com.study.githubapi.github.service;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+import reactor.util.context.Context;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SingleFlightTest {
+
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>("test");
+
+    @Test
+    void concurrentCallersShareOneExecution() {
+        AtomicInteger calls = new AtomicInteger();
+        Sinks.One<String> result = Sinks.one();
+
+        Mono<String> first = singleFlight.execute("key", () -> {
+            calls.incrementAndGet();
+            return result.asMono();
+        });
+        Mono<String> second = singleFlight.execute("key", () -> {
+            calls.incrementAndGet();
+            return Mono.just("other");
+        });
+
+        StepVerifier.create(Mono.zip(first, second))
+                .then(() -> result.tryEmitValue("value"))
+                .assertNext(values -> {
+                    assertThat(values.getT1()).isEqualTo("value");
+                    assertThat(values.getT2()).isEqualTo("value");
+                })
+                .verifyComplete();
+
+        assertThat(calls).hasValue(1);
+        assertThat(singleFlight.getStatistics()).containsEntry("joined", 1L).containsEntry("inFlight", 0);
+    }
+
+    @Test
+    void finishedExecutionIsNotReused() {
+        AtomicInteger calls = new AtomicInteger();
+
+        StepVerifier.create(singleFlight.execute("key", () -> Mono.just(calls.incrementAndGet()).map(String::valueOf)))
+                .expectNext("1")
+                .verifyComplete();
+        StepVerifier.create(singleFlight.execute("key", () -> Mono.just(calls.incrementAndGet()).map(String::valueOf)))
+                .expectNext("2")
+                .verifyComplete();
+    }
+
+    @Test
+    void errorsAreSharedAndCleared() {
+        Sinks.One<String> result = Sinks.one();
+        Mono<String> first = singleFlight.execute("key", result::asMono);
+        Mono<String> second = singleFlight.execute("key", () -> Mono.just("unused"));
+
+        StepVerifier.create(Mono.zipDelayError(first.onErrorReturn("failed"), second.onErrorReturn("failed")))
+                .then(() -> result.tryEmitError(new IllegalStateException("boom")))
+                .assertNext(values -> assertThat(values.getT2()).isEqualTo("failed"))
+                .verifyComplete();
+
+        StepVerifier.create(singleFlight.execute("key", () -> Mono.just("retry")))
+                .expectNext("retry")
+                .verifyComplete();
+    }
+
+    @Test
+    void cancelsExecutionOnlyWhenEveryCallerCancels() {
+        AtomicBoolean cancelled = new AtomicBoolean();
+        Mono<String> execution = Mono.<String>never().doOnCancel(() -> cancelled.set(true));
+
+        Disposable first = singleFlight.execute("key", () -> execution).subscribe();
+        Disposable second = singleFlight.execute("key", () -> Mono.just("unused")).subscribe();
+
+        first.dispose();
+        assertThat(cancelled).isFalse();
+        assertThat(singleFlight.getStatistics()).containsEntry("inFlight", 1);
+
+        second.dispose();
+        assertThat(cancelled).isTrue();
+        assertThat(singleFlight.getStatistics()).containsEntry("inFlight", 0);
+    }
+
+    @Test
+    void callerJoiningAsExecutionFinishesReceivesItsResult() {
+        AtomicInteger calls = new AtomicInteger();
+        Mono<String> first = singleFlight.execute("key", () -> Mono.fromSupplier(() -> "value-" + calls.incrementAndGet()));
+
+        // 실행이 끝나는 시점(키 제거 전)에 합류한 요청은 supplier 를 다시 실행하지 않고 같은 결과를 받는다
+        StepVerifier.create(first.flatMap(value -> singleFlight.execute("key",
+                        () -> Mono.fromSupplier(() -> "value-" + calls.incrementAndGet())).map(joined -> value + "/" + joined)))
+                .expectNext("value-1/value-1")
+                .verifyComplete();
+
+        assertThat(calls).hasValue(1);
+        assertThat(singleFlight.getStatistics()).containsEntry("inFlight", 0);
+    }
+
+    @Test
+    void jobJoiningInFlightAggregationSharesItsProgress() {
+        Sinks.One<String> result = Sinks.one();
+        Mono<String> execution = Mono.deferContextual(context -> {
+            FetchProgress.from(context).ifPresent(progress -> {
+                progress.repositoryDiscovered();
+                progress.requestSent();
+            });
+            return result.asMono();
+        });
+        FetchProgress caller = new FetchProgress();
+        FetchProgress job = new FetchProgress();
+
+        // 대화형 요청이 먼저 시작한 집계에 작업이 합류
+        Disposable interactive = singleFlight.execute("key", () -> execution)
+                .contextWrite(Context.of(FetchProgress.CONTEXT_KEY, caller))
+                .subscribe();
+        Disposable joined = singleFlight.execute("key", () -> Mono.just("unused"))
+                .contextWrite(Context.of(FetchProgress.CONTEXT_KEY, job))
+                .subscribe();
+
+        // 합류 전의 진행 상황도 작업에 반영
+        assertThat(job.getRepositoriesDiscovered()).isEqualTo(1);
+        assertThat(job.getRequestsSent()).isEqualTo(1);
+
+        caller.requestSent();
+        assertThat(job.getRequestsSent()).as("caller's own requests are not counted against the job").isEqualTo(1);
+
+        result.tryEmitValue("value");
+
+        assertThat(caller.getRequestsSent()).isEqualTo(2);
+        assertThat(caller.getRepositoriesDiscovered()).isEqualTo(1);
+        assertThat(job.getRepositoriesDiscovered()).isEqualTo(1);
+        interactive.dispose();
+        joined.dispose();
+    }
+
+    @Test
+    void progressRecordedAfterJoiningReachesEveryCaller() {
+        Sinks.One<String> result = Sinks.one();
+        Mono<String> execution = Mono.deferContextual(context -> result.asMono()
+                .doOnNext(value -> FetchProgress.from(context).ifPresent(progress -> {
+                    progress.repositoryCompleted();
+                    progress.requestSent();
+                })));
+        FetchProgress job = new FetchProgress();
+        FetchProgress caller = new FetchProgress();
+
+        // 작업이 먼저 시작한 집계에 대화형 요청이 합류해도 요청 수는 실행 1건 기준으로 한 번만 집계
+        singleFlight.execute("key", () -> execution)
+                .contextWrite(Context.of(FetchProgress.CONTEXT_KEY, job))
+                .subscribe();
+        singleFlight.execute("key", () -> Mono.just("unused"))
+                .contextWrite(Context.of(FetchProgress.CONTEXT_KEY, caller))
+                .subscribe();
+        result.tryEmitValue("value");
+
+        assertThat(job.getRepositoriesCompleted()).isEqualTo(1);
+        assertThat(job.getRequestsSent()).isEqualTo(1);
+        assertThat(caller.getRepositoriesCompleted()).isEqualTo(1);
+        assertThat(caller.getRequestsSent()).isEqualTo(1);
+    }
+}
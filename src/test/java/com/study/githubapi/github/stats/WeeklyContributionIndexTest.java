@@ -0,0 +1,55 @@
+package com.study.githubapi.github.stats;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WeeklyContributionIndexTest {
+
+    private static final long WEEK = 7 * 24 * 3600;
+
+    @Test
+    void sumsWeeksInsideInclusiveRange() {
+        WeeklyContributionIndex index = WeeklyContributionIndex.builder()
+                .add(0, 10, 1, 1)
+                .add(WEEK, 20, 2, 2)
+                .add(2 * WEEK, 30, 3, 3)
+                .add(3 * WEEK, 40, 4, 4)
+                .build();
+
+        WeeklyContributionIndex.RangeTotals totals = index.query(WEEK, 2 * WEEK);
+
+        assertThat(totals.additions()).isEqualTo(50);
+        assertThat(totals.deletions()).isEqualTo(5);
+        assertThat(totals.commits()).isEqualTo(5);
+        assertThat(totals.lastActiveWeek()).isEqualTo(2 * WEEK);
+    }
+
+    @Test
+    void dropsEmptyWeeksAndReportsLastActiveWeek() {
+        WeeklyContributionIndex index = WeeklyContributionIndex.builder()
+                .add(0, 0, 0, 0)
+                .add(WEEK, 5, 0, 1)
+                .add(2 * WEEK, 0, 0, 0)
+                .add(3 * WEEK, 0, 0, 0)
+                .build();
+
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.query(0, 3 * WEEK).lastActiveWeek()).isEqualTo(WEEK);
+        assertThat(index.query(2 * WEEK, 3 * WEEK).lastActiveWeek()).isNull();
+    }
+
+    @Test
+    void handlesUnsortedInputAndEmptyRanges() {
+        WeeklyContributionIndex index = WeeklyContributionIndex.builder()
+                .add(2 * WEEK, 3, 0, 1)
+                .add(0, 1, 0, 1)
+                .build();
+
+        assertThat(index.weekStart(0)).isZero();
+        assertThat(index.additions(1)).isEqualTo(3);
+        assertThat(index.query(0, 2 * WEEK).additions()).isEqualTo(4);
+        assertThat(index.query(3 * WEEK, 4 * WEEK)).isEqualTo(WeeklyContributionIndex.RangeTotals.EMPTY);
+        assertThat(WeeklyContributionIndex.EMPTY.query(0, WEEK)).isEqualTo(WeeklyContributionIndex.RangeTotals.EMPTY);
+    }
+}